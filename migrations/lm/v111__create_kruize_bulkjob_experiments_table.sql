@@ -0,0 +1 @@
+create table IF NOT EXISTS kruize_bulkjob_experiments (job_id VARCHAR(36) not null, experiment_name varchar(255) not null, status varchar(255), notifications jsonb, experiment jsonb, update_date timestamp(6), primary key (job_id, experiment_name));
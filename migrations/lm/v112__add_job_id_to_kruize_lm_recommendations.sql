@@ -0,0 +1 @@
+alter table if exists kruize_lm_recommendations add column if not exists job_id varchar(36);
@@ -0,0 +1 @@
+update kruize_lm_recommendations set job_id = extended_data->>'job_id' where job_id is null and extended_data->>'job_id' is not null and not exists (select 1 from pg_attribute a join pg_class c on c.oid = a.attrelid where c.relname = 'kruize_lm_recommendations' and a.attname = 'job_id' and col_description(c.oid, a.attnum) is not null);
@@ -0,0 +1 @@
+create index IF NOT EXISTS idx_lm_recommendation_job_id on kruize_lm_recommendations (job_id);
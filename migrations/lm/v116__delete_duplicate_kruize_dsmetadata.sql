@@ -0,0 +1 @@
+delete from kruize_dsmetadata a using kruize_dsmetadata b where a.id > b.id and a.datasource_name = b.datasource_name and a.cluster_name = b.cluster_name and a.namespace = b.namespace and coalesce(a.workload_type, '') = coalesce(b.workload_type, '') and coalesce(a.workload_name, '') = coalesce(b.workload_name, '') and coalesce(a.container_name, '') = coalesce(b.container_name, '') and not exists (select 1 from pg_indexes where indexname = 'uk_dsmetadata_container');
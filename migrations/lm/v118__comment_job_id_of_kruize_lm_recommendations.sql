@@ -0,0 +1 @@
+comment on column kruize_lm_recommendations.job_id is 'bulk job which generated the recommendation, backfilled from extended_data by v113';
@@ -0,0 +1 @@
+create index IF NOT EXISTS idx_experiments_extended_data on kruize_experiments using gin (extended_data jsonb_path_ops);
@@ -30,6 +30,7 @@ import com.autotune.common.datasource.DataSourceInfo;
 import com.autotune.common.exceptions.datasource.DataSourceAlreadyExist;
 import com.autotune.common.exceptions.datasource.DataSourceNotServiceable;
 import com.autotune.common.exceptions.datasource.UnsupportedDataSourceProvider;
+import com.autotune.common.kafka.KruizeKafkaConsumer;
 import com.autotune.database.helper.DBConstants;
 import com.autotune.database.init.KruizeHibernateUtil;
 import com.autotune.experimentManager.core.ExperimentManager;
@@ -217,6 +218,15 @@ public class Autotune {
                 LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.BOOTSTRAP_SERVER_MISSING);
                 throw new IllegalStateException(KruizeConstants.KAFKA_CONSTANTS.BOOTSTRAP_SERVER_MISSING);
             }
+            // consume the bulk jobs of the bulk input topic, if configured
+            if (KruizeDeploymentInfo.is_kafka_enabled) {
+                if (null == KruizeDeploymentInfo.bulk_input_topic || KruizeDeploymentInfo.bulk_input_topic.isEmpty()
+                        || null == KruizeDeploymentInfo.kafka_group_id || KruizeDeploymentInfo.kafka_group_id.isEmpty()) {
+                    LOGGER.info(KruizeConstants.KAFKA_CONSTANTS.BULK_INPUT_CONSUMER_DISABLED);
+                } else {
+                    KruizeKafkaConsumer.start();
+                }
+            }
             String startAutotune = System.getenv("START_AUTOTUNE");
             if (startAutotune == null || startAutotune.equalsIgnoreCase("true")) {
                 server.start();
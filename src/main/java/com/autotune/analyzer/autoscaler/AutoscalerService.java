@@ -22,47 +22,47 @@ import com.autotune.analyzer.autoscaler.accelerator.AcceleratorAutoscalerImpl;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.KruizeConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * Updates the auto and recreate mode experiments with their latest recommendations.
+ * <p>
+ * A scheduler thread looks for the experiments which are due every sleep interval and hands them to a pool of
+ * autoscalerWorkerPoolSize workers. An experiment is due once per its measurement duration, but not more often than the
+ * sleep interval, and is not scheduled again while a worker is still updating it.
+ */
 public class AutoscalerService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AutoscalerService.class);
+    // time in millis after which each experiment is due for its next update
+    private static final Map<String, Long> nextUpdateTimes = new ConcurrentHashMap<>();
+    // experiments scheduled or being updated by a worker
+    private static final Set<String> inProgressExperiments = ConcurrentHashMap.newKeySet();
+    private static ExecutorService workerPool;
 
     public static void initiateAutoscalerService() {
         try {
             ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+            workerPool = Executors.newFixedThreadPool(KruizeDeploymentInfo.autoscaler_worker_pool_size);
 
             LOGGER.info(AnalyzerConstants.AutoscalerConstants.InfoMsgs.STARTING_SERVICE);
             executorService.scheduleAtFixedRate(() -> {
                 try {
-                    AutoscalerImpl autoscaler = new AutoscalerImpl();
-                    Map<String, KruizeObject> experiments = getAutoModeExperiments();
-                    for (Map.Entry<String, KruizeObject> experiment : experiments.entrySet()) {
-                        KruizeObject kruizeObject = autoscaler.generateResourceRecommendationsForExperiment(experiment.getValue().getExperimentName());
-                        // TODO:// add default updater in kruizeObject and check if GPU recommendations are present
-                        if (kruizeObject.getDefaultUpdater() == null) {
-                             kruizeObject.setDefaultUpdater(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA);
-                        }
-
-                        if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA)) {
-                            VpaAutoscalerImpl vpaUpdater = VpaAutoscalerImpl.getInstance();
-                            vpaUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
-                        }
-
-                        if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.ACCELERATOR)) {
-                            AcceleratorAutoscalerImpl acceleratorUpdater = AcceleratorAutoscalerImpl.getInstance();
-                            acceleratorUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
-                        }
-                    }
+                    scheduleDueExperiments(getAutoModeExperiments());
                 } catch (Exception e) {
                     LOGGER.error(e.getMessage());
                 }
@@ -74,6 +74,88 @@ public class AutoscalerService {
         }
     }
 
+    /**
+     * Submits the experiments which are due and not in progress to the worker pool
+     *
+     * @param experiments auto and recreate mode experiments by name
+     */
+    private static void scheduleDueExperiments(Map<String, KruizeObject> experiments) {
+        // forget the experiments which are deleted or not in auto mode anymore
+        nextUpdateTimes.keySet().retainAll(experiments.keySet());
+        long now = System.currentTimeMillis();
+        int scheduled = 0;
+        for (Map.Entry<String, KruizeObject> experiment : experiments.entrySet()) {
+            String experimentName = experiment.getKey();
+            if (now < nextUpdateTimes.getOrDefault(experimentName, 0L)
+                    || !inProgressExperiments.add(experimentName)) {
+                continue;
+            }
+            nextUpdateTimes.put(experimentName, now + getUpdateIntervalInMillis(experiment.getValue()));
+            try {
+                workerPool.submit(() -> {
+                    try {
+                        updateExperiment(experimentName);
+                    } finally {
+                        inProgressExperiments.remove(experimentName);
+                    }
+                });
+                scheduled++;
+            } catch (RejectedExecutionException e) {
+                inProgressExperiments.remove(experimentName);
+                nextUpdateTimes.remove(experimentName);
+                throw e;
+            }
+        }
+        LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.SCHEDULED_AUTO_EXP, scheduled,
+                experiments.size(), inProgressExperiments.size());
+    }
+
+    /**
+     * Generates the latest recommendations of the experiment and applies them with its updater
+     *
+     * @param experimentName name of the experiment
+     */
+    private static void updateExperiment(String experimentName) {
+        try {
+            KruizeObject kruizeObject = new AutoscalerImpl().generateResourceRecommendationsForExperiment(experimentName);
+            if (null == kruizeObject) {
+                // the failure is logged while generating the recommendations
+                return;
+            }
+            // TODO:// add default updater in kruizeObject and check if GPU recommendations are present
+            if (kruizeObject.getDefaultUpdater() == null) {
+                kruizeObject.setDefaultUpdater(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA);
+            }
+
+            if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA)) {
+                VpaAutoscalerImpl vpaUpdater = VpaAutoscalerImpl.getInstance();
+                vpaUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
+            }
+
+            if (kruizeObject.getDefaultUpdater().equalsIgnoreCase(AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.ACCELERATOR)) {
+                AcceleratorAutoscalerImpl acceleratorUpdater = AcceleratorAutoscalerImpl.getInstance();
+                acceleratorUpdater.applyResourceRecommendationsForExperiment(kruizeObject);
+            }
+        } catch (Exception e) {
+            LOGGER.error(AnalyzerErrorConstants.AutoscalerErrors.UPDATE_EXPERIMENT_FAILED, experimentName, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the time between two updates of the experiment, its measurement duration as new recommendations are not
+     * expected more often, and at least the sleep interval
+     */
+    private static long getUpdateIntervalInMillis(KruizeObject kruizeObject) {
+        long sleepInterval = TimeUnit.SECONDS.toMillis(AnalyzerConstants.AutoscalerConstants.DEFAULT_SLEEP_INTERVAL);
+        if (null == kruizeObject || null == kruizeObject.getTrial_settings()
+                || null == kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble()) {
+            return sleepInterval;
+        }
+        long measurementDuration = (long) (kruizeObject.getTrial_settings().getMeasurement_durationMinutes_inDouble()
+                * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
+        return Math.max(sleepInterval, measurementDuration);
+    }
+
     private static Map<String, KruizeObject> getAutoModeExperiments() {
         try {
             LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_AUTO_EXP);
@@ -29,7 +29,7 @@ import java.util.Map;
 
 public class AcceleratorAutoscalerImpl extends AutoscalerImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(AcceleratorAutoscalerImpl.class);
-    private static AcceleratorAutoscalerImpl acceleratorUpdater;
+    private static volatile AcceleratorAutoscalerImpl acceleratorUpdater;
     private KubernetesClient kubernetesClient;
 
     private AcceleratorAutoscalerImpl() {
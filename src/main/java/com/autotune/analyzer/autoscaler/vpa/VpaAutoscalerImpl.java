@@ -43,6 +43,8 @@ import io.fabric8.kubernetes.api.model.autoscaling.v1.CrossVersionObjectReferenc
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ApiextensionsAPIGroupDSL;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.verticalpodautoscaler.client.DefaultVerticalPodAutoscalerClient;
 import io.fabric8.verticalpodautoscaler.client.NamespacedVerticalPodAutoscalerClient;
 import org.slf4j.Logger;
@@ -54,17 +56,29 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Applies the recommendations of the auto and recreate mode experiments to their VPA objects.
+ * <p>
+ * Once the VPA CRD is found, the VPA objects of all the namespaces are watched by a shared informer, so looking up the
+ * VPA object of an experiment reads the informer cache. A lookup which misses the cache, e.g. while the informer
+ * syncs or right after the VPA object is created, gets the object from the API server.
+ */
 public class VpaAutoscalerImpl extends AutoscalerImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(VpaAutoscalerImpl.class);
-    private static VpaAutoscalerImpl vpaAutoscaler;
+    private static volatile VpaAutoscalerImpl vpaAutoscaler;
 
-    private KubernetesClient kubernetesClient;
-    private ApiextensionsAPIGroupDSL apiextensionsClient;
+    private final KubernetesClient kubernetesClient;
+    private final ApiextensionsAPIGroupDSL apiextensionsClient;
+    private final NamespacedVerticalPodAutoscalerClient vpaClient;
+    private volatile SharedIndexInformer<VerticalPodAutoscaler> vpaInformer;
+    // the VPA CRD is not expected to be removed once found
+    private volatile boolean vpaInstalled = false;
 
 
     private VpaAutoscalerImpl() {
         this.kubernetesClient = new DefaultKubernetesClient();
         this.apiextensionsClient = kubernetesClient.apiextensions();
+        this.vpaClient = new DefaultVerticalPodAutoscalerClient(kubernetesClient);
     }
 
     public static VpaAutoscalerImpl getInstance() {
@@ -87,6 +101,9 @@ public class VpaAutoscalerImpl extends AutoscalerImpl {
      */
     @Override
     public boolean isUpdaterInstalled() {
+        if (vpaInstalled) {
+            return true;
+        }
         try {
             LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_IF_UPDATER_INSTALLED,
                     AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA);
@@ -98,6 +115,8 @@ public class VpaAutoscalerImpl extends AutoscalerImpl {
             }
             if (isVpaInstalled) {
                 LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.FOUND_UPDATER_INSTALLED, AnalyzerConstants.AutoscalerConstants.SupportedUpdaters.VPA);
+                vpaInstalled = true;
+                startVpaInformer();
             } else {
                 LOGGER.error(AnalyzerErrorConstants.AutoscalerErrors.UPDATER_NOT_INSTALLED);
             }
@@ -109,65 +128,53 @@ public class VpaAutoscalerImpl extends AutoscalerImpl {
     }
 
     /**
-     * Checks if a Vertical Pod Autoscaler (VPA) object with the specified name is present.
-     *
-     * @param vpaName String containing the name of the VPA object to search for
-     * @return true if the VPA object with the specified name is present, false otherwise
+     * Starts the informer caching the VPA objects of all the namespaces, the informer syncs in the background
      */
-    private boolean checkIfVpaIsPresent(String vpaName) {
+    private synchronized void startVpaInformer() {
+        if (null != vpaInformer) {
+            return;
+        }
         try {
-            if (null == vpaName || vpaName.isEmpty()) {
-                throw new Exception(AnalyzerErrorConstants.AutoscalerErrors.INVALID_VPA_NAME);
-            } else {
-                LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_IF_VPA_PRESENT, vpaName));
-                NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
-                VerticalPodAutoscalerList vpas = client.v1().verticalpodautoscalers().inAnyNamespace().list();
-
-                if (null != vpas && null != vpas.getItems() && !vpas.getItems().isEmpty()) {
-                    // TODO:// later we can also check here is the recommender is Kruize to confirm
-                    for (VerticalPodAutoscaler vpa : vpas.getItems()) {
-                        if (vpaName.equals(vpa.getMetadata().getName())) {
-                            LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
-                            return true;
-                        }
-                    }
-                }
-                LOGGER.error(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_NOT_FOUND, vpaName));
-                return false;
-            }
+            SharedIndexInformer<VerticalPodAutoscaler> informer = vpaClient.v1().verticalpodautoscalers()
+                    .inAnyNamespace()
+                    .runnableInformer(0);
+            informer.start();
+            vpaInformer = informer;
+            LOGGER.debug(AnalyzerConstants.AutoscalerConstants.InfoMsgs.STARTED_VPA_INFORMER);
         } catch (Exception e) {
-            LOGGER.error("Error while checking VPA presence: " + e.getMessage(), e);
-            return false;
+            // the VPA objects are read from the API server instead
+            LOGGER.error(AnalyzerErrorConstants.AutoscalerErrors.VPA_INFORMER_START_FAILED, e.getMessage());
         }
     }
 
-
     /**
-     * Returns the VPA Object if present with the name
+     * Returns the VPA Object if present with the name in the namespace
      *
-     * @param vpaName String containing the name of the VPA object to search for
+     * @param namespace namespace of the VPA object
+     * @param vpaName   String containing the name of the VPA object to search for
      * @return VerticalPodAutoscaler if the VPA object with the specified name is present, null otherwise
      */
-    private VerticalPodAutoscaler getVpaIsPresent(String vpaName) {
+    private VerticalPodAutoscaler getVpa(String namespace, String vpaName) {
         try {
             if (null == vpaName || vpaName.isEmpty()) {
                 throw new Exception(AnalyzerErrorConstants.AutoscalerErrors.INVALID_VPA_NAME);
+            }
+            LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_IF_VPA_PRESENT, vpaName));
+            VerticalPodAutoscaler vpa = null;
+            SharedIndexInformer<VerticalPodAutoscaler> informer = vpaInformer;
+            if (null != informer && informer.hasSynced()) {
+                vpa = informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, vpaName));
+            }
+            if (null == vpa) {
+                vpa = vpaClient.v1().verticalpodautoscalers().inNamespace(namespace).withName(vpaName).get();
+            }
+            if (null != vpa) {
+                // TODO:// later we can also check here is the recommender is Kruize to confirm
+                LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
             } else {
-                LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.CHECKING_IF_VPA_PRESENT, vpaName));
-                NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
-                VerticalPodAutoscalerList vpas = client.v1().verticalpodautoscalers().inAnyNamespace().list();
-
-                if (null != vpas && null != vpas.getItems() && !vpas.getItems().isEmpty()) {
-                    for (VerticalPodAutoscaler vpa : vpas.getItems()) {
-                        if (vpaName.equals(vpa.getMetadata().getName())) {
-                            LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_FOUND, vpaName));
-                            return vpa;
-                        }
-                    }
-                }
                 LOGGER.error(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_WITH_NAME_NOT_FOUND, vpaName));
-                return null;
             }
+            return vpa;
         } catch (Exception e) {
             LOGGER.error("Error while checking VPA presence: " + e.getMessage(), e);
             return null;
@@ -191,44 +198,63 @@ public class VpaAutoscalerImpl extends AutoscalerImpl {
                 LOGGER.error(AnalyzerErrorConstants.AutoscalerErrors.UPDATER_NOT_INSTALLED);
             } else {
                 String expName = kruizeObject.getExperimentName();
-                boolean vpaPresent = checkIfVpaIsPresent(expName);
+                // the VPA object of the experiment in each namespace of its workloads
+                Map<String, VerticalPodAutoscaler> vpaObjects = new HashMap<>();
+                for (K8sObject k8sObject : kruizeObject.getKubernetes_objects()) {
+                    if (!vpaObjects.containsKey(k8sObject.getNamespace())) {
+                        vpaObjects.put(k8sObject.getNamespace(), getVpa(k8sObject.getNamespace(), expName));
+                    }
+                }
 
                 // create VPA Object is not present
-                if (!vpaPresent) {
+                if (vpaObjects.containsValue(null)) {
                     createVpaObject(kruizeObject);
+                    vpaObjects.replaceAll((namespace, vpa) -> null != vpa ? vpa : getVpa(namespace, expName));
                 }
 
+                // container recommendations of all the workloads of a VPA object, patched at once
+                Map<String, List<RecommendedContainerResources>> containerRecommendationsByNamespace = new HashMap<>();
                 for (K8sObject k8sObject: kruizeObject.getKubernetes_objects()) {
                     String namespace = k8sObject.getNamespace();
                     List<RecommendedContainerResources> containerRecommendations = convertRecommendationsToContainerPolicy(k8sObject.getContainerDataMap(), namespace, kruizeObject);
                     if (containerRecommendations.isEmpty()){
                         LOGGER.error(AnalyzerErrorConstants.AutoscalerErrors.RECOMMENDATION_DATA_NOT_PRESENT, expName);
                     } else {
-                        RecommendedPodResources recommendedPodResources = new RecommendedPodResources();
-                        recommendedPodResources.setContainerRecommendations(containerRecommendations);
-                        VerticalPodAutoscalerStatus vpaObjectStatus = new VerticalPodAutoscalerStatusBuilder()
-                                .withRecommendation(recommendedPodResources)
-                                .build();
+                        containerRecommendationsByNamespace.computeIfAbsent(namespace, key -> new ArrayList<>())
+                                .addAll(containerRecommendations);
+                    }
+                }
 
-                        // patching existing VPA Object
-                        if (vpaObjectStatus != null) {
-                            VerticalPodAutoscaler vpaObject = getVpaIsPresent(expName);
-                            vpaObject.setStatus(vpaObjectStatus);
-
-                            NamespacedVerticalPodAutoscalerClient client = new DefaultVerticalPodAutoscalerClient();
-                            client.v1().verticalpodautoscalers()
-                                    .inNamespace(vpaObject
-                                            .getMetadata()
-                                            .getNamespace())
-                                    .withName(vpaObject
-                                            .getMetadata()
-                                            .getName())
-                                    .patchStatus(vpaObject);
-
-                            LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_PATCHED,
-                                    vpaObject.getMetadata().getName()));
-                        }
+                for (Map.Entry<String, List<RecommendedContainerResources>> entry : containerRecommendationsByNamespace.entrySet()) {
+                    VerticalPodAutoscaler vpaObject = vpaObjects.get(entry.getKey());
+                    if (null == vpaObject) {
+                        continue;
                     }
+                    RecommendedPodResources recommendedPodResources = new RecommendedPodResources();
+                    recommendedPodResources.setContainerRecommendations(entry.getValue());
+                    VerticalPodAutoscalerStatus vpaObjectStatus = new VerticalPodAutoscalerStatusBuilder()
+                            .withRecommendation(recommendedPodResources)
+                            .build();
+
+                    // patching existing VPA Object, the cached object is shared and is not modified
+                    String vpaName = vpaObject.getMetadata().getName();
+                    String vpaNamespace = vpaObject.getMetadata().getNamespace();
+                    ObjectMeta vpaMetadata = new ObjectMeta();
+                    vpaMetadata.setName(vpaName);
+                    vpaMetadata.setNamespace(vpaNamespace);
+                    VerticalPodAutoscaler vpaPatch = new VerticalPodAutoscalerBuilder()
+                            .withApiVersion(AnalyzerConstants.AutoscalerConstants.VPA.VPA_API_VERSION)
+                            .withKind(AnalyzerConstants.AutoscalerConstants.VPA.VPA_PLURAL)
+                            .withMetadata(vpaMetadata)
+                            .build();
+                    vpaPatch.setStatus(vpaObjectStatus);
+
+                    vpaClient.v1().verticalpodautoscalers()
+                            .inNamespace(vpaNamespace)
+                            .withName(vpaName)
+                            .patchStatus(vpaPatch);
+
+                    LOGGER.debug(String.format(AnalyzerConstants.AutoscalerConstants.InfoMsgs.VPA_PATCHED, vpaName));
                 }
             }
         } catch (Exception | InvalidTermException | InvalidModelException e) {
@@ -15,7 +15,7 @@
  *******************************************************************************/
 package com.autotune.analyzer.exceptions;
 
-public class BulkNotSupportedException extends Throwable{
+public class BulkNotSupportedException extends Exception {
     public BulkNotSupportedException() {}
     public BulkNotSupportedException(String message) {
         super(message);
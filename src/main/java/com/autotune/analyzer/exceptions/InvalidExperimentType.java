@@ -15,7 +15,7 @@
  *******************************************************************************/
 package com.autotune.analyzer.exceptions;
 
-public class InvalidExperimentType extends Throwable
+public class InvalidExperimentType extends Exception
 {
     public InvalidExperimentType() {
     }
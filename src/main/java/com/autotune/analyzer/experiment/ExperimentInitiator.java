@@ -53,6 +53,13 @@ import static com.autotune.analyzer.utils.AnalyzerErrorConstants.AutotuneObjectE
 public class ExperimentInitiator {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(ExperimentInitiator.class);
+    // validators are thread-safe, building the factory per updateResults request is costly
+    private static final Validator UPDATE_RESULTS_VALIDATOR = Validation.byProvider(HibernateValidator.class)
+            .configure()
+            .messageInterpolator(new ParameterMessageInterpolator())
+            .failFast(true)
+            .buildValidatorFactory()
+            .getValidator();
     List<UpdateResultsAPIObject> successUpdateResultsAPIObjects = new ArrayList<>();
     List<UpdateResultsAPIObject> failedUpdateResultsAPIObjects = new ArrayList<>();
     private ValidationOutputData validationOutputData;
@@ -127,12 +134,6 @@ public class ExperimentInitiator {
 
     public void validateAndAddExperimentResults(List<UpdateResultsAPIObject> updateResultsAPIObjects) throws Exception {
         List<UpdateResultsAPIObject> failedDBObjects;
-        Validator validator = Validation.byProvider(HibernateValidator.class)
-                .configure()
-                .messageInterpolator(new ParameterMessageInterpolator())
-                .failFast(true)
-                .buildValidatorFactory()
-                .getValidator();
         Map<String, KruizeObject> mainKruizeExperimentMAP = new ConcurrentHashMap<>();
         List<String> errorReasons = new ArrayList<>();
         for (UpdateResultsAPIObject object : updateResultsAPIObjects) {
@@ -163,7 +164,7 @@ public class ExperimentInitiator {
                 object.setKruizeObject(mainKruizeExperimentMAP.get(object.getExperimentName()));
                 Set<ConstraintViolation<UpdateResultsAPIObject>> violations = new HashSet<>();
                 try {
-                    violations = validator.validate(object, UpdateResultsAPIObject.FullValidationSequence.class);
+                    violations = UPDATE_RESULTS_VALIDATOR.validate(object, UpdateResultsAPIObject.FullValidationSequence.class);
                     if (violations.isEmpty()) {
                         successUpdateResultsAPIObjects.add(object);
                     } else {
@@ -63,8 +63,9 @@ public class ExperimentInterfaceImpl implements ExperimentInterface {
     @Override
     public boolean addResultsToLocalStorage(Map<String, KruizeObject> mainKruizeExperimentMap, List<ExperimentResultData> experimentResultDataList) {
         try {
+            // the results may be shared with other requests through the results window of the experiment, see
+            // ExperimentResultsWindow, so they are only read here and the experiment gets new containers and maps
             experimentResultDataList.forEach(resultData -> {
-                resultData.setStatus(AnalyzerConstants.ExperimentStatus.QUEUED);
                 KruizeObject ko = mainKruizeExperimentMap.get(resultData.getExperiment_name());
 
                 // Build a lookup map for existing K8sObjects
@@ -84,10 +85,11 @@ public class ExperimentInterfaceImpl implements ExperimentInterface {
 
                     if (resultK8sObject.getContainerDataMap() != null && !resultK8sObject.getContainerDataMap().isEmpty()) {
                         resultK8sObject.getContainerDataMap().forEach((cName, resultContainerData) -> {
-                            ContainerData containerData = containerDataMap.getOrDefault(
-                                    cName, new ContainerData(cName, resultContainerData.getContainer_image_name(),
-                                            resultContainerData.getContainerRecommendations(),
-                                            resultContainerData.getMetrics()));
+                            ContainerData containerData = containerDataMap.get(cName);
+                            if (null == containerData) {
+                                containerData = new ContainerData(cName, resultContainerData.getContainer_image_name(),
+                                        null, copyOf(resultContainerData.getMetrics()));
+                            }
 
                             containerData.setResults(mergeResults(
                                     containerData.getResults(),
@@ -100,10 +102,10 @@ public class ExperimentInterfaceImpl implements ExperimentInterface {
                         k8sObject.setContainerDataMap(containerDataMap);
                     } else if (resultK8sObject.getNamespaceDataMap() != null && !resultK8sObject.getNamespaceDataMap().isEmpty()) {
                         resultK8sObject.getNamespaceDataMap().forEach((nsName, resultNamespaceData) -> {
-                            NamespaceData namespaceData = namespaceDataMap.getOrDefault(
-                                    nsName, new NamespaceData(nsName,
-                                            resultNamespaceData.getNamespaceRecommendations(),
-                                            resultNamespaceData.getMetrics()));
+                            NamespaceData namespaceData = namespaceDataMap.get(nsName);
+                            if (null == namespaceData) {
+                                namespaceData = new NamespaceData(nsName, null, copyOf(resultNamespaceData.getMetrics()));
+                            }
 
                             namespaceData.setResults(mergeResults(
                                     namespaceData.getResults(),
@@ -129,6 +131,10 @@ public class ExperimentInterfaceImpl implements ExperimentInterface {
         return true;
     }
 
+    private static HashMap<AnalyzerConstants.MetricName, Metric> copyOf(HashMap<AnalyzerConstants.MetricName, Metric> metrics) {
+        return (null == metrics) ? null : new HashMap<>(metrics);
+    }
+
     /**
      * Merges two maps of IntervalResults, combining existing results with new results for the specified time range.
      *
@@ -25,15 +25,15 @@ import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.metrics.Metric;
+import com.autotune.common.data.metrics.MetricAggregationInfoResults;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.utils.KruizeSupportedTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletResponse;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class PerformanceProfileUtil {
@@ -46,6 +46,22 @@ public class PerformanceProfileUtil {
             AnalyzerConstants.MetricName.namespaceTotalPods.toString(),
             AnalyzerConstants.MetricName.namespaceRunningPods.toString()
     );
+    // getters of the aggregation info fields, in the order they are validated
+    private static final Map<String, Function<MetricAggregationInfoResults, Object>> AGGREGATION_INFO_GETTERS = new LinkedHashMap<>();
+
+    static {
+        AGGREGATION_INFO_GETTERS.put("mode", MetricAggregationInfoResults::getMode);
+        AGGREGATION_INFO_GETTERS.put("min", MetricAggregationInfoResults::getMin);
+        AGGREGATION_INFO_GETTERS.put("avg", MetricAggregationInfoResults::getAvg);
+        AGGREGATION_INFO_GETTERS.put("median", MetricAggregationInfoResults::getMedian);
+        AGGREGATION_INFO_GETTERS.put("max", MetricAggregationInfoResults::getMax);
+        AGGREGATION_INFO_GETTERS.put("count", MetricAggregationInfoResults::getCount);
+        AGGREGATION_INFO_GETTERS.put("format", MetricAggregationInfoResults::getFormat);
+        AGGREGATION_INFO_GETTERS.put("range", MetricAggregationInfoResults::getRange);
+        AGGREGATION_INFO_GETTERS.put("sum", MetricAggregationInfoResults::getSum);
+    }
+
+    static final List<String> AGGREGATION_INFO_FIELDS = List.copyOf(AGGREGATION_INFO_GETTERS.keySet());
 
     /**
      * validates the performance profile fields and the data and then adds it to the map
@@ -93,28 +109,17 @@ public class PerformanceProfileUtil {
     }
 
     /**
-     * @param performanceProfile
+     * @param validationPlan         validation plan of the performance profile of the experiment
      * @param updateResultsAPIObject
      * @return
      */
-    public static List<String> validateResults(PerformanceProfile performanceProfile, UpdateResultsAPIObject updateResultsAPIObject) {
+    public static List<String> validateResults(ResultsValidationPlan validationPlan, UpdateResultsAPIObject updateResultsAPIObject) {
 
         List<String> errorReasons = new ArrayList<>();
         String errorMsg = "";
 
         // Get the metrics data from the Performance Profile
-        List<String> perfProfileAggrFunctions = new ArrayList<>();
-        List<String> queryList = new ArrayList<>();
-        List<String> perfProfileFunctionVariablesList = new ArrayList<>();
-        for (Metric metric : performanceProfile.getSloInfo().getFunctionVariables()) {
-            perfProfileFunctionVariablesList.add(metric.getName());
-            if (null != metric.getAggregationFunctionsMap()) {
-                metric.getAggregationFunctionsMap().values().forEach(aggregationFunctions ->
-                        perfProfileAggrFunctions.add(aggregationFunctions.getFunction()));
-            }
-            if (null != metric.getQuery())
-                queryList.add(metric.getQuery());
-        }
+        List<String> perfProfileFunctionVariablesList = validationPlan.getFunctionVariables();
 
         // Get the metrics data from the Kruize Object and validate it
         for (KubernetesAPIObject kubernetesAPIObject : updateResultsAPIObject.getKubernetesObjects()) {
@@ -151,25 +156,18 @@ public class PerformanceProfileUtil {
                             }
                             AnalyzerConstants.MetricName metricName = AnalyzerConstants.MetricName.valueOf(metric.getName());
                             kruizeFunctionVariablesList.add(metricName);
-                            MetricResults metricResults = metric.getMetricResult();
-                            Map<String, Object> aggrInfoClassAsMap;
-                            if (!perfProfileAggrFunctions.isEmpty()) {
-                                try {
-                                    aggrInfoClassAsMap = convertObjectToMap(metricResults.getAggregationInfoResult());
-                                    errorMsg = validateAggFunction(aggrInfoClassAsMap, perfProfileAggrFunctions);
-                                    if (!errorMsg.isBlank()) {
-                                        errorReasons.add(errorMsg.concat(String.format(
-                                                AnalyzerErrorConstants.AutotuneObjectErrors.CONTAINER_AND_EXPERIMENT,
-                                                containerAPIObject.getContainer_name(),
-                                                updateResultsAPIObject.getExperimentName())));
-                                        break;
-                                    }
-                                } catch (IllegalAccessException | InvocationTargetException e) {
-                                    throw new RuntimeException(e);
+                            if (validationPlan.hasAggregationFunctions()) {
+                                errorMsg = validationPlan.getAggregationFunctionError();
+                                if (!errorMsg.isBlank()) {
+                                    errorReasons.add(errorMsg.concat(String.format(
+                                            AnalyzerErrorConstants.AutotuneObjectErrors.CONTAINER_AND_EXPERIMENT,
+                                            containerAPIObject.getContainer_name(),
+                                            updateResultsAPIObject.getExperimentName())));
+                                    break;
                                 }
                             } else {
                                 // check if query is also absent
-                                if (queryList.isEmpty()) {
+                                if (!validationPlan.hasQueries()) {
                                     errorReasons.add(AnalyzerErrorConstants.AutotuneObjectErrors.QUERY_FUNCTION_MISSING);
                                     break;
                                 }
@@ -232,25 +230,18 @@ public class PerformanceProfileUtil {
                         }
                         AnalyzerConstants.MetricName metricName = AnalyzerConstants.MetricName.valueOf(metric.getName());
                         kruizeFunctionVariablesList.add(metricName);
-                        MetricResults metricResults = metric.getMetricResult();
-                        Map<String, Object> aggrInfoClassAsMap;
-                        if (!perfProfileAggrFunctions.isEmpty()) {
-                            try {
-                                aggrInfoClassAsMap = convertObjectToMap(metricResults.getAggregationInfoResult());
-                                errorMsg = validateAggFunction(aggrInfoClassAsMap, perfProfileAggrFunctions);
-                                if (!errorMsg.isBlank()) {
-                                    errorReasons.add(errorMsg.concat(String.format(
-                                            AnalyzerErrorConstants.AutotuneObjectErrors.NAMESPACE_AND_EXPERIMENT,
-                                            namespaceAPIObject.getNamespace(),
-                                            updateResultsAPIObject.getExperimentName())));
-                                    break;
-                                }
-                            } catch (IllegalAccessException | InvocationTargetException e) {
-                                throw new RuntimeException(e);
+                        if (validationPlan.hasAggregationFunctions()) {
+                            errorMsg = validationPlan.getAggregationFunctionError();
+                            if (!errorMsg.isBlank()) {
+                                errorReasons.add(errorMsg.concat(String.format(
+                                        AnalyzerErrorConstants.AutotuneObjectErrors.NAMESPACE_AND_EXPERIMENT,
+                                        namespaceAPIObject.getNamespace(),
+                                        updateResultsAPIObject.getExperimentName())));
+                                break;
                             }
                         } else {
                             // check if query is also absent
-                            if (queryList.isEmpty()) {
+                            if (!validationPlan.hasQueries()) {
                                 errorReasons.add(AnalyzerErrorConstants.AutotuneObjectErrors.QUERY_FUNCTION_MISSING);
                                 break;
                             }
@@ -302,13 +293,12 @@ public class PerformanceProfileUtil {
     /**
      * Validates the aggregation function objects against the aggregationInfoResult metrics
      *
-     * @param aggrInfoClassAsMap
+     * @param resultDataAggrFuncObjects fields of the aggregationInfoResult
      * @param perfProfileAggrFunctions
      * @return
      */
-    public static String validateAggFunction(Map<String, Object> aggrInfoClassAsMap, List<String> perfProfileAggrFunctions) {
+    public static String validateAggFunction(List<String> resultDataAggrFuncObjects, List<String> perfProfileAggrFunctions) {
 
-        List<String> resultDataAggrFuncObjects = aggrInfoClassAsMap.keySet().stream().toList();
         String errorMsg = "";
         // check if none of the aggrfunctions are present in the aggrInfoObjects List
         if (resultDataAggrFuncObjects.stream().noneMatch(perfProfileAggrFunctions::contains)) {
@@ -339,16 +329,14 @@ public class PerformanceProfileUtil {
             LOGGER.debug(AnalyzerErrorConstants.AutotuneObjectErrors.MISSING_VALUE.concat(metricVariableName));
         }
         // validate the aggregation info values
-        Map<String, Object> aggrInfoClassAsMap;
-        try {
-            aggrInfoClassAsMap = convertObjectToMap(metricResults.getAggregationInfoResult());
-        } catch(IllegalAccessException | InvocationTargetException e){
-            errorMsg = "Exception occurred while aggregationInfo conversion to map: ".concat(e.getMessage());
-            LOGGER.error(errorMsg);
+        MetricAggregationInfoResults aggregationInfoResult = metricResults.getAggregationInfoResult();
+        if (null == aggregationInfoResult) {
+            LOGGER.error(AnalyzerErrorConstants.AutotuneObjectErrors.MISSING_AGGREGATION_INFO.concat(metricVariableName));
+            errorMsg = errorMsg.concat(AnalyzerErrorConstants.AutotuneObjectErrors.MISSING_AGGREGATION_INFO.concat(metricVariableName));
             return errorMsg;
         }
-        for (Map.Entry<String, Object> entry : aggrInfoClassAsMap.entrySet()) {
-            Object value = entry.getValue();
+        for (Map.Entry<String, Function<MetricAggregationInfoResults, Object>> entry : AGGREGATION_INFO_GETTERS.entrySet()) {
+            Object value = entry.getValue().apply(aggregationInfoResult);
             String key = entry.getKey();
 
             if (value instanceof Number && !key.equals("format")) {
@@ -376,26 +364,4 @@ public class PerformanceProfileUtil {
         }
         return errorMsg;
     }
-
-    /**
-     * Converts the aggregationInfoResult class into Map to extract values for validation
-     *
-     * @param obj
-     * @return
-     * @throws IllegalAccessException
-     * @throws IllegalArgumentException
-     * @throws InvocationTargetException
-     */
-    public static Map<String, Object> convertObjectToMap(Object obj) throws IllegalAccessException,
-            IllegalArgumentException, InvocationTargetException {
-        Method[] methods = obj.getClass().getMethods();
-        Map<String, Object> map = new HashMap<>();
-        for (Method m : methods) {
-            if (m.getName().startsWith("get") && !m.getName().startsWith("getClass")) {
-                Object value = m.invoke(obj);
-                map.put(m.getName().substring(3).toLowerCase(), value);
-            }
-        }
-        return map;
-    }
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.performanceProfiles.utils;
+
+import com.autotune.analyzer.performanceProfiles.PerformanceProfile;
+import com.autotune.common.data.metrics.Metric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks of a performance profile that do not depend on the results being validated, computed once per profile
+ * so that {@link PerformanceProfileUtil#validateResults} only validates the metric values of every result.
+ */
+public class ResultsValidationPlan {
+    private final PerformanceProfile performanceProfile;
+    private final List<String> functionVariables;
+    private final boolean hasAggregationFunctions;
+    private final boolean hasQueries;
+    private final String aggregationFunctionError;
+
+    private ResultsValidationPlan(PerformanceProfile performanceProfile, List<String> functionVariables,
+                                  boolean hasAggregationFunctions, boolean hasQueries, String aggregationFunctionError) {
+        this.performanceProfile = performanceProfile;
+        this.functionVariables = functionVariables;
+        this.hasAggregationFunctions = hasAggregationFunctions;
+        this.hasQueries = hasQueries;
+        this.aggregationFunctionError = aggregationFunctionError;
+    }
+
+    /**
+     * Builds the validation plan of the performance profile
+     *
+     * @param performanceProfile performance profile the results are validated against
+     * @return ResultsValidationPlan of the profile
+     */
+    public static ResultsValidationPlan of(PerformanceProfile performanceProfile) {
+        List<String> aggregationFunctions = new ArrayList<>();
+        List<String> functionVariables = new ArrayList<>();
+        boolean hasQueries = false;
+        for (Metric metric : performanceProfile.getSloInfo().getFunctionVariables()) {
+            functionVariables.add(metric.getName());
+            if (null != metric.getAggregationFunctionsMap()) {
+                metric.getAggregationFunctionsMap().values().forEach(aggregationFunction ->
+                        aggregationFunctions.add(aggregationFunction.getFunction()));
+            }
+            if (null != metric.getQuery())
+                hasQueries = true;
+        }
+        // every result exposes the same aggregation info fields, so the functions of the profile are checked once
+        String aggregationFunctionError = aggregationFunctions.isEmpty() ? "" :
+                PerformanceProfileUtil.validateAggFunction(PerformanceProfileUtil.AGGREGATION_INFO_FIELDS, aggregationFunctions);
+        return new ResultsValidationPlan(performanceProfile, functionVariables, !aggregationFunctions.isEmpty(),
+                hasQueries, aggregationFunctionError);
+    }
+
+    public PerformanceProfile getPerformanceProfile() {
+        return performanceProfile;
+    }
+
+    public List<String> getFunctionVariables() {
+        return functionVariables;
+    }
+
+    public boolean hasAggregationFunctions() {
+        return hasAggregationFunctions;
+    }
+
+    public boolean hasQueries() {
+        return hasQueries;
+    }
+
+    /**
+     * Returns the error of the aggregation functions of the profile, empty if the results provide all of them
+     */
+    public String getAggregationFunctionError() {
+        return aggregationFunctionError;
+    }
+}
@@ -1,15 +1,12 @@
 package com.autotune.analyzer.plots;
 
-import com.autotune.analyzer.recommendations.model.CostBasedRecommendationModel;
 import com.autotune.analyzer.recommendations.model.GenericRecommendationModel;
+import com.autotune.analyzer.recommendations.model.IntervalUsageValues;
 import com.autotune.analyzer.recommendations.term.Terms;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.result.IntervalResults;
 import com.autotune.common.utils.CommonUtils;
 import com.autotune.utils.KruizeConstants;
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +19,7 @@ import static com.autotune.analyzer.utils.AnalyzerConstants.MetricName.*;
 
 public class PlotManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlotManager.class);
+    private static final double[] QUARTILE_PERCENTILES = {TWENTYFIVE_PERCENTILE, FIFTY_PERCENTILE, SEVENTYFIVE_PERCENTILE};
     private final HashMap<Timestamp, IntervalResults> resultsMap;
     private final Terms recommendationTerm;
     private final Timestamp monitoringStartTime;
@@ -40,12 +38,11 @@ public class PlotManager {
         AnalyzerConstants.MetricName memMetric = experimentType == NAMESPACE ? namespaceMemoryUsage : memoryUsage;
 
         // Convert the HashMap to a TreeMap to maintain sorted order based on IntervalEndTime
-        TreeMap<Timestamp, IntervalResults> sortedResultsHashMap = new TreeMap<>(Collections.reverseOrder());
-        sortedResultsHashMap.putAll(resultsMap);
-        // Retrieve entries within the specified range
-        Map<Timestamp, IntervalResults> resultInRange = sortedResultsHashMap.subMap(monitoringEndTime, true, monitoringStartTime, false);
+        TreeMap<Timestamp, IntervalResults> sortedResultsHashMap = new TreeMap<>(resultsMap);
 
         Map<Timestamp, PlotData.PlotPoint> plotsDataMap = new HashMap<>();
+        // reused for every datapoint
+        IntervalUsageValues usageValues = new IntervalUsageValues();
         Timestamp incrementStartTime = monitoringStartTime;
 
         // Convert the Timestamp to a Calendar
@@ -59,10 +56,10 @@ public class PlotManager {
             calendar.add(Calendar.MILLISECOND, (int) millisecondsToAdd);
             // Convert the modified Calendar back to a Timestamp
             Timestamp newTimestamp = new Timestamp(calendar.getTimeInMillis());
-            PlotData.UsageData cpuUsage = getUsageData(sortedResultsHashMap.subMap(newTimestamp, true,
-                    incrementStartTime,false), cpuMetric);
-            PlotData.UsageData memoryUsage = getUsageData(sortedResultsHashMap.subMap(newTimestamp, true,
-                    incrementStartTime, false), memMetric);
+            // intervals ending after the previous datapoint and up to this one
+            Map<Timestamp, IntervalResults> resultInRange = sortedResultsHashMap.subMap(incrementStartTime, false, newTimestamp, true);
+            PlotData.UsageData cpuUsage = getUsageData(resultInRange, cpuMetric, usageValues);
+            PlotData.UsageData memoryUsage = getUsageData(resultInRange, memMetric, usageValues);
             plotsDataMap.put(newTimestamp, new PlotData.PlotPoint(cpuUsage, memoryUsage));
             incrementStartTime = newTimestamp;
         }
@@ -70,86 +67,47 @@ public class PlotManager {
         return new PlotData.PlotsData(recommendationTerm.getPlots_datapoints(), plotsDataMap);
     }
 
-    PlotData.UsageData getUsageData(Map<Timestamp, IntervalResults> resultInRange, AnalyzerConstants.MetricName metricName) {
-        // stream through the results value and extract the CPU values
-        try {
-            if (metricName == AnalyzerConstants.MetricName.cpuUsage || metricName == AnalyzerConstants.MetricName.namespaceCpuUsage) {
-                JSONArray cpuValues;
-                if (metricName == (AnalyzerConstants.MetricName.namespaceCpuUsage)) {
-                    cpuValues = CostBasedRecommendationModel.getNamespaceCPUUsageList(resultInRange);
-                } else {
-                    cpuValues = CostBasedRecommendationModel.getCPUUsageList(resultInRange);
-                }
-                LOGGER.debug("cpuValues : {}", cpuValues);
-                if (!cpuValues.isEmpty()) {
-                    // Extract "max" values from cpuUsageList
-                    List<Double> cpuMaxValues = new ArrayList<>();
-                    List<Double> cpuMinValues = new ArrayList<>();
-                    for (int i = 0; i < cpuValues.length(); i++) {
-                        JSONObject jsonObject = cpuValues.getJSONObject(i);
-                        double maxValue = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-                        double minValue = jsonObject.getDouble(KruizeConstants.JSONKeys.MIN);
-                        cpuMaxValues.add(maxValue);
-                        cpuMinValues.add(minValue);
-                    }
-                    LOGGER.debug("cpuMaxValues : {}", cpuMaxValues);
-                    LOGGER.debug("cpuMinValues : {}", cpuMinValues);
-                    return getPercentileData(cpuMaxValues, cpuMinValues, resultInRange, metricName);
-                }
-
-            } else {
-                // loop through the results value and extract the memory values
-                List<Double> memUsageMinList = new ArrayList<>();
-                List<Double> memUsageMaxList = new ArrayList<>();
-                boolean memDataAvailable = false;
-                JSONObject jsonObject;
-                for (IntervalResults intervalResults: resultInRange.values()) {
-                    if (metricName == (namespaceMemoryUsage)) {
-                        jsonObject = GenericRecommendationModel.calculateNamespaceMemoryUsage(intervalResults);
-                    } else {
-                        jsonObject = GenericRecommendationModel.calculateMemoryUsage(intervalResults);
-                    }
-                    if (!jsonObject.isEmpty()) {
-                        memDataAvailable = true;
-                        Double memUsageMax = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-                        Double memUsageMin = jsonObject.getDouble(KruizeConstants.JSONKeys.MIN);
-                        memUsageMaxList.add(memUsageMax);
-                        memUsageMinList.add(memUsageMin);
-                    }
-                }
-                LOGGER.debug("memValues Max : {}, Min : {}", memUsageMaxList, memUsageMinList);
-                if (memDataAvailable)
-                    return getPercentileData(memUsageMaxList, memUsageMinList, resultInRange, metricName);
-            }
-        } catch (JSONException e) {
-            LOGGER.error("Exception occurred while extracting metric values: {}", e.getMessage());
+    PlotData.UsageData getUsageData(Map<Timestamp, IntervalResults> resultInRange, AnalyzerConstants.MetricName metricName, IntervalUsageValues usageValues) {
+        // extract the max and min usage of every interval
+        if (metricName == namespaceCpuUsage) {
+            GenericRecommendationModel.fillNamespaceCPUUsage(resultInRange, usageValues);
+        } else if (metricName == cpuUsage) {
+            GenericRecommendationModel.fillCPUUsage(resultInRange, usageValues);
+        } else if (metricName == namespaceMemoryUsage) {
+            GenericRecommendationModel.fillNamespaceMemoryUsage(resultInRange, usageValues);
+        } else {
+            GenericRecommendationModel.fillMemoryUsage(resultInRange, usageValues);
+        }
+        LOGGER.debug("{} values : {}", metricName, usageValues.size());
+        if (!usageValues.isEmpty()) {
+            return getPercentileData(usageValues, resultInRange, metricName);
         }
         return null;
     }
 
-    private PlotData.UsageData getPercentileData(List<Double> metricValuesMax, List<Double> metricValuesMin, Map<Timestamp, IntervalResults> resultInRange, AnalyzerConstants.MetricName metricName) {
+    private PlotData.UsageData getPercentileData(IntervalUsageValues usageValues, Map<Timestamp, IntervalResults> resultInRange, AnalyzerConstants.MetricName metricName) {
         try {
-            if (!metricValuesMax.isEmpty()) {
-                double q1 = CommonUtils.percentile(TWENTYFIVE_PERCENTILE, metricValuesMax);
-                double q3 = CommonUtils.percentile(SEVENTYFIVE_PERCENTILE, metricValuesMax);
-                double median = CommonUtils.percentile(FIFTY_PERCENTILE, metricValuesMax);
-                // Find max and min
-                double max = Collections.max(metricValuesMax);
-                double min;
+            int size = usageValues.size();
+            // Find max and min before the percentiles reorder the max values
+            double max = usageValues.max();
+            double min = Double.MAX_VALUE;
+            double[] minValues = usageValues.getMinValues();
+            for (int i = 0; i < size; i++) {
                 // check for non zero values
-                boolean nonZeroCheck = metricValuesMin.stream().noneMatch(value -> value.equals(0.0));
-                if (nonZeroCheck) {
-                    min = Collections.min(metricValuesMin);
-                } else {
+                if (0.0 == minValues[i]) {
                     min = 0.0;
+                    break;
                 }
-
-                LOGGER.debug("q1 : {}, q3 : {}, median : {}, max : {}, min : {}", q1, q3, median, max, min);
-                String format = CostBasedRecommendationModel.getFormatValue(resultInRange, metricName);
-                return new PlotData.UsageData(min, q1, median, q3, max, format);
-            } else {
-                return null;
+                min = Math.min(min, minValues[i]);
             }
+            double[] quartiles = CommonUtils.percentiles(QUARTILE_PERCENTILES, usageValues.getMaxValues(), size);
+            double q1 = quartiles[0];
+            double median = quartiles[1];
+            double q3 = quartiles[2];
+
+            LOGGER.debug("q1 : {}, q3 : {}, median : {}, max : {}, min : {}", q1, q3, median, max, min);
+            String format = GenericRecommendationModel.getFormatValue(resultInRange, metricName);
+            return new PlotData.UsageData(min, q1, median, q3, max, format);
         } catch (Exception e) {
             LOGGER.error("Exception occurred while generating percentiles: {}", e.getMessage());
         }
@@ -21,12 +21,14 @@ import com.autotune.analyzer.recommendations.RecommendationConfigItem;
 import com.autotune.analyzer.recommendations.RecommendationConstants;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.common.data.result.IntervalResults;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_CPU_THRESHOLD;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_MEMORY_THRESHOLD;
@@ -74,6 +76,27 @@ public abstract class BaseRecommendationProcessor {
         return new ThresholdValues(cpuThreshold, memoryThreshold);
     }
 
+    /**
+     * Returns the results of the intervals ending in the monitoring range, both ends included.
+     * The filtered map shares the IntervalResults of the given map.
+     *
+     * @param results             interval results keyed by interval end time
+     * @param monitoringStartTime start of the monitoring range
+     * @param monitoringEndTime   end of the monitoring range
+     * @return interval results of the range keyed by interval end time
+     */
+    protected static Map<Timestamp, IntervalResults> filterResults(Map<Timestamp, IntervalResults> results,
+                                                                  Timestamp monitoringStartTime, Timestamp monitoringEndTime) {
+        HashMap<Timestamp, IntervalResults> filteredResultsMap = new HashMap<>();
+        for (Map.Entry<Timestamp, IntervalResults> entry : results.entrySet()) {
+            Timestamp intervalEndTime = entry.getKey();
+            if (intervalEndTime.compareTo(monitoringStartTime) >= 0 && intervalEndTime.compareTo(monitoringEndTime) <= 0) {
+                filteredResultsMap.put(intervalEndTime, entry.getValue());
+            }
+        }
+        return filteredResultsMap;
+    }
+
     /**
      * Validates a configuration item and adds appropriate notifications if validation fails.
      *
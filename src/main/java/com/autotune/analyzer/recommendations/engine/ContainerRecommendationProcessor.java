@@ -40,7 +40,6 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_CPU_THRESHOLD;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_MEMORY_THRESHOLD;
@@ -257,10 +256,7 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
         RecommendationConfigItem currentMemLimit = currentConfig.memoryLimit;
 
         if (null != monitoringStartTime) {
-            Timestamp finalMonitoringStartTime = monitoringStartTime;
-            Map<Timestamp, IntervalResults> filteredResultsMap = containerData.getResults().entrySet().stream()
-                    .filter((x -> ((x.getKey().compareTo(finalMonitoringStartTime) >= 0) && (x.getKey().compareTo(monitoringEndTime) <= 0))))
-                    .collect((Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+            Map<Timestamp, IntervalResults> filteredResultsMap = filterResults(containerData.getResults(), monitoringStartTime, monitoringEndTime);
 
             int numPods = getNumPods(filteredResultsMap);
             mappedRecommendationForModel.setPodsCount(numPods);
@@ -302,18 +298,18 @@ public final class ContainerRecommendationProcessor extends BaseRecommendationPr
     }
 
     private static int getNumPods(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        Double max_pods_cpu = filteredResultsMap.values().stream()
-                .map(e -> {
-                    Optional<MetricResults> cpuUsageResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-                    double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-                    double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-                    double numPods = 0;
-                    if (0 != cpuUsageAvg) {
-                        numPods = (int) Math.ceil(cpuUsageSum / cpuUsageAvg);
-                    }
-                    return numPods;
-                })
-                .max(Double::compareTo).get();
+        double max_pods_cpu = 0;
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            MetricResults cpuUsageResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage);
+            if (null == cpuUsageResults) {
+                continue;
+            }
+            double cpuUsageSum = Objects.requireNonNullElse(cpuUsageResults.getAggregationInfoResult().getSum(), 0.0);
+            double cpuUsageAvg = Objects.requireNonNullElse(cpuUsageResults.getAggregationInfoResult().getAvg(), 0.0);
+            if (0 != cpuUsageAvg) {
+                max_pods_cpu = Math.max(max_pods_cpu, Math.ceil(cpuUsageSum / cpuUsageAvg));
+            }
+        }
         return (int) Math.ceil(max_pods_cpu);
     }
 }
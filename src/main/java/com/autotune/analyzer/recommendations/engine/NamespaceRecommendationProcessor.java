@@ -45,8 +45,7 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_CPU_THRESHOLD;
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.DEFAULT_MEMORY_THRESHOLD;
@@ -268,10 +267,7 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
         RecommendationConfigItem currentNamespaceMemLimit = currentConfig.memoryLimit;
 
         if (null != monitoringStartTime) {
-            Timestamp finalMonitoringStartTime = monitoringStartTime;
-            Map<Timestamp, IntervalResults> filteredResultsMap = namespaceData.getResults().entrySet().stream()
-                    .filter((x -> ((x.getKey().compareTo(finalMonitoringStartTime) >= 0) && (x.getKey().compareTo(monitoringEndTime) <= 0))))
-                    .collect((Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+            Map<Timestamp, IntervalResults> filteredResultsMap = filterResults(namespaceData.getResults(), monitoringStartTime, monitoringEndTime);
 
             int numPodsInNamespace = getNumPodsForNamespace(filteredResultsMap);
             mappedRecommendationForModel.setPodsCount(numPodsInNamespace);
@@ -303,13 +299,13 @@ public final class NamespaceRecommendationProcessor extends BaseRecommendationPr
 
     private static int getNumPodsForNamespace(Map<Timestamp, IntervalResults> filteredResultsMap) {
         LOGGER.debug("Size of Filter Map: {}", filteredResultsMap.size());
-        Double max_pods_cpu = filteredResultsMap.values().stream()
-                .map(e -> {
-                    Optional<MetricResults> numPodsResults = Optional.ofNullable(e.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceTotalPods));
-                    double numPods = numPodsResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-                    return numPods;
-                })
-                .max(Double::compareTo).get();
+        double max_pods_cpu = 0;
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            MetricResults numPodsResults = intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceTotalPods);
+            if (null != numPodsResults) {
+                max_pods_cpu = Math.max(max_pods_cpu, Objects.requireNonNullElse(numPodsResults.getAggregationInfoResult().getAvg(), 0.0));
+            }
+        }
         return (int) Math.ceil(max_pods_cpu);
     }
 }
@@ -20,10 +20,13 @@ import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.metrics.*;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsTimeIndex;
 import com.autotune.common.data.result.NamespaceData;
 import com.autotune.common.data.system.info.device.DeviceDetails;
 import com.autotune.common.data.system.info.device.accelerator.NvidiaAcceleratorDeviceData;
 import com.autotune.common.datasource.DataSourceInfo;
+import com.autotune.common.datasource.DataSourceQueryExecutor;
+import com.autotune.common.datasource.prometheus.PrometheusSampleConsumer;
 import com.autotune.common.exceptions.DataSourceNotExist;
 import com.autotune.common.k8sObjects.K8sObject;
 import com.autotune.common.utils.CommonUtils;
@@ -31,20 +34,15 @@ import com.autotune.database.service.ExperimentDBService;
 import com.autotune.metrics.KruizeNotificationCollectionRegistry;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.*;
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletResponse;
-import java.lang.reflect.Method;
 import java.net.URLEncoder;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.*;
@@ -1249,14 +1247,10 @@ public class RecommendationEngine implements RecommendationEngineService {
                     );
                     LOGGER.info(dateMetricsUrl);
                     client.setBaseURL(dateMetricsUrl);
-                    JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
-                    JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-                    JsonArray resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
+                    Long maxDateEpochTime = fetchMaxDateEpochSeconds(client);
                     // Process fetched metrics
-                    if (null != resultArray && !resultArray.isEmpty()) {
-                        resultArray = resultArray.get(0)
-                                .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUE);
-                        long epochTime = resultArray.get(0).getAsLong();
+                    if (null != maxDateEpochTime) {
+                        long epochTime = maxDateEpochTime;
                         String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
                         Date date = sdf.parse(timestamp);
                         Timestamp dateTS = new Timestamp(date.getTime());
@@ -1277,11 +1271,6 @@ public class RecommendationEngine implements RecommendationEngineService {
                 }
 
                 HashMap<Timestamp, IntervalResults> namespaceDataResults = new HashMap<>();
-                IntervalResults namespaceIntervalResults = null;
-                HashMap<AnalyzerConstants.MetricName, MetricResults> namespaceResMap = null;
-                HashMap<String, MetricResults> namespaceResultMap = null;
-                MetricResults namespaceMetricResults = null;
-                MetricAggregationInfoResults namespaceMetricAggregationInfoResults = null;
 
                 if (null == namespaceData) {
                     namespaceData = new NamespaceData();
@@ -1325,32 +1314,25 @@ public class RecommendationEngine implements RecommendationEngineService {
                                         interval_end_time_epoc,
                                         measurementDurationMinutesInDouble.intValue() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
                                 client.setBaseURL(namespaceMetricsUrl);
-                                JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
-                                JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-                                JsonArray resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
-                                // Process fetched metrics
-                                if (null != resultArray && !resultArray.isEmpty()) {
-                                    resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(
-                                                    KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT).get(0)
-                                            .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants
-                                                    .DataSourceQueryJSONKeys.VALUES);
-                                    sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
-
-                                    // Iterate over fetched metrics
-                                    Timestamp sTime = new Timestamp(interval_start_time_epoc);
-                                    for (JsonElement element : resultArray) {
-                                        JsonArray valueArray = element.getAsJsonArray();
-                                        long epochTime = valueArray.get(0).getAsLong();
-                                        double value = valueArray.get(1).getAsDouble();
-                                        String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                                        Date date = sdf.parse(timestamp);
-                                        Timestamp eTime = new Timestamp(date.getTime());
+                                // resolve the aggregation setter once for all the samples of the query
+                                AggregationFunctionSetter aggregationFunctionSetter = AggregationFunctionSetter.fromFunction(aggregationFunctionsEntry.getKey());
+                                // Iterate over the samples of the first series while the response is streamed
+                                Timestamp sTime = new Timestamp(interval_start_time_epoc);
+                                String namespaceFormat = format;
+                                client.streamMetrics(KruizeConstants.APIMessages.GET, "", new PrometheusSampleConsumer() {
+                                    @Override
+                                    public boolean acceptSeries(int seriesIndex, Map<String, String> labels) {
+                                        return seriesIndex == 0;
+                                    }
 
+                                    @Override
+                                    public void accept(int seriesIndex, Map<String, String> labels, long epochTime, double value) throws Exception {
+                                        Timestamp eTime = new Timestamp(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
                                         // Prepare interval results
-                                        prepareIntervalResults(namespaceDataResults, namespaceIntervalResults, namespaceResMap, namespaceMetricResults,
-                                                namespaceMetricAggregationInfoResults, sTime, eTime, metricEntry, aggregationFunctionsEntry, value, format, null, false); // for namespace, runtimeLayerDetection is being passed as false for now
+                                        prepareIntervalResults(namespaceDataResults, sTime, eTime, metricEntry, aggregationFunctionSetter,
+                                                value, namespaceFormat, null, false); // for namespace, runtimeLayerDetection is being passed as false for now
                                     }
-                                }
+                                });
                             } catch (Exception e) {
                                 throw new RuntimeException(e);
                             }
@@ -1490,14 +1472,10 @@ public class RecommendationEngine implements RecommendationEngineService {
                         );
                         LOGGER.debug(dateMetricsUrl);
                         client.setBaseURL(dateMetricsUrl);
-                        JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
-                        JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-                        JsonArray resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
+                        Long maxDateEpochTime = fetchMaxDateEpochSeconds(client);
                         // Process fetched metrics
-                        if (null != resultArray && !resultArray.isEmpty()) {
-                            resultArray = resultArray.get(0)
-                                    .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUE);
-                            long epochTime = resultArray.get(0).getAsLong();
+                        if (null != maxDateEpochTime) {
+                            long epochTime = maxDateEpochTime;
                             String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
                             Date date = sdf.parse(timestamp);
                             Timestamp dateTS = new Timestamp(date.getTime());
@@ -1517,11 +1495,8 @@ public class RecommendationEngine implements RecommendationEngineService {
                                 - ((long) interval_start_time.getTimezoneOffset() * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
                     }
                     HashMap<Timestamp, IntervalResults> containerDataResults = new HashMap<>();
-                    IntervalResults intervalResults = null;
-                    HashMap<AnalyzerConstants.MetricName, MetricResults> resMap = null;
-                    HashMap<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorMetricResultHashMap;
-                    MetricResults metricResults = null;
-                    MetricAggregationInfoResults metricAggregationInfoResults = null;
+                    List<Callable<MetricSeriesSamples>> metricQueries = new ArrayList<>();
+                    List<AcceleratorMetricQuery> acceleratorQueries = new ArrayList<>();
 
                     List<Metric> metricList = filterMetricsBasedOnExpTypeAndK8sObject(metricProfile,
                             AnalyzerConstants.MetricName.maxDate.name(), kruizeObject.getExperimentType());
@@ -1621,178 +1596,50 @@ public class RecommendationEngine implements RecommendationEngineService {
                                         interval_end_time_epoc,
                                         measurementDurationMinutesInDouble.intValue() * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE);
                                 LOGGER.debug(podMetricsUrl);
-                                client.setBaseURL(podMetricsUrl);
-                                JSONObject genericJsonObject = client.fetchMetricsJson(KruizeConstants.APIMessages.GET, "");
-                                JsonObject jsonObject = new Gson().fromJson(genericJsonObject.toString(), JsonObject.class);
-                                JsonArray resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT);
-                                JsonObject metric = null;
-                                if (!resultArray.isEmpty()) {
-                                    metric = resultArray.get(0).getAsJsonObject().getAsJsonObject(KruizeConstants.JSONKeys.METRIC);
-                                }
-                                // Log Prometheus response for JVM info metrics to debug metadata extraction
-                                if (JVM_INFO_METRICS.contains(metricEntry.getName())) {
-                                    if (metric != null) {
-                                        LOGGER.debug("JVM info metric labels: runtime={}, vendor={}, version={}",
-                                                metric.has(AnalyzerConstants.RUNTIME) ? metric.get(AnalyzerConstants.RUNTIME) : "absent",
-                                                metric.has(AnalyzerConstants.VENDOR) ? metric.get(AnalyzerConstants.VENDOR) : "absent",
-                                                metric.has(AnalyzerConstants.VERSION) ? metric.get(AnalyzerConstants.VERSION) : "absent");
-                                    }
-                                }
-
-                                // Skipping if Result array is null or empty
-                                if (null == resultArray || resultArray.isEmpty()) {
-                                    if (JVM_INFO_METRICS.contains(metricEntry.getName())) {
-                                        LOGGER.warn("JVM info metric: Prometheus returned empty result - JVM metrics may not be exposed or query may not match (namespace={}, container={})", namespace, containerName);
-                                    }
+                                // resolve the aggregation setter once for all the samples of the query
+                                AggregationFunctionSetter aggregationFunctionSetter = AggregationFunctionSetter.fromFunction(aggregationFunctionsEntry.getKey());
+
+                                // Accelerator samples are matched to the timestamps of the other metrics, so they are fetched after those are merged
+                                if (isAcceleratorMetric || isAcceleratorPartitionMetric) {
+                                    acceleratorQueries.add(new AcceleratorMetricQuery(podMetricsUrl, metricEntry, aggregationFunctionSetter, format,
+                                            isAcceleratorMetric ? AnalyzerConstants.DeviceType.ACCELERATOR : AnalyzerConstants.DeviceType.ACCELERATOR_PARTITION,
+                                            isAcceleratorPartitionMetric));
                                     continue;
                                 }
 
-                                // Process fetched metrics
-                                if (isAcceleratorMetric || isAcceleratorPartitionMetric){
-                                    for (JsonElement result : resultArray) {
-                                        JsonObject resultObject = result.getAsJsonObject();
-                                        JsonObject metricObject = resultObject.getAsJsonObject(KruizeConstants.JSONKeys.METRIC);
-
-                                        // Set the data only for the container Accelerator device
-                                        if (null == metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString())
-                                            continue;
-                                        if (metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString().isEmpty())
-                                            continue;
-
-                                        ArrayList<DeviceDetails> deviceDetails = null;
-
-                                        if (isAcceleratorMetric) {
-                                            deviceDetails = containerData.getContainerDeviceList().getDevices(AnalyzerConstants.DeviceType.ACCELERATOR);
-                                        }
-
-                                        if (isAcceleratorPartitionMetric) {
-                                            deviceDetails = containerData.getContainerDeviceList().getDevices(AnalyzerConstants.DeviceType.ACCELERATOR_PARTITION);
-                                        }
-                                        // Continuing to next element
-                                        // All other elements will also fail as there is no Accelerator attached
-                                        // Theoretically, it doesn't fail, but the future implementations may change
-                                        // So adding a check after a function call to check it's return value is advisable
-                                        // TODO: Needs a check to figure out why devicelist is empty if is Accelerator detected is true
-                                        if (null == deviceDetails)
-                                            continue;
-                                        if (deviceDetails.isEmpty())
-                                            continue;
-
-                                        // Assuming only one MIG supported Accelerator is attached
-                                        // Needs to be changed when you support multiple Accelerator's
-                                        // Same changes need to be applied at the time of adding the device in
-                                        // DeviceHandler
-                                        DeviceDetails deviceDetail = deviceDetails.get(0);
-                                        NvidiaAcceleratorDeviceData containerAcceleratorDeviceData = (NvidiaAcceleratorDeviceData) deviceDetail;
-
-                                        // Skip non-matching Accelerator entries
-                                        if (!metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString().equalsIgnoreCase(containerAcceleratorDeviceData.getModelName()))
-                                            continue;
-
-                                        NvidiaAcceleratorDeviceData acceleratorDeviceData = new NvidiaAcceleratorDeviceData(metricObject.get(KruizeConstants.JSONKeys.MODEL_NAME).getAsString(),
-                                                metricObject.get(KruizeConstants.JSONKeys.HOSTNAME).getAsString(),
-                                                metricObject.get(KruizeConstants.JSONKeys.UUID).getAsString(),
-                                                metricObject.get(KruizeConstants.JSONKeys.DEVICE).getAsString(),
-                                                containerAcceleratorDeviceData.getProfile(),
-                                                true, containerAcceleratorDeviceData.isPartition());
-
-                                        JsonArray valuesArray = resultObject.getAsJsonArray(KruizeConstants.DataSourceConstants
-                                                .DataSourceQueryJSONKeys.VALUES);
-                                        sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
-                                        // Iterate over fetched metrics
-                                        Timestamp sTime = new Timestamp(interval_start_time_epoc);
-                                        for (JsonElement element : valuesArray) {
-                                            JsonArray valueArray = element.getAsJsonArray();
-                                            long epochTime = valueArray.get(0).getAsLong();
-                                            double value = valueArray.get(1).getAsDouble();
-
-                                            // Currently only supports 40GB GPU's needs to be made dynamic based on card memory
-                                            if (isAcceleratorPartitionMetric) {
-                                                double cardFrameBuffer = RecommendationUtils.getFrameBufferBasedOnModel(containerAcceleratorDeviceData.getModelName());
-                                                if (cardFrameBuffer > 0)
-                                                    value = (value / cardFrameBuffer) * 100;
-                                            }
-                                            String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                                            Date date = sdf.parse(timestamp);
-                                            Timestamp tempTime = new Timestamp(date.getTime());
-                                            Timestamp eTime = RecommendationUtils.getNearestTimestamp(containerDataResults,
-                                                    tempTime,
-                                                    AnalyzerConstants.AcceleratorConstants.AcceleratorMetricConstants.TIMESTAMP_RANGE_CHECK_IN_MINUTES);
-
-                                            // containerDataResults are empty so will use the prometheus timestamp
-                                            if (null == eTime) {
-                                                // eTime = tempTime;
-                                                // Skipping entry, as inconsistency with CPU & memory records may provide null pointer while accessing metric results
-                                                // TODO: Need to seperate the data records of CPU and memory based on exporter
-                                                // TODO: Perform recommendation generation by stitching the outcome
-                                                continue;
-                                            }
-
-                                            // Prepare interval results
-                                            if (containerDataResults.containsKey(eTime)) {
-                                                intervalResults = containerDataResults.get(eTime);
-                                                acceleratorMetricResultHashMap = intervalResults.getAcceleratorMetricResultHashMap();
-                                                if (null == acceleratorMetricResultHashMap)
-                                                    acceleratorMetricResultHashMap = new HashMap<>();
-                                            } else {
-                                                intervalResults = new IntervalResults();
-                                                acceleratorMetricResultHashMap = new HashMap<>();
-                                            }
-                                            AnalyzerConstants.MetricName metricName = AnalyzerConstants.MetricName.valueOf(metricEntry.getName());
-                                            if (acceleratorMetricResultHashMap.containsKey(metricName)) {
-                                                metricResults = acceleratorMetricResultHashMap.get(metricName).getMetricResults();
-                                                metricAggregationInfoResults = metricResults.getAggregationInfoResult();
-                                            } else {
-                                                metricResults = new MetricResults();
-                                                metricAggregationInfoResults = new MetricAggregationInfoResults();
-                                            }
-                                            Method method = MetricAggregationInfoResults.class.getDeclaredMethod(KruizeConstants.APIMessages.SET + aggregationFunctionsEntry.getKey().substring(0, 1).toUpperCase() + aggregationFunctionsEntry.getKey().substring(1), Double.class);
-                                            method.invoke(metricAggregationInfoResults, value);
-                                            metricAggregationInfoResults.setFormat(format);
-                                            metricResults.setAggregationInfoResult(metricAggregationInfoResults);
-                                            metricResults.setName(String.valueOf(metricName));
-                                            metricResults.setFormat(format);
-                                            AcceleratorMetricResult acceleratorMetricResult = new AcceleratorMetricResult(acceleratorDeviceData, metricResults);
-                                            acceleratorMetricResultHashMap.put(metricName, acceleratorMetricResult);
-                                            intervalResults.setAcceleratorMetricResultHashMap(acceleratorMetricResultHashMap);
-                                            intervalResults.setIntervalStartTime(sTime);  //Todo this will change
-                                            intervalResults.setIntervalEndTime(eTime);
-                                            intervalResults.setDurationInMinutes((double) ((eTime.getTime() - sTime.getTime())
-                                                    / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
-                                                    * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
-                                            containerDataResults.put(eTime, intervalResults);
-                                            sTime = eTime;
-                                        }
-                                    }
-                                } else {
-                                    resultArray = jsonObject.getAsJsonObject(KruizeConstants.JSONKeys.DATA).getAsJsonArray(
-                                                    KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT).get(0)
-                                            .getAsJsonObject().getAsJsonArray(KruizeConstants.DataSourceConstants
-                                                    .DataSourceQueryJSONKeys.VALUES);
-                                    sdf.setTimeZone(TimeZone.getTimeZone(KruizeConstants.TimeUnitsExt.TimeZones.UTC));
-
-                                    // Iterate over fetched metrics
-                                    Timestamp sTime = new Timestamp(interval_start_time_epoc);
-                                    for (JsonElement element : resultArray) {
-                                        JsonArray valueArray = element.getAsJsonArray();
-                                        long epochTime = valueArray.get(0).getAsLong();
-                                        double value = valueArray.get(1).getAsDouble();
-                                        String timestamp = sdf.format(new Date(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC));
-                                        Date date = sdf.parse(timestamp);
-                                        Timestamp eTime = new Timestamp(date.getTime());
-
-                                        // Prepare interval results
-                                        prepareIntervalResults(containerDataResults, intervalResults, resMap, metricResults,
-                                                metricAggregationInfoResults, sTime, eTime, metricEntry, aggregationFunctionsEntry, value, format, metric,
-                                                runtimeLayerDetected);
-                                    }
-                                }
+                                MetricSeriesSamples metricSamples = new MetricSeriesSamples(metricEntry, aggregationFunctionSetter, format);
+                                metricQueries.add(() -> {
+                                    metricSamples.setEmpty(client.streamMetricsFromURL(podMetricsUrl, metricSamples).isEmpty());
+                                    return metricSamples;
+                                });
                             } catch (Exception e) {
                                 throw new RuntimeException(e);
                             }
                         }
                     }
 
+                    // Fetch the metrics of the container concurrently and merge them in the order of the metric profile
+                    List<MetricSeriesSamples> fetchedMetrics = DataSourceQueryExecutor.invokeAll(dataSourceInfo.getName(), metricQueries);
+                    for (MetricSeriesSamples metricSamples : fetchedMetrics) {
+                        if (metricSamples.isEmpty() && JVM_INFO_METRICS.contains(metricSamples.metricEntry.getName())) {
+                            LOGGER.warn("JVM info metric: Prometheus returned empty result - JVM metrics may not be exposed or query may not match (namespace={}, container={})", namespace, containerName);
+                        }
+                        Timestamp sTime = new Timestamp(interval_start_time_epoc);
+                        for (int i = 0; i < metricSamples.size; i++) {
+                            Timestamp eTime = new Timestamp(metricSamples.epochs[i] * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
+                            // Prepare interval results
+                            prepareIntervalResults(containerDataResults, sTime, eTime, metricSamples.metricEntry, metricSamples.aggregationFunctionSetter,
+                                    metricSamples.values[i], metricSamples.format, metricSamples.labels, runtimeLayerDetected);
+                        }
+                    }
+
+                    for (AcceleratorMetricQuery acceleratorQuery : acceleratorQueries) {
+                        client.setBaseURL(acceleratorQuery.metricsUrl);
+                        streamAcceleratorMetrics(client, containerData, containerDataResults, acceleratorQuery.deviceType,
+                                acceleratorQuery.isPartitionMetric, interval_start_time_epoc, acceleratorQuery.metricEntry,
+                                acceleratorQuery.aggregationFunctionSetter, acceleratorQuery.format);
+                    }
+
                     containerData.setResults(containerDataResults);
                     if (!containerDataResults.isEmpty())
                         setInterval_end_time(Collections.max(containerDataResults.keySet()));    //TODO Temp fix invalid date is set if experiment having two container with different last seen date
@@ -1824,11 +1671,14 @@ public class RecommendationEngine implements RecommendationEngineService {
     /**
      * prepares interval results for namespace and container experiments
      */
-    private void prepareIntervalResults(Map<Timestamp, IntervalResults> dataResultsMap, IntervalResults intervalResults,
-                                        HashMap<AnalyzerConstants.MetricName, MetricResults> resMap, MetricResults metricResults,
-                                        MetricAggregationInfoResults metricAggregationInfoResults, Timestamp sTime, Timestamp eTime, Metric metricEntry,
-                                        Map.Entry<String, AggregationFunctions> aggregationFunctionsEntry, double value, String format, JsonObject metricObject, boolean runtimeLayerDetected) throws Exception {
+    private void prepareIntervalResults(Map<Timestamp, IntervalResults> dataResultsMap, Timestamp sTime, Timestamp eTime, Metric metricEntry,
+                                        AggregationFunctionSetter aggregationFunctionSetter, double value, String format,
+                                        Map<String, String> metricObject, boolean runtimeLayerDetected) throws Exception {
         try {
+            IntervalResults intervalResults;
+            HashMap<AnalyzerConstants.MetricName, MetricResults> resMap;
+            MetricResults metricResults;
+            MetricAggregationInfoResults metricAggregationInfoResults;
             if (dataResultsMap.containsKey(eTime)) {
                 intervalResults = dataResultsMap.get(eTime);
                 resMap = intervalResults.getMetricResultsMap();
@@ -1859,8 +1709,7 @@ public class RecommendationEngine implements RecommendationEngineService {
                 LOGGER.warn("Skipped JVM info metric metadata extraction - runtimeLayerDetected={}, metricObject={}", runtimeLayerDetected, metricObject != null);
                 // Do not add to resMap when metadata extraction skipped
             } else {
-                Method method = MetricAggregationInfoResults.class.getDeclaredMethod(KruizeConstants.APIMessages.SET + aggregationFunctionsEntry.getKey().substring(0, 1).toUpperCase() + aggregationFunctionsEntry.getKey().substring(1), Double.class);
-                method.invoke(metricAggregationInfoResults, value);
+                aggregationFunctionSetter.set(metricAggregationInfoResults, value);
                 metricAggregationInfoResults.setFormat(format);
                 metricResults.setAggregationInfoResult(metricAggregationInfoResults);
                 metricResults.setName(metricEntry.getName());
@@ -1876,26 +1725,234 @@ public class RecommendationEngine implements RecommendationEngineService {
                     / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
                     * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
             dataResultsMap.put(eTime, intervalResults);
-            sTime = eTime;
         } catch (Exception e) {
             e.printStackTrace();
             throw new Exception(AnalyzerErrorConstants.APIErrors.UpdateRecommendationsAPI.METRIC_EXCEPTION + e.getMessage());
         }
     }
 
-    private String getAsStringOrDefault(JsonObject metricObject, String key, String defaultVal) {
-        if (metricObject == null || !metricObject.has(key) || metricObject.get(key).isJsonNull()) {
-            return defaultVal;
-        }
-        try {
-            return metricObject.get(key).getAsString();
-        } catch (Exception e) {
+    private String getAsStringOrDefault(Map<String, String> metricObject, String key, String defaultVal) {
+        if (metricObject == null || null == metricObject.get(key)) {
             return defaultVal;
         }
+        return metricObject.get(key);
+    }
+
+    /**
+     * Streams an Accelerator metric query and prepares the accelerator interval results of the container,
+     * only the series of the Accelerator attached to the container are processed
+     */
+    private void streamAcceleratorMetrics(GenericRestApiClient client, ContainerData containerData,
+                                          HashMap<Timestamp, IntervalResults> containerDataResults, AnalyzerConstants.DeviceType deviceType,
+                                          boolean isAcceleratorPartitionMetric, long interval_start_time_epoc, Metric metricEntry,
+                                          AggregationFunctionSetter aggregationFunctionSetter, String format) throws Exception {
+        client.streamMetrics(KruizeConstants.APIMessages.GET, "", new PrometheusSampleConsumer() {
+            private NvidiaAcceleratorDeviceData containerAcceleratorDeviceData;
+            private NvidiaAcceleratorDeviceData acceleratorDeviceData;
+            private Timestamp sTime;
+            // accelerator samples only attach to existing intervals, so the index stays valid for the whole query
+            private final IntervalResultsTimeIndex timeIndex = IntervalResultsTimeIndex.of(containerDataResults);
+
+            @Override
+            public boolean acceptSeries(int seriesIndex, Map<String, String> labels) {
+                String modelName = labels.get(KruizeConstants.JSONKeys.MODEL_NAME);
+                // Set the data only for the container Accelerator device
+                if (null == modelName || modelName.isEmpty())
+                    return false;
+
+                ArrayList<DeviceDetails> deviceDetails = containerData.getContainerDeviceList().getDevices(deviceType);
+                // Continuing to next series
+                // All other series will also fail as there is no Accelerator attached
+                // TODO: Needs a check to figure out why devicelist is empty if is Accelerator detected is true
+                if (null == deviceDetails || deviceDetails.isEmpty())
+                    return false;
+
+                // Assuming only one MIG supported Accelerator is attached
+                // Needs to be changed when you support multiple Accelerator's
+                // Same changes need to be applied at the time of adding the device in
+                // DeviceHandler
+                containerAcceleratorDeviceData = (NvidiaAcceleratorDeviceData) deviceDetails.get(0);
+
+                // Skip non-matching Accelerator entries
+                if (!modelName.equalsIgnoreCase(containerAcceleratorDeviceData.getModelName()))
+                    return false;
+
+                acceleratorDeviceData = new NvidiaAcceleratorDeviceData(modelName,
+                        labels.get(KruizeConstants.JSONKeys.HOSTNAME),
+                        labels.get(KruizeConstants.JSONKeys.UUID),
+                        labels.get(KruizeConstants.JSONKeys.DEVICE),
+                        containerAcceleratorDeviceData.getProfile(),
+                        true, containerAcceleratorDeviceData.isPartition());
+                sTime = new Timestamp(interval_start_time_epoc);
+                return true;
+            }
+
+            @Override
+            public void accept(int seriesIndex, Map<String, String> labels, long epochTime, double value) throws Exception {
+                // Currently only supports 40GB GPU's needs to be made dynamic based on card memory
+                if (isAcceleratorPartitionMetric) {
+                    double cardFrameBuffer = RecommendationUtils.getFrameBufferBasedOnModel(containerAcceleratorDeviceData.getModelName());
+                    if (cardFrameBuffer > 0)
+                        value = (value / cardFrameBuffer) * 100;
+                }
+                Timestamp tempTime = new Timestamp(epochTime * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
+                Timestamp eTime = RecommendationUtils.getNearestTimestamp(timeIndex,
+                        tempTime,
+                        AnalyzerConstants.AcceleratorConstants.AcceleratorMetricConstants.TIMESTAMP_RANGE_CHECK_IN_MINUTES);
+
+                // containerDataResults are empty so will use the prometheus timestamp
+                if (null == eTime) {
+                    // Skipping entry, as inconsistency with CPU & memory records may provide null pointer while accessing metric results
+                    // TODO: Need to seperate the data records of CPU and memory based on exporter
+                    // TODO: Perform recommendation generation by stitching the outcome
+                    return;
+                }
+
+                // Prepare interval results
+                IntervalResults intervalResults;
+                HashMap<AnalyzerConstants.MetricName, AcceleratorMetricResult> acceleratorMetricResultHashMap;
+                if (containerDataResults.containsKey(eTime)) {
+                    intervalResults = containerDataResults.get(eTime);
+                    acceleratorMetricResultHashMap = intervalResults.getAcceleratorMetricResultHashMap();
+                    if (null == acceleratorMetricResultHashMap)
+                        acceleratorMetricResultHashMap = new HashMap<>();
+                } else {
+                    intervalResults = new IntervalResults();
+                    acceleratorMetricResultHashMap = new HashMap<>();
+                }
+                AnalyzerConstants.MetricName metricName = AnalyzerConstants.MetricName.valueOf(metricEntry.getName());
+                MetricResults metricResults;
+                MetricAggregationInfoResults metricAggregationInfoResults;
+                if (acceleratorMetricResultHashMap.containsKey(metricName)) {
+                    metricResults = acceleratorMetricResultHashMap.get(metricName).getMetricResults();
+                    metricAggregationInfoResults = metricResults.getAggregationInfoResult();
+                } else {
+                    metricResults = new MetricResults();
+                    metricAggregationInfoResults = new MetricAggregationInfoResults();
+                }
+                aggregationFunctionSetter.set(metricAggregationInfoResults, value);
+                metricAggregationInfoResults.setFormat(format);
+                metricResults.setAggregationInfoResult(metricAggregationInfoResults);
+                metricResults.setName(String.valueOf(metricName));
+                metricResults.setFormat(format);
+                AcceleratorMetricResult acceleratorMetricResult = new AcceleratorMetricResult(acceleratorDeviceData, metricResults);
+                acceleratorMetricResultHashMap.put(metricName, acceleratorMetricResult);
+                intervalResults.setAcceleratorMetricResultHashMap(acceleratorMetricResultHashMap);
+                intervalResults.setIntervalStartTime(sTime);  //Todo this will change
+                intervalResults.setIntervalEndTime(eTime);
+                intervalResults.setDurationInMinutes((double) ((eTime.getTime() - sTime.getTime())
+                        / ((long) KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE
+                        * KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC)));
+                containerDataResults.put(eTime, intervalResults);
+                sTime = eTime;
+            }
+        });
+    }
+
+    /**
+     * Runs the max date query set on the client and returns the timestamp of its first sample
+     *
+     * @param client client with the max date query url set
+     * @return max date in epoch seconds, null if the query returned no data
+     */
+    private Long fetchMaxDateEpochSeconds(GenericRestApiClient client) throws Exception {
+        long[] maxDate = new long[1];
+        boolean[] found = new boolean[1];
+        client.streamMetrics(KruizeConstants.APIMessages.GET, "", new PrometheusSampleConsumer() {
+            @Override
+            public boolean acceptSeries(int seriesIndex, Map<String, String> labels) {
+                return seriesIndex == 0;
+            }
+
+            @Override
+            public void accept(int seriesIndex, Map<String, String> labels, long epochSeconds, double value) {
+                if (!found[0]) {
+                    maxDate[0] = epochSeconds;
+                    found[0] = true;
+                }
+            }
+        });
+        return found[0] ? maxDate[0] : null;
     }
 
 
 
+    /**
+     * Buffers the samples of the first series of a container metric query until it is merged into the interval results
+     */
+    private static class MetricSeriesSamples implements PrometheusSampleConsumer {
+        private final Metric metricEntry;
+        private final AggregationFunctionSetter aggregationFunctionSetter;
+        private final String format;
+        private Map<String, String> labels;
+        private long[] epochs = new long[64];
+        private double[] values = new double[64];
+        private int size;
+        private boolean empty;
+
+        private MetricSeriesSamples(Metric metricEntry, AggregationFunctionSetter aggregationFunctionSetter, String format) {
+            this.metricEntry = metricEntry;
+            this.aggregationFunctionSetter = aggregationFunctionSetter;
+            this.format = format;
+        }
+
+        @Override
+        public boolean acceptSeries(int seriesIndex, Map<String, String> labels) {
+            if (seriesIndex != 0)
+                return false;
+            this.labels = labels;
+            // Log Prometheus response for JVM info metrics to debug metadata extraction
+            if (JVM_INFO_METRICS.contains(metricEntry.getName())) {
+                LOGGER.debug("JVM info metric labels: runtime={}, vendor={}, version={}",
+                        labels.getOrDefault(AnalyzerConstants.RUNTIME, "absent"),
+                        labels.getOrDefault(AnalyzerConstants.VENDOR, "absent"),
+                        labels.getOrDefault(AnalyzerConstants.VERSION, "absent"));
+            }
+            return true;
+        }
+
+        @Override
+        public void accept(int seriesIndex, Map<String, String> labels, long epochSeconds, double value) {
+            if (size == epochs.length) {
+                epochs = Arrays.copyOf(epochs, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            epochs[size] = epochSeconds;
+            values[size] = value;
+            size++;
+        }
+
+        private boolean isEmpty() {
+            return empty;
+        }
+
+        private void setEmpty(boolean empty) {
+            this.empty = empty;
+        }
+    }
+
+    /**
+     * Accelerator metric query of a container, run once the other metrics of the container are merged
+     */
+    private static class AcceleratorMetricQuery {
+        private final String metricsUrl;
+        private final Metric metricEntry;
+        private final AggregationFunctionSetter aggregationFunctionSetter;
+        private final String format;
+        private final AnalyzerConstants.DeviceType deviceType;
+        private final boolean isPartitionMetric;
+
+        private AcceleratorMetricQuery(String metricsUrl, Metric metricEntry, AggregationFunctionSetter aggregationFunctionSetter,
+                                       String format, AnalyzerConstants.DeviceType deviceType, boolean isPartitionMetric) {
+            this.metricsUrl = metricsUrl;
+            this.metricEntry = metricEntry;
+            this.aggregationFunctionSetter = aggregationFunctionSetter;
+            this.format = format;
+            this.deviceType = deviceType;
+            this.isPartitionMetric = isPartitionMetric;
+        }
+    }
+
     /**
      * Filters out maxDateQuery and includes metrics based on the experiment type and kubernetes_object
      *
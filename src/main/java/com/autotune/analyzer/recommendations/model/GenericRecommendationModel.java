@@ -17,15 +17,12 @@ import com.autotune.common.data.result.IntervalResults;
 
 import com.autotune.common.utils.CommonUtils;
 import com.autotune.utils.KruizeConstants;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Timestamp;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Function;
 
 import static com.autotune.analyzer.recommendations.RecommendationConstants.RecommendationValueConstants.*;
 
@@ -70,17 +67,14 @@ public class GenericRecommendationModel implements RecommendationModel{
 
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
-        JSONArray cpuUsageList = getCPUUsageList(filteredResultsMap);
-
-        // Extract "max" values from cpuUsageList
-        List<Double> cpuMaxValues = getCPUMaxValues(cpuUsageList);
+        IntervalUsageValues cpuUsageValues = fillCPUUsage(filteredResultsMap, new IntervalUsageValues(filteredResultsMap.size()));
 
         Double cpuRequest = 0.0;
-        Double cpuRequestMax = Collections.max(cpuMaxValues);
-        if (null != cpuRequestMax && CPU_ONE_CORE > cpuRequestMax) {
+        double cpuRequestMax = cpuUsageValues.max();
+        if (CPU_ONE_CORE > cpuRequestMax) {
             cpuRequest = cpuRequestMax;
         } else {
-            cpuRequest = CommonUtils.percentile(modelCPUPercentile, cpuMaxValues);
+            cpuRequest = CommonUtils.percentile(modelCPUPercentile, cpuUsageValues.getMaxValues(), cpuUsageValues.size());
         }
 
 
@@ -119,35 +113,23 @@ public class GenericRecommendationModel implements RecommendationModel{
         return recommendationConfigItem;
     }
 
-    public static List<Double> getCPUMaxValues(JSONArray cpuUsageList){
-        List<Double> cpuMaxValues = new ArrayList<>();
-
-        for (int i = 0; i < cpuUsageList.length(); i++) {
-            JSONObject jsonObject = cpuUsageList.getJSONObject(i);
-            double maxValue = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-            cpuMaxValues.add(maxValue);
-        }
-        return cpuMaxValues;
-    }
-
     // helper function common to both cost and performance model hence just taken from there.
-    public static JSONArray getCPUUsageList(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        JSONArray cpuRequestIntervalArray = new JSONArray();
+    public static IntervalUsageValues fillCPUUsage(Map<Timestamp, IntervalResults> filteredResultsMap, IntervalUsageValues cpuUsageValues) {
+        cpuUsageValues.reset(filteredResultsMap.size());
         for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            JSONObject cpuRequestInterval = new JSONObject();
-            Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-            Optional<MetricResults> cpuThrottleResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuThrottle));
-            double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double cpuUsageMax = cpuUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-            double cpuUsageMin = cpuUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-            double cpuThrottleAvg = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double cpuThrottleMax = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double cpuThrottleSum = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-            double cpuThrottleMin = cpuThrottleResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-            Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-            double memUsageAvg = memoryUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double memUsageSum = memoryUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
+            MetricAggregationInfoResults cpuUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.cpuUsage);
+            MetricAggregationInfoResults cpuThrottleResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.cpuThrottle);
+            MetricAggregationInfoResults memoryUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.memoryUsage);
+            double cpuUsageAvg = getValueOrZero(cpuUsageResults, MetricAggregationInfoResults::getAvg);
+            double cpuUsageMax = getValueOrZero(cpuUsageResults, MetricAggregationInfoResults::getMax);
+            double cpuUsageSum = getValueOrZero(cpuUsageResults, MetricAggregationInfoResults::getSum);
+            double cpuUsageMin = getValueOrZero(cpuUsageResults, MetricAggregationInfoResults::getMin);
+            double cpuThrottleAvg = getValueOrZero(cpuThrottleResults, MetricAggregationInfoResults::getAvg);
+            double cpuThrottleMax = getValueOrZero(cpuThrottleResults, MetricAggregationInfoResults::getMax);
+            double cpuThrottleSum = getValueOrZero(cpuThrottleResults, MetricAggregationInfoResults::getSum);
+            double cpuThrottleMin = getValueOrZero(cpuThrottleResults, MetricAggregationInfoResults::getMin);
+            double memUsageAvg = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getAvg);
+            double memUsageSum = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getSum);
 
             double cpuRequestIntervalMax;
             double cpuRequestIntervalMin;
@@ -176,18 +158,13 @@ public class GenericRecommendationModel implements RecommendationModel{
                 cpuRequestIntervalMax = Math.max(cpuUsagePod, cpuUsageTotal);
             }
             double cpuMinTotal = cpuUsageMin + cpuThrottleMin;
-            // traverse over a stream of positive values and find the minimum value
-            cpuRequestIntervalMin = Stream.of(cpuUsagePod, cpuUsageTotal, cpuMinTotal)
-                    .filter(value -> value > 0.0)
-                    .min(Double::compare)
-                    .orElse(0.0);
-
-            cpuRequestInterval.put(KruizeConstants.JSONKeys.MIN, cpuRequestIntervalMin);
-            cpuRequestInterval.put(KruizeConstants.JSONKeys.MAX, cpuRequestIntervalMax);
-            LOGGER.debug("cpuRequestInterval : {}", cpuRequestInterval);
-            cpuRequestIntervalArray.put(cpuRequestInterval);
-        }
-        return cpuRequestIntervalArray;
+            // find the minimum of the positive values
+            cpuRequestIntervalMin = minPositive(cpuUsagePod, cpuUsageTotal, cpuMinTotal);
+
+            LOGGER.debug("cpuRequestInterval : min {}, max {}", cpuRequestIntervalMin, cpuRequestIntervalMax);
+            cpuUsageValues.add(cpuRequestIntervalMax, cpuRequestIntervalMin);
+        }
+        return cpuUsageValues;
     }
 
     // helper function to get format value
@@ -208,6 +185,21 @@ public class GenericRecommendationModel implements RecommendationModel{
         return format;
     }
 
+    // aggregation values of the metric in the interval, null if the interval has none
+    private static MetricAggregationInfoResults getAggregationInfo(IntervalResults intervalResults, AnalyzerConstants.MetricName metricName) {
+        MetricResults metricResults = intervalResults.getMetricResultsMap().get(metricName);
+        return (null == metricResults) ? null : metricResults.getAggregationInfoResult();
+    }
+
+    // value of the aggregation, 0.0 if it is missing as the models treat missing usage as no usage
+    private static double getValueOrZero(MetricAggregationInfoResults aggregationInfoResults, Function<MetricAggregationInfoResults, Double> aggregation) {
+        if (null == aggregationInfoResults) {
+            return 0.0;
+        }
+        Double value = aggregation.apply(aggregationInfoResults);
+        return (null == value) ? 0.0 : value;
+    }
+
     @Override
     public RecommendationConfigItem getMemoryRequestRecommendation(Map<Timestamp, IntervalResults> filteredResultsMap, ArrayList<RecommendationNotification> notifications) {
         boolean setNotification = true;
@@ -218,24 +210,19 @@ public class GenericRecommendationModel implements RecommendationModel{
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
 
-        List<Double> memUsageList = new ArrayList<>();
-        for (IntervalResults intervalResults: filteredResultsMap.values()) {
-            JSONObject jsonObject = calculateMemoryUsage(intervalResults);
-            Double memUsage = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-            memUsageList.add(memUsage);
+        IntervalUsageValues memUsageValues = fillMemoryUsage(filteredResultsMap, new IntervalUsageValues(filteredResultsMap.size()));
+        double[] spikes = new double[filteredResultsMap.size()];
+        int spikeCount = 0;
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            spikes[spikeCount++] = calculateIntervalSpike(intervalResults);
         }
 
-        List<Double> spikeList = filteredResultsMap.values()
-                .stream()
-                .map(GenericRecommendationModel::calculateIntervalSpike)
-                .collect(Collectors.toList());
-
         // Add a buffer to the current usage max
-        Double memRecUsage = CommonUtils.percentile(modelMemoryPercentile, memUsageList);
+        Double memRecUsage = CommonUtils.percentile(modelMemoryPercentile, memUsageValues.getMaxValues(), memUsageValues.size());
         Double memRecUsageBuf = memRecUsage + (memRecUsage * MEM_USAGE_BUFFER_DECIMAL);
 
         // Add a small buffer to the current usage spike max and add it to the current usage max
-        Double memRecSpike = CommonUtils.percentile(modelMemoryPercentile, spikeList);
+        Double memRecSpike = CommonUtils.percentile(modelMemoryPercentile, spikes, spikes.length);
         memRecSpike += (memRecSpike * MEM_SPIKE_BUFFER_DECIMAL);
         Double memRecSpikeBuf = memRecUsage + memRecSpike;
 
@@ -269,17 +256,23 @@ public class GenericRecommendationModel implements RecommendationModel{
 
     // helper functions for getMemoryRequestRecommendation
 
-    public static JSONObject calculateMemoryUsage(IntervalResults intervalResults) {
-        // create a JSON object which should be returned here having two values, Math.max and Collections.Min
-        JSONObject jsonObject = new JSONObject();
-        Optional<MetricResults> cpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.cpuUsage));
-        double cpuUsageAvg = cpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double cpuUsageSum = cpuUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
-        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-        double memUsageAvg = memoryUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-        double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memUsageMin = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-        double memUsageSum = memoryUsageResults.map(m -> m.getAggregationInfoResult().getSum()).orElse(0.0);
+    public static IntervalUsageValues fillMemoryUsage(Map<Timestamp, IntervalResults> filteredResultsMap, IntervalUsageValues memUsageValues) {
+        memUsageValues.reset(filteredResultsMap.size());
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            addMemoryUsage(intervalResults, memUsageValues);
+        }
+        return memUsageValues;
+    }
+
+    private static void addMemoryUsage(IntervalResults intervalResults, IntervalUsageValues memUsageValues) {
+        MetricAggregationInfoResults cpuUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.cpuUsage);
+        MetricAggregationInfoResults memoryUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.memoryUsage);
+        double cpuUsageAvg = getValueOrZero(cpuUsageResults, MetricAggregationInfoResults::getAvg);
+        double cpuUsageSum = getValueOrZero(cpuUsageResults, MetricAggregationInfoResults::getSum);
+        double memUsageAvg = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getAvg);
+        double memUsageMax = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getMax);
+        double memUsageMin = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getMin);
+        double memUsageSum = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getSum);
         double memUsage = 0;
         double numPods = 0;
 
@@ -293,27 +286,20 @@ public class GenericRecommendationModel implements RecommendationModel{
             memUsage = (memUsageSum / numPods);
         }
         memUsageMax = Math.max(memUsage, memUsageMax);
-        // traverse over a stream of positive values and find the minimum value
-
-        memUsageMin = Stream.of(memUsage, memUsageMax, memUsageMin)
-                .filter(value -> value > 0.0)
-                .min(Double::compare)
-                .orElse(0.0);
-
-        jsonObject.put(KruizeConstants.JSONKeys.MIN, memUsageMin);
-        jsonObject.put(KruizeConstants.JSONKeys.MAX, memUsageMax);
+        // find the minimum of the positive values
+        memUsageMin = minPositive(memUsage, memUsageMax, memUsageMin);
 
-        LOGGER.debug("memRequestInterval : {}", jsonObject);
-        return jsonObject;
+        LOGGER.debug("memRequestInterval : min {}, max {}", memUsageMin, memUsageMax);
+        memUsageValues.add(memUsageMax, memUsageMin);
     }
 
     private static double calculateIntervalSpike(IntervalResults intervalResults) {
-        Optional<MetricResults> memoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryUsage));
-        Optional<MetricResults> memoryRSSResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.memoryRSS));
-        double memUsageMax = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memUsageMin = memoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-        double memRSSMax = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double memRSSMin = memoryRSSResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
+        MetricAggregationInfoResults memoryUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.memoryUsage);
+        MetricAggregationInfoResults memoryRSSResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.memoryRSS);
+        double memUsageMax = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getMax);
+        double memUsageMin = getValueOrZero(memoryUsageResults, MetricAggregationInfoResults::getMin);
+        double memRSSMax = getValueOrZero(memoryRSSResults, MetricAggregationInfoResults::getMax);
+        double memRSSMin = getValueOrZero(memoryRSSResults, MetricAggregationInfoResults::getMin);
 
         return Math.max(Math.ceil(memUsageMax - memUsageMin), Math.ceil(memRSSMax - memRSSMin));
     }
@@ -330,17 +316,14 @@ public class GenericRecommendationModel implements RecommendationModel{
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
 
-        JSONArray namespaceCpuUsageList = getNamespaceCPUUsageList(filteredResultsMap);
-
-        // Extract 'max' values from cpuUsageList
-        List<Double> namespaceCpuMaxValues = getCPUMaxValues(namespaceCpuUsageList);
+        IntervalUsageValues namespaceCpuUsageValues = fillNamespaceCPUUsage(filteredResultsMap, new IntervalUsageValues(filteredResultsMap.size()));
 
         Double namespaceCpuRequest = 0.0;
-        Double namespaceCpuRequestMax = Collections.max(namespaceCpuMaxValues);
-        if (null != namespaceCpuRequestMax && CPU_ONE_CORE > namespaceCpuRequestMax) {
+        double namespaceCpuRequestMax = namespaceCpuUsageValues.max();
+        if (CPU_ONE_CORE > namespaceCpuRequestMax) {
             namespaceCpuRequest = namespaceCpuRequestMax;
         } else {
-            namespaceCpuRequest = CommonUtils.percentile(modelCPUPercentile, namespaceCpuMaxValues);
+            namespaceCpuRequest = CommonUtils.percentile(modelCPUPercentile, namespaceCpuUsageValues.getMaxValues(), namespaceCpuUsageValues.size());
         }
 
         if (null == namespaceCpuRequest) {
@@ -378,19 +361,17 @@ public class GenericRecommendationModel implements RecommendationModel{
 
     // helper functions for getCPURequestRecommendationForNamespace
 
-    public static JSONArray getNamespaceCPUUsageList(Map<Timestamp, IntervalResults> filteredResultsMap) {
-        JSONArray namespaceCpuRequestIntervalArray = new JSONArray();
+    public static IntervalUsageValues fillNamespaceCPUUsage(Map<Timestamp, IntervalResults> filteredResultsMap, IntervalUsageValues namespaceCpuUsageValues) {
+        namespaceCpuUsageValues.reset(filteredResultsMap.size());
         for (IntervalResults intervalResults : filteredResultsMap.values()) {
-            JSONObject namespaceCpuRequestInterval = new JSONObject();
-            Optional<MetricResults> namespaceCpuUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceCpuUsage));
-            Optional<MetricResults> namespaceCpuThrottleResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceCpuThrottle));
-
-            double namespaceCpuUsageAvg = namespaceCpuUsageResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double namespaceCpuUsageMax = namespaceCpuUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double namespaceCpuUsageMin = namespaceCpuUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-            double namespaceCpuThrottleAvg = namespaceCpuThrottleResults.map(m -> m.getAggregationInfoResult().getAvg()).orElse(0.0);
-            double namespaceCpuThrottleMax = namespaceCpuThrottleResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-            double namespaceCpuThrottleMin = namespaceCpuThrottleResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
+            MetricAggregationInfoResults namespaceCpuUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.namespaceCpuUsage);
+            MetricAggregationInfoResults namespaceCpuThrottleResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.namespaceCpuThrottle);
+            double namespaceCpuUsageAvg = getValueOrZero(namespaceCpuUsageResults, MetricAggregationInfoResults::getAvg);
+            double namespaceCpuUsageMax = getValueOrZero(namespaceCpuUsageResults, MetricAggregationInfoResults::getMax);
+            double namespaceCpuUsageMin = getValueOrZero(namespaceCpuUsageResults, MetricAggregationInfoResults::getMin);
+            double namespaceCpuThrottleAvg = getValueOrZero(namespaceCpuThrottleResults, MetricAggregationInfoResults::getAvg);
+            double namespaceCpuThrottleMax = getValueOrZero(namespaceCpuThrottleResults, MetricAggregationInfoResults::getMax);
+            double namespaceCpuThrottleMin = getValueOrZero(namespaceCpuThrottleResults, MetricAggregationInfoResults::getMin);
 
             double namespaceCpuRequestIntervalMax;
             double namespaceCpuRequestIntervalMin;
@@ -404,18 +385,13 @@ public class GenericRecommendationModel implements RecommendationModel{
 
             double namespaceCpuMinTotal = namespaceCpuUsageMin + namespaceCpuThrottleMin;
 
-            // traverse over a stream of positive values and find the minimum value
-            namespaceCpuRequestIntervalMin = Stream.of(namespaceCpuUsageTotal, namespaceCpuMinTotal)
-                    .filter(value -> value > 0.0)
-                    .min(Double::compare)
-                    .orElse(0.0);
+            // find the minimum of the positive values
+            namespaceCpuRequestIntervalMin = minPositive(namespaceCpuUsageTotal, namespaceCpuMinTotal);
 
-            namespaceCpuRequestInterval.put(KruizeConstants.JSONKeys.MIN, namespaceCpuRequestIntervalMin);
-            namespaceCpuRequestInterval.put(KruizeConstants.JSONKeys.MAX, namespaceCpuRequestIntervalMax);
-            LOGGER.debug("cpuRequestInterval : {}", namespaceCpuRequestInterval);
-            namespaceCpuRequestIntervalArray.put(namespaceCpuRequestInterval);
+            LOGGER.debug("cpuRequestInterval : min {}, max {}", namespaceCpuRequestIntervalMin, namespaceCpuRequestIntervalMax);
+            namespaceCpuUsageValues.add(namespaceCpuRequestIntervalMax, namespaceCpuRequestIntervalMin);
         }
-        return namespaceCpuRequestIntervalArray;
+        return namespaceCpuUsageValues;
     }
 
 
@@ -430,25 +406,19 @@ public class GenericRecommendationModel implements RecommendationModel{
         RecommendationConfigItem recommendationConfigItem = null;
         String format = "";
 
-        List<Double> namespaceMemUsageList = new ArrayList<>();
-        for (IntervalResults intervalResults: filteredResultsMap.values()) {
-            JSONObject jsonObject = calculateNamespaceMemoryUsage(intervalResults);
-            Double namespaceMemUsage = jsonObject.getDouble(KruizeConstants.JSONKeys.MAX);
-            namespaceMemUsageList.add(namespaceMemUsage);
+        IntervalUsageValues namespaceMemUsageValues = fillNamespaceMemoryUsage(filteredResultsMap, new IntervalUsageValues(filteredResultsMap.size()));
+        double[] spikes = new double[filteredResultsMap.size()];
+        int spikeCount = 0;
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            spikes[spikeCount++] = calculateIntervalSpikeForNamespace(intervalResults);
         }
 
-        List<Double> spikeList = filteredResultsMap.values()
-                .stream()
-                .map(GenericRecommendationModel::calculateIntervalSpikeForNamespace)
-                .collect(Collectors.toList());
-
-
         // Add a buffer to the current usage max
-        Double namespaceMemRecUsage = CommonUtils.percentile(modelMemoryPercentile, namespaceMemUsageList);
+        Double namespaceMemRecUsage = CommonUtils.percentile(modelMemoryPercentile, namespaceMemUsageValues.getMaxValues(), namespaceMemUsageValues.size());
         Double namespaceMemRecUsageBuf = namespaceMemRecUsage + (namespaceMemRecUsage * MEM_USAGE_BUFFER_DECIMAL);
 
         // Add a small buffer to the current usage spike max and add it to the current usage max
-        Double namespaceMemRecSpike = CommonUtils.percentile(modelMemoryPercentile, spikeList);
+        Double namespaceMemRecSpike = CommonUtils.percentile(modelMemoryPercentile, spikes, spikes.length);
         namespaceMemRecSpike += (namespaceMemRecSpike * MEM_SPIKE_BUFFER_DECIMAL);
         Double namespaceMemRecSpikeBuf = namespaceMemRecUsage + namespaceMemRecSpike;
 
@@ -472,37 +442,46 @@ public class GenericRecommendationModel implements RecommendationModel{
     // helper function 1 nsp
 
     private static double calculateIntervalSpikeForNamespace(IntervalResults intervalResults) {
-        Optional<MetricResults> namespaceMemoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceMemoryUsage));
-        Optional<MetricResults> namespaceMemoryRSSResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceMemoryRSS));
-        double namespaceMemUsageMax = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double namespaceMemUsageMin = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
-        double namespaceMemRSSMax = namespaceMemoryRSSResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double namespaceMemRSSMin = namespaceMemoryRSSResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
+        MetricAggregationInfoResults namespaceMemoryUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.namespaceMemoryUsage);
+        MetricAggregationInfoResults namespaceMemoryRSSResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.namespaceMemoryRSS);
+        double namespaceMemUsageMax = getValueOrZero(namespaceMemoryUsageResults, MetricAggregationInfoResults::getMax);
+        double namespaceMemUsageMin = getValueOrZero(namespaceMemoryUsageResults, MetricAggregationInfoResults::getMin);
+        double namespaceMemRSSMax = getValueOrZero(namespaceMemoryRSSResults, MetricAggregationInfoResults::getMax);
+        double namespaceMemRSSMin = getValueOrZero(namespaceMemoryRSSResults, MetricAggregationInfoResults::getMin);
 
         return Math.max(Math.ceil(namespaceMemUsageMax - namespaceMemUsageMin), Math.ceil(namespaceMemRSSMax - namespaceMemRSSMin));
     }
 
     // helper function 2 nsp
-    public static JSONObject calculateNamespaceMemoryUsage(IntervalResults intervalResults) {
-        // create a JSON object which should be returned here having two values, Math.max and Collections.Min
-        JSONObject jsonObject = new JSONObject();
-
-        Optional<MetricResults> namespaceMemoryUsageResults = Optional.ofNullable(intervalResults.getMetricResultsMap().get(AnalyzerConstants.MetricName.namespaceMemoryUsage));
+    public static IntervalUsageValues fillNamespaceMemoryUsage(Map<Timestamp, IntervalResults> filteredResultsMap, IntervalUsageValues namespaceMemUsageValues) {
+        namespaceMemUsageValues.reset(filteredResultsMap.size());
+        for (IntervalResults intervalResults : filteredResultsMap.values()) {
+            MetricAggregationInfoResults namespaceMemoryUsageResults = getAggregationInfo(intervalResults, AnalyzerConstants.MetricName.namespaceMemoryUsage);
+            double namespaceMemUsageMax = getValueOrZero(namespaceMemoryUsageResults, MetricAggregationInfoResults::getMax);
+            double namespaceMemUsageMin = getValueOrZero(namespaceMemoryUsageResults, MetricAggregationInfoResults::getMin);
 
-        double namespaceMemUsageMax = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMax()).orElse(0.0);
-        double namespaceMemUsageMin = namespaceMemoryUsageResults.map(m -> m.getAggregationInfoResult().getMin()).orElse(0.0);
+            // find the minimum of the positive values
+            namespaceMemUsageMin = minPositive(namespaceMemUsageMax, namespaceMemUsageMin);
 
-        // traverse over a stream of positive values and find the minimum value
-        namespaceMemUsageMin = Stream.of(namespaceMemUsageMax, namespaceMemUsageMin)
-                .filter(value -> value > 0.0)
-                .min(Double::compare)
-                .orElse(0.0);
+            LOGGER.debug("memRequestInterval : min {}, max {}", namespaceMemUsageMin, namespaceMemUsageMax);
+            namespaceMemUsageValues.add(namespaceMemUsageMax, namespaceMemUsageMin);
+        }
+        return namespaceMemUsageValues;
+    }
 
-        jsonObject.put(KruizeConstants.JSONKeys.MIN, namespaceMemUsageMin);
-        jsonObject.put(KruizeConstants.JSONKeys.MAX, namespaceMemUsageMax);
+    // smallest of the values that are greater than zero, 0.0 if there is none
+    private static double minPositive(double first, double second) {
+        if (first > 0.0 && second > 0.0) {
+            return Math.min(first, second);
+        }
+        if (first > 0.0) {
+            return first;
+        }
+        return (second > 0.0) ? second : 0.0;
+    }
 
-        LOGGER.debug("memRequestInterval : {}", jsonObject);
-        return jsonObject;
+    private static double minPositive(double first, double second, double third) {
+        return minPositive(minPositive(first, second), third);
     }
 
 
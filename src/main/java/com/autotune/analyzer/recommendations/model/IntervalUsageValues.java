@@ -0,0 +1,79 @@
+package com.autotune.analyzer.recommendations.model;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Max and min usage of every interval of a results range, kept in primitive arrays.
+ * <p>
+ * Filled by the usage helpers of {@link GenericRecommendationModel}, the arrays are only grown and can be
+ * reused across ranges, e.g. for every datapoint of the box plots. Values past {@link #size()} are stale.
+ */
+public class IntervalUsageValues {
+    private double[] maxValues;
+    private double[] minValues;
+    private int size;
+
+    public IntervalUsageValues() {
+        this(0);
+    }
+
+    public IntervalUsageValues(int capacity) {
+        this.maxValues = new double[capacity];
+        this.minValues = new double[capacity];
+    }
+
+    /**
+     * Empties the values and makes room for the given number of intervals
+     */
+    void reset(int capacity) {
+        if (maxValues.length < capacity) {
+            maxValues = new double[capacity];
+            minValues = new double[capacity];
+        }
+        size = 0;
+    }
+
+    void add(double maxValue, double minValue) {
+        maxValues[size] = maxValue;
+        minValues[size] = minValue;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the backing array of the max values, only the first {@link #size()} values are valid
+     */
+    public double[] getMaxValues() {
+        return maxValues;
+    }
+
+    /**
+     * Returns the backing array of the min values, only the first {@link #size()} values are valid
+     */
+    public double[] getMinValues() {
+        return minValues;
+    }
+
+    /**
+     * Returns the highest of the max values
+     *
+     * @throws NoSuchElementException if there are no values
+     */
+    public double max() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        double max = maxValues[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, maxValues[i]);
+        }
+        return max;
+    }
+}
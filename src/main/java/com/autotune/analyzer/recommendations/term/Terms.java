@@ -3,6 +3,7 @@ package com.autotune.analyzer.recommendations.term;
 import com.autotune.analyzer.recommendations.objects.TermRecommendations;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsTimeIndex;
 import com.autotune.common.data.result.NamespaceData;
 import com.autotune.utils.KruizeConstants;
 import org.slf4j.Logger;
@@ -85,17 +86,17 @@ public class Terms {
         LocalDateTime monitoringStartDateTime = monitoringEndTime.toLocalDateTime().minusDays(term.days);
 
         double durationInSeconds = measurementDuration * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE;
+        // Sorted interval end times, so every step is a binary search instead of a scan of all the results
+        IntervalResultsTimeIndex timeIndex = IntervalResultsTimeIndex.of(containerData.getResults());
             try {
                 for (LocalDateTime current = monitoringEndTime.toLocalDateTime(); current.isAfter(monitoringStartDateTime); current = current.minusSeconds((long) durationInSeconds)) {
                     Timestamp currentTimestamp = Timestamp.valueOf(current);
 
                     // Check if the current timestamp exists in the resultsMap or within the tolerance range
-                    Double diffInSec = getTimestampWithinTolerance(currentTimestamp, containerData.getResults().keySet(), thresholdInMillis);
-                    if (containerData.getResults().containsKey(currentTimestamp) || diffInSec != null) {
+                    Double diffInSec = getTimestampWithinTolerance(currentTimestamp, timeIndex, thresholdInMillis);
+                    if (diffInSec != null) {
                         // If there's a change in the timestamp within the threshold value, add the difference in the duration
-                        if (diffInSec != null) {
-                            durationInSeconds += diffInSec;
-                        }
+                        durationInSeconds += diffInSec;
                         sum += measurementDuration;
                     }
                 }
@@ -133,17 +134,17 @@ public class Terms {
         LocalDateTime monitoringStartDateTime = monitoringEndTime.toLocalDateTime().minusDays(term.days);
 
         double durationInSeconds = measurementDuration * KruizeConstants.TimeConv.NO_OF_SECONDS_PER_MINUTE;
+        // Sorted interval end times, so every step is a binary search instead of a scan of all the results
+        IntervalResultsTimeIndex timeIndex = IntervalResultsTimeIndex.of(namespaceData.getResults());
         try {
             for (LocalDateTime current = monitoringEndTime.toLocalDateTime(); current.isAfter(monitoringStartDateTime); current = current.minusSeconds((long) durationInSeconds)) {
                 Timestamp currentTimestamp = Timestamp.valueOf(current);
 
                 // Check if the current timestamp exists in the resultsMap or within the tolerance range
-                Double diffInSec = getTimestampWithinTolerance(currentTimestamp, namespaceData.getResults().keySet(), thresholdInMillis);
-                if (namespaceData.getResults().containsKey(currentTimestamp) || diffInSec != null) {
+                Double diffInSec = getTimestampWithinTolerance(currentTimestamp, timeIndex, thresholdInMillis);
+                if (diffInSec != null) {
                     // If there's a change in the timestamp within the threshold value, add the difference in the duration
-                    if (diffInSec != null) {
-                        durationInSeconds += diffInSec;
-                    }
+                    durationInSeconds += diffInSec;
                     sum += measurementDuration;
                 }
             }
@@ -189,14 +190,13 @@ public class Terms {
         mappedRecommendationForTerm.setDurationInHrs(durationSummationInHours);
     }
 
-    private static Double getTimestampWithinTolerance(Timestamp currentTimestamp, Set<Timestamp> timestamps, long toleranceInMillis) {
-        for (Timestamp timestamp : timestamps) {
-            long timeDiff = currentTimestamp.getTime() - timestamp.getTime();
-            if (Math.abs(timeDiff) <= toleranceInMillis) {
-                return (double) ((timeDiff)/KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
-            }
+    private static Double getTimestampWithinTolerance(Timestamp currentTimestamp, IntervalResultsTimeIndex timeIndex, long toleranceInMillis) {
+        Timestamp timestamp = timeIndex.getNearest(currentTimestamp.getTime(), toleranceInMillis);
+        if (null == timestamp) {
+            return null;
         }
-        return null;
+        long timeDiff = currentTimestamp.getTime() - timestamp.getTime();
+        return (double) ((timeDiff)/KruizeConstants.TimeConv.NO_OF_MSECS_IN_SEC);
     }
 
     public static double getDurationSummation(ContainerData containerData) {
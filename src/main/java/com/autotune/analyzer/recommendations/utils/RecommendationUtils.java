@@ -10,6 +10,7 @@ import com.autotune.common.data.metrics.MetricMetadataResults;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.data.result.IntervalResultsTimeIndex;
 import com.autotune.common.data.system.info.device.ContainerDeviceList;
 import com.autotune.common.data.system.info.device.accelerator.NvidiaAcceleratorDeviceData;
 import com.autotune.common.data.system.info.device.accelerator.metadata.AcceleratorMetaDataService;
@@ -416,24 +417,16 @@ public class RecommendationUtils {
     }
 
     public static Timestamp getNearestTimestamp(HashMap<Timestamp, IntervalResults> containerDataResults, Timestamp targetTime, int minutesRange) {
-        long rangeInMillis = (long) minutesRange * 60 * 1000;
-        long targetTimeMillis = targetTime.getTime();
-
-        Timestamp nearestTimestamp = null;
-        long nearestDistance = Long.MAX_VALUE;
-
-        for (Map.Entry<Timestamp, IntervalResults> entry : containerDataResults.entrySet()) {
-            Timestamp currentTimestamp = entry.getKey();
-            long currentTimeMillis = currentTimestamp.getTime();
-            long distance = Math.abs(targetTimeMillis - currentTimeMillis);
-
-            if (distance <= rangeInMillis && distance < nearestDistance) {
-                nearestDistance = distance;
-                nearestTimestamp = currentTimestamp;
-            }
-        }
+        return getNearestTimestamp(IntervalResultsTimeIndex.of(containerDataResults), targetTime, minutesRange);
+    }
 
-        return nearestTimestamp;
+    /**
+     * Returns the interval end time nearest to the target time within the range, using a prebuilt index
+     * of the container results so that repeated lookups do not scan all the results
+     */
+    public static Timestamp getNearestTimestamp(IntervalResultsTimeIndex timeIndex, Timestamp targetTime, int minutesRange) {
+        long rangeInMillis = (long) minutesRange * 60 * 1000;
+        return timeIndex.getNearest(targetTime.getTime(), rangeInMillis);
     }
 
     public static HashMap<AnalyzerConstants.RecommendationItem, RecommendationConfigItem> getMapWithOptimalProfile(
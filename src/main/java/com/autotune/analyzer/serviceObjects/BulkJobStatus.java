@@ -16,16 +16,28 @@
 package com.autotune.analyzer.serviceObjects;
 
 import com.autotune.analyzer.exceptions.KruizeResponse;
+import com.autotune.analyzer.services.GenerateRecommendations;
 import com.autotune.common.data.dataSourceMetadata.DataSourceMetadataInfo;
+import com.autotune.database.helper.JsonTreeConverter;
 import com.autotune.database.table.lm.KruizeBulkJobEntry;
+import com.autotune.database.table.lm.KruizeBulkJobExperimentEntry;
 import com.autotune.utils.KruizeConstants;
 import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -181,6 +193,35 @@ public class BulkJobStatus {
         return kruizeBulkJobEntry;
     }
 
+    /**
+     * Builds the DB entry of one experiment of the job
+     *
+     * @param experiment      experiment of the job
+     * @param experimentsToDB experiment fields to store, in the format of job_filter_to_db e.g. "experiments|status|apis"
+     * @return KruizeBulkJobExperimentEntry of the experiment, null if the experiments are not stored
+     */
+    public KruizeBulkJobExperimentEntry getBulkJobExperimentForDB(Experiment experiment, String experimentsToDB) throws Exception {
+        if (null == experimentsToDB || !experimentsToDB.startsWith(EXPERIMENTS)) {
+            return null;
+        }
+        SimpleFilterProvider filters = new SimpleFilterProvider();
+        if (experimentsToDB.startsWith(EXPERIMENTS + "|")) {
+            filters.addFilter(EXPERIMENTS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(new HashSet<>(Arrays.asList(experimentsToDB.split("\\|")))));
+        } else {
+            filters.addFilter(EXPERIMENTS_FILTER, SimpleBeanPropertyFilter.serializeAll());
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.setFilterProvider(filters);
+        return new KruizeBulkJobExperimentEntry(getSummary().getJobID(),
+                experiment.getName(),
+                String.valueOf(experiment.getStatus()),
+                mapper.writeValueAsString(experiment.getNotifications()),
+                mapper.writeValueAsString(experiment),
+                new Timestamp(System.currentTimeMillis())
+        );
+    }
+
     public static enum NotificationType {
         ERROR("error"),
         WARNING("warning"),
@@ -422,6 +463,7 @@ public class BulkJobStatus {
             return Optional.empty();
         }
 
+        @JsonSerialize(using = RecommendationsResponseSerializer.class)
         public Object getResponse() {
             return response;
         }
@@ -433,6 +475,24 @@ public class BulkJobStatus {
 
     }
 
+    /**
+     * Writes the recommendations generated in process with the Gson of the generateRecommendations API, so the
+     * job status has the same JSON as for the recommendations parsed from the API response
+     */
+    public static class RecommendationsResponseSerializer extends JsonSerializer<Object> {
+        private static final Gson RECOMMENDATIONS_GSON = GenerateRecommendations.createRecommendationsGson(false);
+
+        @Override
+        public void serialize(Object response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (response instanceof List<?> recommendations && !recommendations.isEmpty()
+                    && recommendations.get(0) instanceof ListRecommendationsAPIObject) {
+                provider.defaultSerializeValue(JsonTreeConverter.toJsonNode(RECOMMENDATIONS_GSON, recommendations), gen);
+            } else {
+                provider.defaultSerializeValue(response, gen);
+            }
+        }
+    }
+
     @JsonFilter(EXPERIMENTS_FILTER)
     public static class Experiment {
 
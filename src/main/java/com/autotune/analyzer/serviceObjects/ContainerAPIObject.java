@@ -32,6 +32,19 @@ public class ContainerAPIObject {
 
     }
 
+    /**
+     * Copies the container, the layers detected for the copy do not change the container copied
+     *
+     * @param other container to copy
+     */
+    public ContainerAPIObject(ContainerAPIObject other) {
+        this.container_image_name = other.container_image_name;
+        this.container_name = other.container_name;
+        this.containerRecommendations = other.containerRecommendations;
+        this.layerMap = other.layerMap;
+        this.metrics = other.metrics;
+    }
+
     public String getContainer_image_name() {
         return container_image_name;
     }
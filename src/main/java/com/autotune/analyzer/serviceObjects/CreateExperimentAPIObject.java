@@ -27,6 +27,7 @@ import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -67,6 +68,38 @@ public class CreateExperimentAPIObject extends BaseSO implements ExperimentTypeA
     public CreateExperimentAPIObject() {
     }
 
+    /**
+     * Copies the experiment, with its own kubernetes objects and containers. The settings of the experiment are
+     * shared with the copy.
+     *
+     * @param other experiment to copy
+     */
+    public CreateExperimentAPIObject(CreateExperimentAPIObject other) {
+        setApiVersion(other.getApiVersion());
+        setExperimentName(other.getExperimentName());
+        this.clusterName = other.clusterName;
+        this.performanceProfile = other.performanceProfile;
+        this.metadataProfile = other.metadataProfile;
+        this.sloInfo = other.sloInfo;
+        this.mode = other.mode;
+        this.targetCluster = other.targetCluster;
+        if (null != other.kubernetesAPIObjects) {
+            this.kubernetesAPIObjects = new ArrayList<>(other.kubernetesAPIObjects.size());
+            for (KubernetesAPIObject kubernetesAPIObject : other.kubernetesAPIObjects) {
+                this.kubernetesAPIObjects.add(null == kubernetesAPIObject ? null : new KubernetesAPIObject(kubernetesAPIObject));
+            }
+        }
+        this.trialSettings = other.trialSettings;
+        this.recommendationSettings = other.recommendationSettings;
+        this.datasource = other.datasource;
+        this.experimentType = other.experimentType;
+        this.status = other.status;
+        this.experiment_id = other.experiment_id;
+        this.validationData = other.validationData;
+        this.creationDate = other.creationDate;
+        this.updateDate = other.updateDate;
+    }
+
     public String getClusterName() {
         return clusterName;
     }
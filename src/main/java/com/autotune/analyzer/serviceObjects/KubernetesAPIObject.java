@@ -19,6 +19,7 @@ import com.autotune.utils.KruizeConstants;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.annotations.SerializedName;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -43,6 +44,24 @@ public class KubernetesAPIObject {
 
     }
 
+    /**
+     * Copies the kubernetes object, with its own containers
+     *
+     * @param other kubernetes object to copy
+     */
+    public KubernetesAPIObject(KubernetesAPIObject other) {
+        this.type = other.type;
+        this.name = other.name;
+        this.namespace = other.namespace;
+        if (null != other.containerAPIObjects) {
+            this.containerAPIObjects = new ArrayList<>(other.containerAPIObjects.size());
+            for (ContainerAPIObject containerAPIObject : other.containerAPIObjects) {
+                this.containerAPIObjects.add(null == containerAPIObject ? null : new ContainerAPIObject(containerAPIObject));
+            }
+        }
+        this.namespaceAPIObject = other.namespaceAPIObject;
+    }
+
     // getters and setters
 
     public String getType() {
@@ -69,7 +69,7 @@ public class PerformanceProfileValidator implements ConstraintValidator<Performa
             }
 
             // validate the results value present in the updateResultsAPIObject
-            List<String> errorMsg = PerformanceProfileUtil.validateResults(performanceProfile, updateResultsAPIObject);
+            List<String> errorMsg = PerformanceProfileUtil.validateResults(PerformanceProfileCache.getValidationPlan(performanceProfile), updateResultsAPIObject);
             if (errorMsg.isEmpty()) {
                 success = true;
             } else {
@@ -94,7 +94,7 @@ public class PerformanceProfileValidator implements ConstraintValidator<Performa
                     }
                     
                     // validate the result value present in the updateResultsAPIObject
-                    errorMsg = PerformanceProfileUtil.validateResults(performanceProfile, updateResultsAPIObject);
+                    errorMsg = PerformanceProfileUtil.validateResults(PerformanceProfileCache.getValidationPlan(performanceProfile), updateResultsAPIObject);
                     if (errorMsg.isEmpty()) {
                         success = true;
                     } else {
@@ -15,22 +15,29 @@
  *******************************************************************************/
 package com.autotune.analyzer.services;
 
+import com.autotune.analyzer.kruizeObject.KruizeObject;
 import com.autotune.analyzer.serviceObjects.BulkInput;
 import com.autotune.analyzer.serviceObjects.BulkJobStatus;
+import com.autotune.analyzer.serviceObjects.Converters;
+import com.autotune.analyzer.serviceObjects.ListRecommendationsAPIObject;
 import com.autotune.analyzer.workerimpl.BulkJobManager;
+import com.autotune.analyzer.workerimpl.BulkJobScheduler;
 import com.autotune.common.bulk.BulkServiceValidation;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.database.dao.ExperimentDAO;
 import com.autotune.database.dao.ExperimentDAOImpl;
+import com.autotune.database.helper.JsonTreeConverter;
+import com.autotune.database.service.ExperimentDBService;
 import com.autotune.database.table.lm.KruizeBulkJobEntry;
+import com.autotune.database.table.lm.KruizeBulkJobExperimentEntry;
 import com.autotune.operator.KruizeDeploymentInfo;
-import com.autotune.utils.GenericRestApiClient;
 import com.autotune.utils.MetricsConfig;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.google.gson.Gson;
 import io.micrometer.core.instrument.Timer;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -43,13 +50,9 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static com.autotune.analyzer.utils.AnalyzerConstants.ServiceConstants.*;
 import static com.autotune.utils.KruizeConstants.KRUIZE_BULK_API.*;
@@ -61,8 +64,12 @@ import static com.autotune.utils.KruizeConstants.KRUIZE_BULK_API.*;
 public class BulkService extends HttpServlet {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(BulkService.class);
+    private static final Gson RECOMMENDATIONS_GSON = GenerateRecommendations.createRecommendationsGson(false);
     private static Map<String, BulkJobStatus> jobStatusMap = new ConcurrentHashMap<>();
-    private ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+    // shared by the filter writers, so the serializers of BulkJobStatus are only built once
+    private static final ObjectMapper FILTER_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
     /**
      * Filters the JSON representation of a BulkJobStatus object based on the specified include and exclude fields.
@@ -79,11 +86,44 @@ public class BulkService extends HttpServlet {
      * @throws Exception If there is an error during JSON processing.
      */
     public static String filterJson(BulkJobStatus jsonInput, Set<String> includeFields, Set<String> excludeFields, String experiment_name) throws Exception {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        return filterJson(getFilterWriter(includeFields, excludeFields), jsonInput, experiment_name);
+    }
+
+    /**
+     * Serializes the experiments of the BulkJobStatus matching the experiment name with a writer of
+     * {@link #getFilterWriter(Set, Set)}
+     *
+     * @param filterWriter    writer applying the include and exclude fields
+     * @param jsonInput       The BulkJobStatus object to be filtered and serialized to JSON.
+     * @param experiment_name The experiment name, used for copying relevant data in jsonInput.
+     * @return A JSON string representation of the filtered BulkJobStatus object.
+     * @throws Exception If there is an error during JSON processing.
+     */
+    public static String filterJson(ObjectWriter filterWriter, BulkJobStatus jsonInput, String experiment_name) throws Exception {
+        // the copied experiments are shared by the callers of the job, copy and write them at once
+        synchronized (jsonInput) {
+            try {
+                jsonInput.copyByPattern(experiment_name);
+            } catch (Exception e) {
+                LOGGER.error("Not able to filter experiments due to {}", e.getMessage());
+                e.printStackTrace();
+            }
+            return filterWriter.writeValueAsString(jsonInput);
+        }
+    }
+
+    /**
+     * Builds the writer of the BulkJobStatus JSON for the include and exclude fields, see
+     * {@link #filterJson(BulkJobStatus, Set, Set, String)}. The writer is immutable and can be reused for
+     * every job and experiment with the same fields.
+     *
+     * @param includeFields fields to be included in the JSON output
+     * @param excludeFields fields to be excluded from the JSON output if includeFields is empty
+     * @return ObjectWriter applying the fields
+     */
+    public static ObjectWriter getFilterWriter(Set<String> includeFields, Set<String> excludeFields) {
         SimpleFilterProvider filters = new SimpleFilterProvider();
         try {
-            jsonInput.copyByPattern(experiment_name);
             if (!includeFields.isEmpty()) {
                 Set<String> jobFields = new HashSet<>();
                 for (String field : includeFields) {
@@ -118,18 +158,12 @@ public class BulkService extends HttpServlet {
                 LOGGER.debug("excludeFields : {}", excludeFields);
                 filters.addFilter(JOB_FILTER, SimpleBeanPropertyFilter.serializeAllExcept(excludeFields));
             }
-
-            // Assuming the input JSON has a filter identifier like @JsonFilter("dynamicFilter")
-            mapper.setFilterProvider(filters);
         } catch (Exception e) {
             LOGGER.error("Not able to filter experiments due to {}", e.getMessage());
             e.printStackTrace();
-        } finally {
-            synchronized (jsonInput) {
-                return mapper.writeValueAsString(jsonInput);
-            }
         }
-
+        // Assuming the input JSON has a filter identifier like @JsonFilter("dynamicFilter")
+        return FILTER_MAPPER.writer(filters);
     }
 
     @Override
@@ -160,6 +194,21 @@ public class BulkService extends HttpServlet {
 
             // If the parameter is not provided (null), default it to false
             boolean verbose = verboseParam != null && Boolean.parseBoolean(verboseParam);
+            // page of the experiments, all of them by default
+            int offset;
+            int limit;
+            try {
+                offset = parsePaginationParam(req.getParameter(EXPERIMENTS_OFFSET));
+                limit = parsePaginationParam(req.getParameter(EXPERIMENTS_LIMIT));
+            } catch (NumberFormatException e) {
+                sendErrorResponse(
+                        resp,
+                        null,
+                        HttpServletResponse.SC_BAD_REQUEST,
+                        INVALID_PAGINATION
+                );
+                return;
+            }
             BulkJobStatus jobDetails;
             // By default, cache_job_in_mem set to false , If set it to true it will store in memory
             if (KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {
@@ -186,46 +235,20 @@ public class BulkService extends HttpServlet {
                     return;
                 } else {
                     jobDetails = kruizeBulkJobEntry.getBulkJobStatus();
-
-                    GenericRestApiClient recommendationApiClient = new GenericRestApiClient();
-                    String listRecommendationsURL = String.format(
-                            KruizeDeploymentInfo.recommendations_url.replaceAll("generateRecommendations.*", "listRecommendations") + "?" + JOB_ID
-                                    + "=%s", jobID);
-                    if (experiment_name != null && !experiment_name.equals("")) {
-                        String encodedExperimentName = URLEncoder.encode(experiment_name, StandardCharsets.UTF_8);
-                        listRecommendationsURL = listRecommendationsURL + "&experiment_name=" + encodedExperimentName;
-                    }
-                    recommendationApiClient.setBaseURL(listRecommendationsURL);
-                    GenericRestApiClient.HttpResponseWrapper recommendationResponseCode = null;
-                    Map<String, JsonNode> recommendationResponse = new HashMap<>();
-                    try {
-                        recommendationResponseCode = recommendationApiClient.getKruizeAPI(null);
-                        // Parse JSON using Jackson
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        JsonNode rootArray = objectMapper.readTree(recommendationResponseCode.getResponseBody().toString());
-                        // Extract "experiment_name" values
-                        for (JsonNode node : rootArray) {
-                            String experimentName = node.get("experiment_name").asText();
-                            recommendationResponse.put(experimentName, node);
-                        }
-                        if (!includeFields.isEmpty() && includeFields.contains("experiments")) {
-                            if (jobDetails != null && jobDetails.getExperimentMap() != null) {
-                                jobDetails.getExperimentMap().forEach(
-                                        (experimentName, experiment) -> {
-                                            BulkJobStatus.GenerateRecommendationsAPIResponse bresp =
-                                                    new BulkJobStatus.GenerateRecommendationsAPIResponse();
-                                            if (recommendationResponse.containsKey(experimentName)) {
-                                                bresp.setResponse(
-                                                        new ArrayList<>(Arrays.asList(recommendationResponse.get(experimentName)))
-                                                );
-                                                experiment.getApis().setRecommendations(bresp);
-                                            }
-                                        }
-                                );
+                    if (includeFields.stream().anyMatch(field -> field.startsWith(EXPERIMENTS))) {
+                        // experiments are stored one row each, jobs saved before that keep them in kruize_bulkjobs
+                        List<KruizeBulkJobExperimentEntry> experimentEntries = experimentDAO.findBulkJobExperiments(jobID, experiment_name, offset, limit);
+                        if (!experimentEntries.isEmpty() || null == jobDetails.getExperimentMap()) {
+                            Map<String, BulkJobStatus.Experiment> experimentMap = Collections.synchronizedMap(new LinkedHashMap<>());
+                            for (KruizeBulkJobExperimentEntry experimentEntry : experimentEntries) {
+                                experimentMap.put(experimentEntry.getExperimentName(), experimentEntry.getBulkJobExperiment());
                             }
+                            jobDetails.setExperimentMap(experimentMap);
+                        } else {
+                            jobDetails.setExperimentMap(getExperimentsPage(jobDetails.getExperimentMap(), experiment_name, offset, limit));
                         }
-                    } catch (Exception e) {
-                        LOGGER.error("Not able to fetch recommedations from database due to {}", e.getMessage());
+                        // only the recommendations of the experiments of the page are loaded
+                        addRecommendations(jobID, jobDetails.getExperimentMap());
                     }
                 }
 
@@ -285,26 +308,10 @@ public class BulkService extends HttpServlet {
 
             // Generate a unique jobID
             String jobID = UUID.randomUUID().toString();
-            // validate the input params
-            if (payload != null && !payload.isEmpty()) {
-                ValidationOutputData validationOutputData = BulkServiceValidation.validate(payload, jobID);
-                if (!validationOutputData.isSuccess()) {
-                    throw new Exception(validationOutputData.getMessage());
-                }
-            }
-            BulkJobStatus jobStatus = new BulkJobStatus(jobID, IN_PROGRESS, Instant.now(), payload);
-
-            if (KruizeDeploymentInfo.test_use_only_cache_job_in_mem)
-                jobStatusMap.put(jobID, jobStatus);
-            else {
-                try {
-                    new ExperimentDAOImpl().bulkJobSave(jobStatus.getBulkJobForDB("{}"));
-                } catch (Exception e) {
-                    LOGGER.error("Not able to save jb details into DB {} due to {}", jobStatus, e.getMessage());
-                }
-            }
+            BulkJobStatus jobStatus = createBulkJob(jobID, payload);
+            saveBulkJob(jobStatus);
             // Submit the job to be processed asynchronously
-            executorService.submit(new BulkJobManager(jobID, jobStatus, payload));      //TOdo remove payload as it is part of jobStatus object
+            BulkJobScheduler.submit(new BulkJobManager(jobID, jobStatus, payload));      //TOdo remove payload as it is part of jobStatus object
 
             // Just sending a simple success response back
             // Return the jobID to the user
@@ -327,9 +334,122 @@ public class BulkService extends HttpServlet {
         }
     }
 
+    /**
+     * Validates the bulk input and creates the status of the new job
+     *
+     * @param jobID   id of the job
+     * @param payload bulk input of the job
+     * @return BulkJobStatus of the job in progress
+     * @throws Exception if the bulk input is not valid
+     */
+    public static BulkJobStatus createBulkJob(String jobID, BulkInput payload) throws Exception {
+        // validate the input params
+        if (payload != null && !payload.isEmpty()) {
+            ValidationOutputData validationOutputData = BulkServiceValidation.validate(payload, jobID);
+            if (!validationOutputData.isSuccess()) {
+                throw new Exception(validationOutputData.getMessage());
+            }
+        }
+        return new BulkJobStatus(jobID, IN_PROGRESS, Instant.now(), payload);
+    }
+
+    /**
+     * Saves the new job into the DB, or in memory if testUseOnlycacheJobInMemory is set
+     *
+     * @param jobStatus status of the job
+     * @return true if the job is saved
+     */
+    public static boolean saveBulkJob(BulkJobStatus jobStatus) {
+        if (KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {
+            jobStatusMap.put(jobStatus.getSummary().getJobID(), jobStatus);
+            return true;
+        }
+        try {
+            ValidationOutputData saved = new ExperimentDAOImpl().bulkJobSave(jobStatus.getBulkJobForDB("{}"));
+            return saved.isSuccess();
+        } catch (Exception e) {
+            LOGGER.error("Not able to save jb details into DB {} due to {}", jobStatus, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the page of the experiments of a job saved in kruize_bulkjobs, ordered by experiment name like the
+     * experiments of kruize_bulkjob_experiments
+     *
+     * @param experimentMap   experiments of the job
+     * @param experiment_name only the experiments whose name contains it are paged, null for all
+     * @param offset          number of experiments to skip
+     * @param limit           maximum number of experiments, 0 for all
+     * @return experiments of the page
+     */
+    private static Map<String, BulkJobStatus.Experiment> getExperimentsPage(Map<String, BulkJobStatus.Experiment> experimentMap,
+                                                                            String experiment_name, int offset, int limit) {
+        Map<String, BulkJobStatus.Experiment> page = Collections.synchronizedMap(new LinkedHashMap<>());
+        synchronized (experimentMap) {
+            experimentMap.entrySet().stream()
+                    .filter(entry -> null == experiment_name || experiment_name.isEmpty() || entry.getKey().contains(experiment_name))
+                    .sorted(Map.Entry.comparingByKey())
+                    .skip(offset)
+                    .limit((limit > 0) ? limit : Long.MAX_VALUE)
+                    .forEach(entry -> page.put(entry.getKey(), entry.getValue()));
+        }
+        return page;
+    }
+
+    /**
+     * Sets the latest recommendations of the job on its experiments, read from the DB like the listRecommendations
+     * API returns them
+     *
+     * @param jobID         the job
+     * @param experimentMap experiments to set the recommendations on
+     */
+    private static void addRecommendations(String jobID, Map<String, BulkJobStatus.Experiment> experimentMap) {
+        if (null == experimentMap || experimentMap.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> experimentNames = new ArrayList<>(experimentMap.keySet());
+            Map<String, KruizeObject> kruizeObjectMap = new ConcurrentHashMap<>();
+            ExperimentDBService experimentDBService = new ExperimentDBService();
+            experimentDBService.loadLMExperimentsByNames(kruizeObjectMap, experimentNames);
+            experimentDBService.loadLMRecommendationsByExperimentNames(kruizeObjectMap, experimentNames, jobID, true);
+            for (String experimentName : experimentNames) {
+                KruizeObject kruizeObject = kruizeObjectMap.get(experimentName);
+                if (null == kruizeObject) {
+                    continue;
+                }
+                ListRecommendationsAPIObject listRecommendationsAPIObject = Converters.KruizeObjectConverters.
+                        convertKruizeObjectToListRecommendationSO(kruizeObject, true, false, null);
+                BulkJobStatus.GenerateRecommendationsAPIResponse bresp = new BulkJobStatus.GenerateRecommendationsAPIResponse();
+                bresp.setResponse(new ArrayList<>(List.of(JsonTreeConverter.toJsonNode(RECOMMENDATIONS_GSON, listRecommendationsAPIObject))));
+                experimentMap.get(experimentName).getApis().setRecommendations(bresp);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Not able to fetch recommedations from database due to {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the offset or limit of the experiments page
+     *
+     * @return the value, 0 if it is not set
+     * @throws NumberFormatException if the value is not a non-negative integer
+     */
+    private static int parsePaginationParam(String value) {
+        if (null == value || value.isEmpty()) {
+            return 0;
+        }
+        int parsedValue = Integer.parseInt(value);
+        if (parsedValue < 0) {
+            throw new NumberFormatException(value);
+        }
+        return parsedValue;
+    }
+
     @Override
     public void destroy() {
-        executorService.shutdown();
+        BulkJobScheduler.shutdown();
     }
 
     public void sendErrorResponse(HttpServletResponse response, Exception e, int httpStatusCode, String errorMsg) throws
@@ -19,7 +19,6 @@ package com.autotune.analyzer.services;
 import com.autotune.analyzer.exceptions.BulkNotSupportedException;
 import com.autotune.analyzer.exceptions.InvalidExperimentType;
 import com.autotune.analyzer.exceptions.KruizeResponse;
-import com.autotune.analyzer.experiment.ExperimentInitiator;
 import com.autotune.analyzer.kruizeLayer.KruizeLayer;
 import com.autotune.analyzer.kruizeLayer.utils.LayerUtils;
 import com.autotune.analyzer.kruizeObject.KruizeObject;
@@ -34,6 +33,7 @@ import com.autotune.common.data.ValidationOutputData;
 import com.autotune.database.dao.ExperimentDAO;
 import com.autotune.database.dao.ExperimentDAOImpl;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import com.autotune.utils.Utils;
 import com.google.gson.Gson;
@@ -76,8 +76,8 @@ public class CreateExperiment extends HttpServlet {
 
     /**
      * It reads the input data from the request, converts it into a List of "KruizeObject" objects using the GSON library.
-     * It then calls the validateAndAddNewExperiments method of the "ExperimentInitiator" class, passing in the mainKruizeExperimentMap and kruizeExpList as arguments.
-     * If the validateAndAddNewExperiments method returns an ValidationOutputData object with the success flag set to true, it sends a success response to the client with a message "Experiment registered successfully with Kruize."
+     * It then calls ServiceHelpers.createExperiments, which validates the experiments with the "ExperimentInitiator" class and adds them to the DB.
+     * If createExperiments returns an ValidationOutputData object with the success flag set to true, it sends a success response to the client with a message "Experiment registered successfully with Kruize."
      * Otherwise, it sends an error response to the client with the appropriate error message.
      * If an exception is thrown, it prints the stack trace and sends an error response to the client with the appropriate error message.
      *
@@ -91,7 +91,6 @@ public class CreateExperiment extends HttpServlet {
     protected void doPost(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
         String statusValue = "failure";
         Timer.Sample timerCreateExp = Timer.start(MetricsConfig.meterRegistry());
-        Map<String, KruizeObject> mKruizeExperimentMap = new ConcurrentHashMap<String, KruizeObject>();
         String inputData = "";
         try {
             // Set the character encoding of the request to UTF-8
@@ -101,40 +100,12 @@ public class CreateExperiment extends HttpServlet {
                     new Gson().fromJson(inputData, CreateExperimentAPIObject[].class)
             );
 
-            // check for bulk entries and respond accordingly
-            ServiceHelpers.checkForBulk(createExperimentAPIObjects);
-
-            List<KruizeObject> kruizeExpList = ServiceHelpers.normalizeAndValidateExperimentTypes(
-                    createExperimentAPIObjects
-            );
-
-            new ExperimentInitiator().validateAndAddNewExperiments(mKruizeExperimentMap, kruizeExpList);
-            //TODO: UX needs to be modified - Handle response for the multiple objects
-            KruizeObject invalidKruizeObject = kruizeExpList.stream().filter((ko) -> (!ko.getValidation_data().isSuccess())).findAny().orElse(null);
-            if (null == invalidKruizeObject) {
-                ValidationOutputData addedToDB = null;  // TODO savetoDB should move to queue and bulk upload not considered here
-                for (KruizeObject ko : kruizeExpList) {
-                    CreateExperimentAPIObject validAPIObj = createExperimentAPIObjects.stream()
-                            .filter(createObj -> ko.getExperimentName().equals(createObj.getExperimentName()))
-                            .findAny()
-                            .orElse(null);
-                    if (null != validAPIObj)
-                        validAPIObj.setValidationData(ko.getValidation_data());
-
-                    // Detect layers only if it's local monitoring container experiment.
-                    if (null != validAPIObj && ko.getTarget_cluster().equalsIgnoreCase(AnalyzerConstants.LOCAL) && validAPIObj.isContainerExperiment()) {
-                        ServiceHelpers.detectLayers(validAPIObj);
-                    }
-                    addedToDB = new ExperimentDBService().addExperimentToDB(validAPIObj);
-                }
-                if (addedToDB.isSuccess()) {
-                    sendSuccessResponse(response, "Experiment registered successfully with Kruize.");
-                    statusValue = "success";
-                } else {
-                    sendErrorResponse(inputData, response, null, HttpServletResponse.SC_BAD_REQUEST, addedToDB.getMessage());
-                }
+            ValidationOutputData createdExperiment = ServiceHelpers.createExperiments(createExperimentAPIObjects);
+            if (createdExperiment.isSuccess()) {
+                sendSuccessResponse(response, KruizeConstants.KRUIZE_BULK_API.EXPERIMENT_REGISTERED);
+                statusValue = "success";
             } else {
-                sendErrorResponse(inputData, response, null, invalidKruizeObject.getValidation_data().getErrorCode(), invalidKruizeObject.getValidation_data().getMessage());
+                sendErrorResponse(inputData, response, null, createdExperiment.getErrorCode(), createdExperiment.getMessage());
             }
 
         } catch (BulkNotSupportedException e) {
@@ -218,14 +189,14 @@ public class CreateExperiment extends HttpServlet {
         response.setCharacterEncoding(CHARACTER_ENCODING);
         response.setStatus(HttpServletResponse.SC_CREATED);
         PrintWriter out = response.getWriter();
-        out.append(
-                new Gson().toJson(
-                        new KruizeResponse(message + " View registered experiments at /listExperiments", HttpServletResponse.SC_CREATED, "", "SUCCESS")
-                )
-        );
+        out.append(new Gson().toJson(getSuccessResponse(message)));
         out.flush();
     }
 
+    public static KruizeResponse getSuccessResponse(String message) {
+        return new KruizeResponse(message + " View registered experiments at /listExperiments", HttpServletResponse.SC_CREATED, "", "SUCCESS");
+    }
+
     public void sendErrorResponse(String inputRequestPayload, HttpServletResponse response, Exception e, int httpStatusCode, String errorMsg) throws
             IOException {
         if (null != e) {
@@ -174,9 +174,7 @@ public class DSMetadataService extends HttpServlet {
                 }
 
                 try {
-                    // fetch and delete metadata from database
-                    dataSourceManager.deleteMetadataFromDBByDataSource(datasource);
-                    // add imported metadata to database
+                    // replace the metadata of the datasource in database with the imported metadata
                     dataSourceManager.addMetadataToDB(metadataInfo);
                 } catch (Exception e) {
                     sendErrorResponse(inputData, response, e, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
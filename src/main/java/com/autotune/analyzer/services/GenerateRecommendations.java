@@ -138,6 +138,23 @@ public class GenerateRecommendations extends HttpServlet {
         response.setContentType(JSON_CONTENT_TYPE);
         response.setCharacterEncoding(CHARACTER_ENCODING);
         response.setStatus(HttpServletResponse.SC_CREATED);
+        List<ListRecommendationsAPIObject> recommendationList = getRecommendationList(ko, interval_end_time);
+        String gsonStr = "[]";
+        if (recommendationList.size() > 0) {
+            gsonStr = createRecommendationsGson(true).toJson(recommendationList);
+        }
+        response.getWriter().println(gsonStr);
+        response.getWriter().close();
+    }
+
+    /**
+     * Converts the recommendations of the experiment to the objects returned by the API
+     *
+     * @param ko                experiment with the generated recommendations
+     * @param interval_end_time end time of the recommendations to return
+     * @return recommendations of the experiment, empty if the conversion failed
+     */
+    public static List<ListRecommendationsAPIObject> getRecommendationList(KruizeObject ko, Timestamp interval_end_time) {
         List<ListRecommendationsAPIObject> recommendationList = new ArrayList<>();              //TODO: Executing two identical SQL SELECT queries against the database instead of just one is causing a performance issue. set 'showSQL' flag is set to true to debug.
         try {
             //LOGGER.debug(ko.getKubernetes_objects().toString());
@@ -151,6 +168,15 @@ public class GenerateRecommendations extends HttpServlet {
         } catch (Exception e) {
             LOGGER.error("Not able to generate recommendation for expName : {} due to {}", ko.getExperimentName(), e.getMessage());
         }
+        return recommendationList;
+    }
+
+    /**
+     * Returns the Gson used to serialize the recommendations of the API response
+     *
+     * @param prettyPrinting true for the API response, false where the JSON is stored or embedded in the bulk job status
+     */
+    public static Gson createRecommendationsGson(boolean prettyPrinting) {
         ExclusionStrategy strategy = new ExclusionStrategy() {
             @Override
             public boolean shouldSkipField(FieldAttributes field) {
@@ -163,21 +189,18 @@ public class GenerateRecommendations extends HttpServlet {
                 return false;
             }
         };
-        String gsonStr = "[]";
-        if (recommendationList.size() > 0) {
-            Gson gsonObj = new GsonBuilder()
-                    .disableHtmlEscaping()
-                    .setPrettyPrinting()
-                    .enableComplexMapKeySerialization()
-                    .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                    .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                    .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                    .setExclusionStrategies(strategy)
-                    .create();
-            gsonStr = gsonObj.toJson(recommendationList);
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        if (prettyPrinting) {
+            gsonBuilder.setPrettyPrinting();
         }
-        response.getWriter().println(gsonStr);
-        response.getWriter().close();
+        return gsonBuilder
+                .disableHtmlEscaping()
+                .enableComplexMapKeySerialization()
+                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
+                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
+                .setExclusionStrategies(strategy)
+                .create();
     }
 
     public void sendErrorResponse(HttpServletResponse response, Exception e, int httpStatusCode, String errorMsg) throws
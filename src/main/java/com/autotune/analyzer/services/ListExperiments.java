@@ -23,6 +23,7 @@ import com.autotune.analyzer.serviceObjects.*;
 import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.analyzer.utils.AnalyzerErrorConstants;
 import com.autotune.analyzer.utils.GsonUTCDateAdapter;
+import com.autotune.analyzer.utils.ServiceHelpers;
 import com.autotune.common.data.metrics.Metric;
 import com.autotune.common.data.metrics.MetricResults;
 import com.autotune.common.data.result.ContainerData;
@@ -33,10 +34,12 @@ import com.autotune.common.k8sObjects.K8sObject;
 import com.autotune.common.target.kubernetes.service.KubernetesServices;
 import com.autotune.common.trials.ExperimentTrial;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.KruizeSupportedTypes;
 import com.autotune.utils.MetricsConfig;
 import com.google.gson.*;
+import com.google.gson.stream.JsonWriter;
 import io.micrometer.core.instrument.Timer;
 import org.json.JSONArray;
 import org.slf4j.Logger;
@@ -117,12 +120,13 @@ public class ListExperiments extends HttpServlet {
         response.setStatus(HttpServletResponse.SC_OK);
         response.setContentType(JSON_CONTENT_TYPE);
         response.setCharacterEncoding(CHARACTER_ENCODING);
-        String gsonStr;
         String results = request.getParameter(KruizeConstants.JSONKeys.RESULTS);
         String latest = request.getParameter(LATEST);
         String recommendations = request.getParameter(KruizeConstants.JSONKeys.RECOMMENDATIONS);
         String experimentName = request.getParameter(EXPERIMENT_NAME);
         String rm = request.getParameter(AnalyzerConstants.ServiceConstants.RM);
+        String limit = request.getParameter(LIMIT);
+        String continueToken = request.getParameter(CONTINUE);
         String requestBody = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
         StringBuilder clusterName = new StringBuilder();
         List<KubernetesAPIObject> kubernetesAPIObjectList = new ArrayList<>();
@@ -158,7 +162,36 @@ public class ListExperiments extends HttpServlet {
                     if (!requestBody.isEmpty()) {
                         isJSONValid = validateInputJSON(requestBody);
                     }
-                    if (isJSONValid) {
+                    Integer pageLimit = null;
+                    String afterExperimentName = null;
+                    try {
+                        pageLimit = ServiceHelpers.Pagination.parseLimit(limit);
+                        afterExperimentName = ServiceHelpers.Pagination.decodeContinueToken(continueToken);
+                        // only the list of all experiments is paged
+                        if (ServiceHelpers.Pagination.isRequested(limit, continueToken)
+                                && (!requestBody.isEmpty() || (experimentName != null && !experimentName.isEmpty()))) {
+                            throw new IllegalArgumentException(AnalyzerErrorConstants.APIErrors.ListAPIPagination.PAGINATION_NOT_SUPPORTED);
+                        }
+                    } catch (IllegalArgumentException e) {
+                        error = true;
+                        sendErrorResponse(response, e, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+                    }
+                    if (error) {
+                        // the invalid limit or continue token is reported already
+                    } else if (isJSONValid && requestBody.isEmpty() && (experimentName == null || experimentName.isEmpty())) {
+                        try {
+                            // all experiments are written page by page, only one page is held in memory
+                            writeExperimentPages(response, createGsonObject(false), results, recommendations, latest, rmTable,
+                                    pageLimit, afterExperimentName);
+                            statusValue = "success";
+                        } catch (Exception e) {
+                            LOGGER.error("Exception: " + e.getMessage());
+                            e.printStackTrace();
+                            if (!response.isCommitted()) {
+                                sendErrorResponse(response, e, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+                            }
+                        }
+                    } else if (isJSONValid) {
                         try {
                             // Fetch experiments data based on request body input, if it's present
                             if (!requestBody.isEmpty()) {
@@ -193,14 +226,19 @@ public class ListExperiments extends HttpServlet {
                             }
                             if (!error) {
                                 // create Gson Object
-                                Gson gsonObj = createGsonObject();
+                                Gson gsonObj = createGsonObject(true);
 
                                 // Modify the JSON response here based on query params.
-                                gsonStr = buildResponseBasedOnQuery(mKruizeExperimentMap, gsonObj, results, recommendations, latest, experimentName, rmTable);
-                                if (gsonStr.isEmpty()) {
-                                    gsonStr = "[]";
+                                buildResponseBasedOnQuery(mKruizeExperimentMap, results, recommendations, latest,
+                                        new ArrayList<>(mKruizeExperimentMap.keySet()), rmTable);
+                                JsonWriter jsonWriter = gsonObj.newJsonWriter(response.getWriter());
+                                jsonWriter.beginArray();
+                                for (KruizeObject kruizeObject : mKruizeExperimentMap.values()) {
+                                    gsonObj.toJson(kruizeObject, KruizeObject.class, jsonWriter);
                                 }
-                                response.getWriter().println(gsonStr);
+                                jsonWriter.endArray();
+                                jsonWriter.flush();
+                                response.getWriter().println();
                                 response.getWriter().close();
                                 statusValue = "success";
                             }
@@ -286,10 +324,7 @@ public class ListExperiments extends HttpServlet {
 
     private void loadExperimentsFromDatabase(Map<String, KruizeObject> mKruizeExperimentMap, String experimentName) {
         try {
-            if (experimentName == null || experimentName.isEmpty())
-                new ExperimentDBService().loadAllExperiments(mKruizeExperimentMap);
-            else
-                new ExperimentDBService().loadExperimentFromDBByName(mKruizeExperimentMap, experimentName);
+            new ExperimentDBService().loadExperimentFromDBByName(mKruizeExperimentMap, experimentName);
 
         } catch (Exception e) {
             LOGGER.error("Failed to load saved experiment data: {} ", e.getMessage());
@@ -298,20 +333,23 @@ public class ListExperiments extends HttpServlet {
 
     private void loadLMExperimentsFromDatabase(Map<String, KruizeObject> mKruizeExperimentMap, String experimentName) {
         try {
-            if (experimentName == null || experimentName.isEmpty())
-                new ExperimentDBService().loadAllLMExperiments(mKruizeExperimentMap);
-            else
-                new ExperimentDBService().loadLMExperimentFromDBByName(mKruizeExperimentMap, experimentName);
+            new ExperimentDBService().loadLMExperimentFromDBByName(mKruizeExperimentMap, experimentName);
 
         } catch (Exception e) {
             LOGGER.error("Failed to load saved experiment data: {} ", e.getMessage());
         }
     }
 
-    private Gson createGsonObject() {
-        return new GsonBuilder()
+    /**
+     * @param prettyPrinting false for the paged responses, they are streamed compact to keep them small
+     */
+    private Gson createGsonObject(boolean prettyPrinting) {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        if (prettyPrinting) {
+            gsonBuilder.setPrettyPrinting();
+        }
+        return gsonBuilder
                 .disableHtmlEscaping()
-                .setPrettyPrinting()
                 .enableComplexMapKeySerialization()
                 .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
                 .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
@@ -365,77 +403,143 @@ public class ListExperiments extends HttpServlet {
         }
     }
 
-    private String buildResponseBasedOnQuery(Map<String, KruizeObject> mKruizeExperimentMap, Gson gsonObj, String results,
-                                             String recommendations, String latest, String experimentName, boolean rmTable) {
+    /**
+     * Writes all experiments, or one page of limit experiments with the continue token of the next page in the
+     * X-Kruize-Continue header. The experiments are loaded and written listAPIPageSize at a time, so memory use is
+     * bounded by the page size. A failure after the output started truncates the response.
+     */
+    private void writeExperimentPages(HttpServletResponse response, Gson gsonObj, String results, String recommendations,
+                                      String latest, boolean rmTable, Integer limit, String afterExperimentName) throws Exception {
+        int pageSize = (null != limit) ? limit : KruizeDeploymentInfo.list_api_page_size;
+        Map<String, KruizeObject> page = new ConcurrentHashMap<>();
+        List<String> experimentNames = loadExperimentsPage(page, afterExperimentName, pageSize, rmTable);
+        if (null != limit && experimentNames.size() == limit) {
+            response.setHeader(CONTINUE_HEADER, ServiceHelpers.Pagination.encodeContinueToken(experimentNames.get(experimentNames.size() - 1)));
+        }
+        JsonWriter jsonWriter = gsonObj.newJsonWriter(response.getWriter());
+        jsonWriter.beginArray();
+        while (!experimentNames.isEmpty()) {
+            buildResponseBasedOnQuery(page, results, recommendations, latest, experimentNames, rmTable);
+            for (String experimentName : experimentNames) {
+                KruizeObject kruizeObject = page.get(experimentName);
+                if (null != kruizeObject) {
+                    gsonObj.toJson(kruizeObject, KruizeObject.class, jsonWriter);
+                }
+            }
+            jsonWriter.flush();
+            if (null != limit || experimentNames.size() < pageSize) {
+                break;
+            }
+            String lastExperimentName = experimentNames.get(experimentNames.size() - 1);
+            page = new ConcurrentHashMap<>();
+            experimentNames = loadExperimentsPage(page, lastExperimentName, pageSize, rmTable);
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+        response.getWriter().println();
+        response.getWriter().close();
+    }
+
+    private List<String> loadExperimentsPage(Map<String, KruizeObject> page, String afterExperimentName, int pageSize, boolean rmTable) throws Exception {
+        if (rmTable)
+            return new ExperimentDBService().loadExperimentsPage(page, afterExperimentName, pageSize);
+        else
+            return new ExperimentDBService().loadLMExperimentsPage(page, afterExperimentName, pageSize);
+    }
+
+    /**
+     * Adds the results and recommendations asked for by the query to the experiments, the experiments which can not
+     * be built are dropped
+     */
+    private void buildResponseBasedOnQuery(Map<String, KruizeObject> mKruizeExperimentMap, String results, String recommendations,
+                                           String latest, List<String> experimentNames, boolean rmTable) {
         // Case : default
         // return the response without results or recommendations
         if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.FALSE) && recommendations.equalsIgnoreCase(AnalyzerConstants.BooleanString.FALSE)) {
             modifyJSONResponse(mKruizeExperimentMap, KruizeConstants.JSONKeys.RECOMMENDATIONS);
-            return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
         } else {
             try {
+                // with latest = true only the latest row of every experiment is read from the DB, except for the
+                // results of multi-container experiments
+                boolean latestOnly = latest.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE);
                 if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE) && recommendations.equalsIgnoreCase(
                         AnalyzerConstants.BooleanString.TRUE)) {
                     // Case: results=true , recommendations=true
                     // fetch results and recomm. from the DB
-                    loadRecommendations(mKruizeExperimentMap, experimentName, rmTable);
+                    loadRecommendations(mKruizeExperimentMap, experimentNames, rmTable, latestOnly);
                     buildRecommendationsResponse(mKruizeExperimentMap, latest);
-                    loadResults(mKruizeExperimentMap, experimentName);
+                    loadResults(mKruizeExperimentMap, experimentNames, latestOnly);
 
                     // filter the latest results when latest = true, else return all
-                    if (latest.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
+                    if (latestOnly) {
                         getLatestResults(mKruizeExperimentMap);
                     }
                     checkPercentileInfo(mKruizeExperimentMap);
-                    return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
                 } else if (results.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
                     // Case: results=true , recommendations=false
-                    loadResults(mKruizeExperimentMap, experimentName);
+                    loadResults(mKruizeExperimentMap, experimentNames, latestOnly);
                     checkPercentileInfo(mKruizeExperimentMap);
                     // filter the latest results when latest = true, else return all
-                    if (latest.equalsIgnoreCase(AnalyzerConstants.BooleanString.TRUE)) {
+                    if (latestOnly) {
                         getLatestResults(mKruizeExperimentMap);
                     }
                     modifyJSONResponse(mKruizeExperimentMap, KruizeConstants.JSONKeys.RECOMMENDATIONS);
-                    return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
                 } else {
                     // Case: results=false , recommendations=true
-                    loadRecommendations(mKruizeExperimentMap, experimentName, rmTable);
+                    loadRecommendations(mKruizeExperimentMap, experimentNames, rmTable, latestOnly);
                     buildRecommendationsResponse(mKruizeExperimentMap, latest);
-                    return gsonObj.toJson(new ArrayList<>(mKruizeExperimentMap.values()));
                 }
             } catch (Exception e) {
                 LOGGER.error("Exception occurred while building response: {}", e.getMessage());
-                return "";
+                mKruizeExperimentMap.clear();
             }
         }
     }
 
-    private void loadResults(Map<String, KruizeObject> mKruizeExperimentMap, String experimentName) {
+    private void loadResults(Map<String, KruizeObject> mKruizeExperimentMap, List<String> experimentNames, boolean latestOnly) {
         try {
-            if (experimentName == null || experimentName.isEmpty())
-                new ExperimentDBService().loadAllResults(mKruizeExperimentMap);
-            else
-                new ExperimentDBService().loadResultsFromDBByName(mKruizeExperimentMap, experimentName, null, null);
-
+            ExperimentDBService experimentDBService = new ExperimentDBService();
+            if (!latestOnly) {
+                experimentDBService.loadResultsByExperimentNames(mKruizeExperimentMap, experimentNames, false);
+                return;
+            }
+            // a result row may not hold every container, the latest result of each container of a multi-container
+            // experiment is picked from all its results by getLatestResults
+            List<String> singleContainerExperiments = new ArrayList<>();
+            List<String> multiContainerExperiments = new ArrayList<>();
+            for (String experimentName : experimentNames) {
+                KruizeObject kruizeObject = mKruizeExperimentMap.get(experimentName);
+                if (null != kruizeObject && getContainerCount(kruizeObject) > 1) {
+                    multiContainerExperiments.add(experimentName);
+                } else {
+                    singleContainerExperiments.add(experimentName);
+                }
+            }
+            experimentDBService.loadResultsByExperimentNames(mKruizeExperimentMap, singleContainerExperiments, true);
+            experimentDBService.loadResultsByExperimentNames(mKruizeExperimentMap, multiContainerExperiments, false);
         } catch (Exception e) {
             LOGGER.error("Failed to load saved results data: {} ", e.getMessage());
         }
     }
 
-    private void loadRecommendations(Map<String, KruizeObject> mKruizeExperimentMap, String experimentName, boolean rmTable) {
-        try {
-            if (rmTable) {
-                if (experimentName == null || experimentName.isEmpty())
-                    new ExperimentDBService().loadAllRecommendations(mKruizeExperimentMap);
-                else
-                    new ExperimentDBService().loadRecommendationsFromDBByName(mKruizeExperimentMap, experimentName);
-            } else {
-                if (experimentName == null || experimentName.isEmpty())
-                    new ExperimentDBService().loadAllLMRecommendations(mKruizeExperimentMap, null);
-                else
-                    new ExperimentDBService().loadLMRecommendationsFromDBByName(mKruizeExperimentMap, experimentName, null);
+    private static int getContainerCount(KruizeObject kruizeObject) {
+        int containerCount = 0;
+        if (null != kruizeObject.getKubernetes_objects()) {
+            for (K8sObject k8sObject : kruizeObject.getKubernetes_objects()) {
+                if (null != k8sObject.getContainerDataMap()) {
+                    containerCount += k8sObject.getContainerDataMap().size();
+                }
             }
+        }
+        return containerCount;
+    }
+
+    private void loadRecommendations(Map<String, KruizeObject> mKruizeExperimentMap, List<String> experimentNames, boolean rmTable, boolean latestOnly) {
+        try {
+            if (rmTable)
+                new ExperimentDBService().loadRecommendationsByExperimentNames(mKruizeExperimentMap, experimentNames, latestOnly);
+            else
+                new ExperimentDBService().loadLMRecommendationsByExperimentNames(mKruizeExperimentMap, experimentNames, null, latestOnly);
         } catch (Exception e) {
             LOGGER.error("Failed to load saved recommendations data: {} ", e.getMessage());
         }
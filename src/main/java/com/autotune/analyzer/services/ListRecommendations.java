@@ -30,6 +30,7 @@ import com.autotune.analyzer.utils.ServiceHelpers;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.data.system.info.device.DeviceDetails;
 import com.autotune.database.service.ExperimentDBService;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import com.autotune.utils.Utils;
@@ -37,6 +38,7 @@ import com.google.gson.ExclusionStrategy;
 import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,6 +89,8 @@ public class ListRecommendations extends HttpServlet {
         String monitoringEndTime = request.getParameter(KruizeConstants.JSONKeys.MONITORING_END_TIME);
         String rm = request.getParameter(AnalyzerConstants.ServiceConstants.RM);
         String bulkJobID = request.getParameter(JOB_ID);
+        String limit = request.getParameter(AnalyzerConstants.ServiceConstants.LIMIT);
+        String continueToken = request.getParameter(AnalyzerConstants.ServiceConstants.CONTINUE);
         Timestamp monitoringEndTimestamp = null;
         Map<String, KruizeObject> mKruizeExperimentMap = new ConcurrentHashMap<String, KruizeObject>();
 
@@ -106,17 +110,30 @@ public class ListRecommendations extends HttpServlet {
         ) {
             rmTable = true;
         }
+        // the latest recommendations are read from the DB directly, a monitoring end time needs every recommendation
+        boolean latestOnly = getLatest && (null == monitoringEndTime || monitoringEndTime.isEmpty());
         List<KruizeObject> kruizeObjectList = new ArrayList<>();
         try {
-            // Check if experiment name is passed
-            if (null != experimentName) {
+            // Check if experiment name is passed, only the recommendations of all experiments are paged
+            if (null != experimentName && ServiceHelpers.Pagination.isRequested(limit, continueToken)) {
+                error = true;
+                sendErrorResponse(
+                        response,
+                        new Exception(AnalyzerErrorConstants.APIErrors.ListAPIPagination.PAGINATION_NOT_SUPPORTED),
+                        HttpServletResponse.SC_BAD_REQUEST,
+                        AnalyzerErrorConstants.APIErrors.ListAPIPagination.PAGINATION_NOT_SUPPORTED
+                );
+            } else if (null != experimentName) {
                 // trim the experiment name to remove whitespaces
                 experimentName = experimentName.trim();
                 try {
+                    ExperimentDBService experimentDBService = new ExperimentDBService();
                     if (rmTable) {
-                        new ExperimentDBService().loadExperimentAndRecommendationsFromDBByName(mKruizeExperimentMap, experimentName);
+                        experimentDBService.loadExperimentFromDBByName(mKruizeExperimentMap, experimentName);
+                        experimentDBService.loadRecommendationsByExperimentNames(mKruizeExperimentMap, List.of(experimentName), latestOnly);
                     } else {
-                        new ExperimentDBService().loadLMExperimentAndRecommendationsFromDBByName(mKruizeExperimentMap, experimentName, bulkJobID);
+                        experimentDBService.loadLMExperimentFromDBByName(mKruizeExperimentMap, experimentName);
+                        experimentDBService.loadLMRecommendationsByExperimentNames(mKruizeExperimentMap, List.of(experimentName), bulkJobID, latestOnly);
                     }
                 } catch (Exception e) {
                     LOGGER.error("Loading saved experiment {} failed: {} ", experimentName, e.getMessage());
@@ -163,36 +180,21 @@ public class ListRecommendations extends HttpServlet {
                     );
                 }
             } else {
+                Integer pageLimit = null;
+                String afterExperimentName = null;
                 try {
-                    if (rmTable) {
-                        new ExperimentDBService().loadAllExperimentsAndRecommendations(mKruizeExperimentMap);
-                    } else {
-                        new ExperimentDBService().loadAllLMExperimentsAndRecommendations(mKruizeExperimentMap, bulkJobID);
-                    }
-                } catch (Exception e) {
-                    LOGGER.error("Loading saved experiment {} failed: {} ", experimentName, e.getMessage());
+                    pageLimit = ServiceHelpers.Pagination.parseLimit(limit);
+                    afterExperimentName = ServiceHelpers.Pagination.decodeContinueToken(continueToken);
+                } catch (IllegalArgumentException e) {
+                    error = true;
+                    sendErrorResponse(response, e, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
                 }
-                if (null != monitoringEndTime && !monitoringEndTime.isEmpty()) {
+                if (!error && null != monitoringEndTime && !monitoringEndTime.isEmpty()) {
                     monitoringEndTime = monitoringEndTime.trim();
                     if (Utils.DateUtils.isAValidDate(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, monitoringEndTime)) {
                         Date mEndTime = Utils.DateUtils.getDateFrom(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT, monitoringEndTime);
                         monitoringEndTimestamp = new Timestamp(mEndTime.getTime());
-                        for (String expName : mKruizeExperimentMap.keySet()) {
-                            boolean timestampExists = ServiceHelpers.KruizeObjectOperations.checkRecommendationTimestampExists(mKruizeExperimentMap.get(expName), monitoringEndTime);
-                            if (timestampExists) {
-                                kruizeObjectList.add(mKruizeExperimentMap.get(expName));
-                                checkForTimestamp = true;
-                            }
-                        }
-                        if (kruizeObjectList.isEmpty()) {
-                            error = true;
-                            sendErrorResponse(
-                                    response,
-                                    new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_EXCPTN),
-                                    HttpServletResponse.SC_BAD_REQUEST,
-                                    String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_MSG, monitoringEndTime)
-                            );
-                        }
+                        checkForTimestamp = true;
                     } else {
                         error = true;
                         sendErrorResponse(
@@ -202,9 +204,13 @@ public class ListRecommendations extends HttpServlet {
                                 String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.INVALID_TIMESTAMP_MSG, monitoringEndTime)
                         );
                     }
-                } else {
-                    // Add all experiments to list
-                    kruizeObjectList.addAll(mKruizeExperimentMap.values());
+                }
+                if (!error) {
+                    // all experiments are written page by page, only one page is held in memory
+                    writeRecommendationPages(response, rmTable, bulkJobID, getLatest, latestOnly,
+                            checkForTimestamp ? monitoringEndTime : null, monitoringEndTimestamp, pageLimit, afterExperimentName);
+                    statusValue = "success";
+                    return;
                 }
             }
             if (!error) {
@@ -224,29 +230,9 @@ public class ListRecommendations extends HttpServlet {
                     }
                 }
 
-                ExclusionStrategy strategy = new ExclusionStrategy() {
-                    @Override
-                    public boolean shouldSkipField(FieldAttributes field) {
-                        return field.getDeclaringClass() == ContainerData.class && (field.getName().equals("results"))
-                                || (field.getDeclaringClass() == ContainerAPIObject.class && (field.getName().equals("metrics")));
-                    }
-
-                    @Override
-                    public boolean shouldSkipClass(Class<?> clazz) {
-                        return false;
-                    }
-                };
                 String gsonStr = "[]";
                 if (recommendationList.size() > 0) {
-                    Gson gsonObj = new GsonBuilder()
-                            .disableHtmlEscaping()
-                            .setPrettyPrinting()
-                            .enableComplexMapKeySerialization()
-                            .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                            .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                            .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                            .setExclusionStrategies(strategy)
-                            .create();
+                    Gson gsonObj = createGsonObject(true);
                     gsonStr = gsonObj.toJson(recommendationList);
                 }
                 response.getWriter().println(gsonStr);
@@ -255,7 +241,9 @@ public class ListRecommendations extends HttpServlet {
         } catch (Exception e) {
             LOGGER.error("Exception: " + e.getMessage());
             e.printStackTrace();
-            sendErrorResponse(response, e, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+            if (!response.isCommitted()) {
+                sendErrorResponse(response, e, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+            }
         } finally {
             if (null != timerListRec) {
                 MetricsConfig.timerListRec = MetricsConfig.timerBListRec.tag("status", statusValue).register(MetricsConfig.meterRegistry());
@@ -264,6 +252,118 @@ public class ListRecommendations extends HttpServlet {
         }
     }
 
+    /**
+     * Writes the recommendations of all experiments, or of one page of limit experiments with the continue token of
+     * the next page in the X-Kruize-Continue header. The experiments are loaded and written listAPIPageSize at a time,
+     * so memory use is bounded by the page size. A failure after the output started truncates the response.
+     *
+     * @param monitoringEndTime only the experiments with a recommendation at this time are written, null for all
+     */
+    private void writeRecommendationPages(HttpServletResponse response, boolean rmTable, String bulkJobID, boolean getLatest,
+                                          boolean latestOnly, String monitoringEndTime, Timestamp monitoringEndTimestamp,
+                                          Integer limit, String afterExperimentName) throws Exception {
+        ExperimentDBService experimentDBService = new ExperimentDBService();
+        int pageSize = (null != limit) ? limit : KruizeDeploymentInfo.list_api_page_size;
+        Gson gsonObj = createGsonObject(false);
+        JsonWriter jsonWriter = null;
+        String lastExperimentName = afterExperimentName;
+        boolean hasNextPage = false;
+        List<String> experimentNames;
+        do {
+            Map<String, KruizeObject> page = new ConcurrentHashMap<>();
+            if (rmTable) {
+                experimentNames = experimentDBService.loadExperimentsPage(page, lastExperimentName, pageSize);
+                experimentDBService.loadRecommendationsByExperimentNames(page, experimentNames, latestOnly);
+            } else {
+                experimentNames = experimentDBService.loadLMExperimentsPage(page, lastExperimentName, pageSize);
+                experimentDBService.loadLMRecommendationsByExperimentNames(page, experimentNames, bulkJobID, latestOnly);
+            }
+            if (null != limit && experimentNames.size() == limit) {
+                hasNextPage = true;
+                response.setHeader(AnalyzerConstants.ServiceConstants.CONTINUE_HEADER,
+                        ServiceHelpers.Pagination.encodeContinueToken(experimentNames.get(experimentNames.size() - 1)));
+            }
+            for (String experimentName : experimentNames) {
+                KruizeObject ko = page.get(experimentName);
+                if (null == ko || (null != monitoringEndTime &&
+                        !ServiceHelpers.KruizeObjectOperations.checkRecommendationTimestampExists(ko, monitoringEndTime))) {
+                    continue;
+                }
+                ListRecommendationsAPIObject listRecommendationsAPIObject;
+                try {
+                    listRecommendationsAPIObject = Converters.KruizeObjectConverters.convertKruizeObjectToListRecommendationSO(
+                            ko,
+                            getLatest,
+                            null != monitoringEndTime,
+                            monitoringEndTimestamp);
+                } catch (Exception e) {
+                    LOGGER.error("Not able to generate recommendation for expName : {} due to {}", ko.getExperimentName(), e.getMessage());
+                    continue;
+                }
+                if (null == jsonWriter) {
+                    jsonWriter = gsonObj.newJsonWriter(response.getWriter());
+                    jsonWriter.beginArray();
+                }
+                gsonObj.toJson(listRecommendationsAPIObject, ListRecommendationsAPIObject.class, jsonWriter);
+            }
+            if (null != jsonWriter) {
+                jsonWriter.flush();
+            }
+            if (!experimentNames.isEmpty()) {
+                lastExperimentName = experimentNames.get(experimentNames.size() - 1);
+            }
+        } while (null == limit && experimentNames.size() == pageSize);
+
+        if (null == jsonWriter) {
+            // no experiment of the whole list has a recommendation at the monitoring end time
+            if (null != monitoringEndTime && null == afterExperimentName && !hasNextPage) {
+                sendErrorResponse(
+                        response,
+                        new Exception(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_EXCPTN),
+                        HttpServletResponse.SC_BAD_REQUEST,
+                        String.format(AnalyzerErrorConstants.APIErrors.ListRecommendationsAPI.RECOMMENDATION_DOES_NOT_EXIST_MSG, monitoringEndTime)
+                );
+                return;
+            }
+            response.getWriter().println("[]");
+        } else {
+            jsonWriter.endArray();
+            jsonWriter.flush();
+            response.getWriter().println();
+        }
+        response.getWriter().close();
+    }
+
+    /**
+     * @param prettyPrinting false for the paged responses, they are streamed compact to keep them small
+     */
+    private Gson createGsonObject(boolean prettyPrinting) {
+        ExclusionStrategy strategy = new ExclusionStrategy() {
+            @Override
+            public boolean shouldSkipField(FieldAttributes field) {
+                return field.getDeclaringClass() == ContainerData.class && (field.getName().equals("results"))
+                        || (field.getDeclaringClass() == ContainerAPIObject.class && (field.getName().equals("metrics")));
+            }
+
+            @Override
+            public boolean shouldSkipClass(Class<?> clazz) {
+                return false;
+            }
+        };
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        if (prettyPrinting) {
+            gsonBuilder.setPrettyPrinting();
+        }
+        return gsonBuilder
+                .disableHtmlEscaping()
+                .enableComplexMapKeySerialization()
+                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
+                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
+                .setExclusionStrategies(strategy)
+                .create();
+    }
+
     private void sendSuccessResponse(HttpServletResponse response) throws IOException {
         response.setContentType(JSON_CONTENT_TYPE);
         response.setCharacterEncoding(CHARACTER_ENCODING);
@@ -789,6 +789,9 @@ public class AnalyzerConstants {
         public static final String FALSE = "false";
         public static final String RM = "rm";
         public static final String PERF_PROFILE_NAME = "name";
+        public static final String LIMIT = "limit";
+        public static final String CONTINUE = "continue";
+        public static final String CONTINUE_HEADER = "X-Kruize-Continue";
 
         private ServiceConstants() {
         }
@@ -1110,6 +1113,8 @@ public class AnalyzerConstants {
             public static final String CREATED_VPA = "Created VPA with name: %s";
             public static final String STARTING_SERVICE = "Starting recommendation updater.";
             public static final String CHECKING_AUTO_EXP = "Searching for experiments with auto or recreate mode.";
+            public static final String SCHEDULED_AUTO_EXP = "Scheduled {} of {} auto or recreate mode experiments, {} in progress.";
+            public static final String STARTED_VPA_INFORMER = "Started the informer of the VPA objects.";
             public static final String FOUND_INSTASLICE = "Found Instaslice: {}";
             public static final String NO_INSTASLICE_OBJECTS = "No Instaslice objects found in namespace: {}";
             public static final String POD_READY = "Pod is ready to schedule.";
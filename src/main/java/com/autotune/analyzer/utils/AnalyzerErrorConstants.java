@@ -75,6 +75,7 @@ public class AnalyzerErrorConstants {
         public static final String INVALID_TYPE = "Objective function type can only be either expression or source\n";
         public static final String NO_PERF_PROFILE = "No performance profiles present!";
         public static final String MISSING_VALUE = "Missing 'value' in the results for the metric : ";
+        public static final String MISSING_AGGREGATION_INFO = "Missing 'aggregation_info' in the results for the metric : ";
         public static final String MISSING_SLO_DATA = "No Performance Profile or SLO data is Present!";
         public static final String SLO_REDUNDANCY_ERROR = "SLO Data and Performance Profile cannot exist simultaneously!";
         public static final String DUPLICATE_PERF_PROFILE = "Performance Profile already exists: ";
@@ -198,6 +199,17 @@ public class AnalyzerErrorConstants {
             }
         }
 
+        // limit and continue of the listExperiments and listRecommendations APIs
+        public static final class ListAPIPagination {
+            public static final String INVALID_LIMIT = "Given limit - \" %s \" is not valid, it must be a number from 1 to %d";
+            public static final String INVALID_CONTINUE_TOKEN = "Given continue token - \" %s \" is not valid";
+            public static final String PAGINATION_NOT_SUPPORTED = "limit and continue can not be combined with experiment_name or a request body";
+
+            private ListAPIPagination() {
+
+            }
+        }
+
         public static final class CreateExperimentAPI {
             public static final String NAMESPACE_AND_CONTAINER_NOT_NULL = "Only one of Namespace or Container information can be specified.";
             public static final String CONTAINER_DATA_NOT_NULL_FOR_NAMESPACE_EXP = "Can not specify container data for namespace experiment";
@@ -457,6 +469,8 @@ public class AnalyzerErrorConstants {
         public static final String RECOMMENDATION_DATA_NOT_PRESENT = "Recommendations are not present for the experiment: {}";
         public static final String INVALID_VPA_NAME = "VPA name cannot be null or empty.";
         public static final String MISSING_REQUIRED_VALUES = "Recommended resource values (CPU or Memory) are missing in resourceMap";
+        public static final String UPDATE_EXPERIMENT_FAILED = "Failed to apply recommendations for experiment: {}, {}";
+        public static final String VPA_INFORMER_START_FAILED = "Failed to start the informer of the VPA objects: {}";
 
         public static final class AcceleratorAutoscaler {
             private AcceleratorAutoscaler() {
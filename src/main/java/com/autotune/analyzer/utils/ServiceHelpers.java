@@ -27,9 +27,12 @@ import com.autotune.analyzer.serviceObjects.ContainerAPIObject;
 import com.autotune.analyzer.serviceObjects.Converters;
 import com.autotune.analyzer.serviceObjects.CreateExperimentAPIObject;
 import com.autotune.analyzer.serviceObjects.KubernetesAPIObject;
+import com.autotune.analyzer.experiment.ExperimentInitiator;
 import com.autotune.analyzer.services.CreateExperiment;
+import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.result.ContainerData;
 import com.autotune.common.k8sObjects.K8sObject;
+import com.autotune.database.service.ExperimentDBService;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.Utils;
@@ -39,11 +42,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.autotune.operator.KruizeOperator.deploymentMap;
 
@@ -136,6 +142,47 @@ public class ServiceHelpers {
         return kruizeExpList;
     }
 
+    /**
+     * Validates the experiments and adds them to the DB, as done by the createExperiment API
+     *
+     * @param createExperimentAPIObjects experiments to create, only one is supported
+     * @return ValidationOutputData with the HTTP error code of the failure if the experiment is not created
+     * @throws BulkNotSupportedException if more than one experiment is passed
+     * @throws InvalidExperimentType     if the experiment type does not match the kubernetes objects
+     */
+    public static ValidationOutputData createExperiments(List<CreateExperimentAPIObject> createExperimentAPIObjects) throws Exception {
+        // check for bulk entries and respond accordingly
+        checkForBulk(createExperimentAPIObjects);
+
+        List<KruizeObject> kruizeExpList = normalizeAndValidateExperimentTypes(createExperimentAPIObjects);
+
+        new ExperimentInitiator().validateAndAddNewExperiments(new ConcurrentHashMap<>(), kruizeExpList);
+        //TODO: UX needs to be modified - Handle response for the multiple objects
+        KruizeObject invalidKruizeObject = kruizeExpList.stream().filter((ko) -> (!ko.getValidation_data().isSuccess())).findAny().orElse(null);
+        if (null != invalidKruizeObject) {
+            return invalidKruizeObject.getValidation_data();
+        }
+        ValidationOutputData addedToDB = null;  // TODO savetoDB should move to queue and bulk upload not considered here
+        for (KruizeObject ko : kruizeExpList) {
+            CreateExperimentAPIObject validAPIObj = createExperimentAPIObjects.stream()
+                    .filter(createObj -> ko.getExperimentName().equals(createObj.getExperimentName()))
+                    .findAny()
+                    .orElse(null);
+            if (null != validAPIObj)
+                validAPIObj.setValidationData(ko.getValidation_data());
+
+            // Detect layers only if it's local monitoring container experiment.
+            if (null != validAPIObj && ko.getTarget_cluster().equalsIgnoreCase(AnalyzerConstants.LOCAL) && validAPIObj.isContainerExperiment()) {
+                detectLayers(validAPIObj);
+            }
+            addedToDB = new ExperimentDBService().addExperimentToDB(validAPIObj);
+        }
+        if (!addedToDB.isSuccess()) {
+            return new ValidationOutputData(false, addedToDB.getMessage(), HttpServletResponse.SC_BAD_REQUEST);
+        }
+        return addedToDB;
+    }
+
     public static void detectLayers (CreateExperimentAPIObject validAPIObj) throws Exception {
         for (KubernetesAPIObject kubernetesAPIObject : validAPIObj.getKubernetesObjects()) {
             for (ContainerAPIObject containerAPIObject : kubernetesAPIObject.getContainerAPIObjects()) {
@@ -152,6 +199,68 @@ public class ServiceHelpers {
         }
     }
 
+    /**
+     * Query params of the list APIs which return experiments page by page. A page holds at most limit experiments
+     * ordered by name, the continue token of a page is the encoded name of its last experiment.
+     */
+    public static class Pagination {
+        private Pagination() {
+
+        }
+
+        /**
+         * Returns the limit of the request, null if it is not passed
+         *
+         * @throws IllegalArgumentException if the limit is not a number from 1 to listAPIPageSize
+         */
+        public static Integer parseLimit(String limit) {
+            if (null == limit || limit.isEmpty()) {
+                return null;
+            }
+            try {
+                int value = Integer.parseInt(limit.trim());
+                if (value >= 1 && value <= KruizeDeploymentInfo.list_api_page_size) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException(String.format(AnalyzerErrorConstants.APIErrors.ListAPIPagination.INVALID_LIMIT,
+                    limit, KruizeDeploymentInfo.list_api_page_size));
+        }
+
+        /**
+         * Returns true if the limit or the continue token of the request is passed
+         */
+        public static boolean isRequested(String limit, String continueToken) {
+            return (null != limit && !limit.isEmpty()) || (null != continueToken && !continueToken.isEmpty());
+        }
+
+        public static String encodeContinueToken(String experimentName) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(experimentName.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Returns the name of the experiment after which the page starts, null if no token is passed
+         *
+         * @throws IllegalArgumentException if the token is not valid
+         */
+        public static String decodeContinueToken(String token) {
+            if (null == token || token.isEmpty()) {
+                return null;
+            }
+            try {
+                String experimentName = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+                if (!experimentName.isEmpty()) {
+                    return experimentName;
+                }
+            } catch (IllegalArgumentException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException(String.format(AnalyzerErrorConstants.APIErrors.ListAPIPagination.INVALID_CONTINUE_TOKEN, token));
+        }
+    }
+
     public static class KruizeObjectOperations {
         private KruizeObjectOperations() {
 
@@ -17,31 +17,36 @@ package com.autotune.analyzer.workerimpl;
 
 import com.autotune.analyzer.adapters.DeviceDetailsAdapter;
 import com.autotune.analyzer.adapters.RecommendationItemAdapter;
+import com.autotune.analyzer.exceptions.BulkNotSupportedException;
+import com.autotune.analyzer.exceptions.FetchMetricsError;
+import com.autotune.analyzer.exceptions.InvalidExperimentType;
 import com.autotune.analyzer.exceptions.KruizeResponse;
+import com.autotune.analyzer.kruizeObject.KruizeObject;
 import com.autotune.analyzer.kruizeObject.RecommendationSettings;
 import com.autotune.analyzer.metadataProfiles.MetadataProfile;
 import com.autotune.analyzer.metadataProfiles.MetadataProfileCollection;
+import com.autotune.analyzer.recommendations.engine.RecommendationEngine;
 import com.autotune.analyzer.serviceObjects.*;
+import com.autotune.analyzer.services.CreateExperiment;
+import com.autotune.analyzer.services.GenerateRecommendations;
 import com.autotune.analyzer.utils.AnalyzerConstants;
-import com.autotune.analyzer.utils.GsonUTCDateAdapter;
+import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.analyzer.utils.ServiceHelpers;
+import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.dataSourceMetadata.*;
-import com.autotune.common.data.result.ContainerData;
-import com.autotune.common.data.system.info.device.DeviceDetails;
 import com.autotune.common.datasource.DataSourceInfo;
 import com.autotune.common.datasource.DataSourceManager;
 import com.autotune.common.k8sObjects.TrialSettings;
 import com.autotune.common.utils.CommonUtils;
 import com.autotune.database.dao.ExperimentDAOImpl;
+import com.autotune.database.table.lm.KruizeBulkJobExperimentEntry;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.GenericRestApiClient;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
 import com.autotune.utils.Utils;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.google.gson.ExclusionStrategy;
-import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import io.micrometer.core.instrument.Timer;
 import org.apache.http.conn.ConnectTimeoutException;
 import org.json.JSONObject;
@@ -59,14 +64,15 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import static com.autotune.analyzer.services.BulkService.filterJson;
 import static com.autotune.operator.KruizeDeploymentInfo.bulk_thread_pool_size;
 import static com.autotune.operator.KruizeDeploymentInfo.job_filter_to_db;
 import static com.autotune.utils.KruizeConstants.KRUIZE_BULK_API.*;
@@ -100,22 +106,25 @@ import static com.autotune.utils.KruizeConstants.KRUIZE_BULK_API.NotificationCon
  */
 public class BulkJobManager implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BulkJobManager.class);
+    // status of the error responses of the APIs, see KruizeErrorHandler
+    private static final String ERROR_STATUS = "ERROR";
+    private static final Gson GSON = new Gson();
+    private static final Gson RECOMMENDATIONS_GSON = GenerateRecommendations.createRecommendationsGson(false);
+    private static final AtomicInteger inProcessRecommendationCount = new AtomicInteger();
     ExecutorService createExecutor = Executors.newFixedThreadPool(bulk_thread_pool_size);
     ExecutorService generateExecutor = Executors.newFixedThreadPool(bulk_thread_pool_size);
     private String jobID;
     private BulkInput bulkInput;
     private BulkJobStatus jobData;
     private KruizeKafkaManager kruizeKafkaManager;
-    private final Set<String> kafkaIncludeFilter;
-    private final Set<String> kafkaExcludeFilter;
+    // experiments whose Kafka message completed, saved again once the messages of the job are flushed
+    private final Queue<BulkJobStatus.Experiment> publishedExperiments = new ConcurrentLinkedQueue<>();
 
     public BulkJobManager(String jobID, BulkJobStatus jobData, BulkInput payload) {
         this.jobID = jobID;
         this.jobData = jobData;
         this.bulkInput = payload;
         this.kruizeKafkaManager = KruizeDeploymentInfo.is_kafka_enabled ? KruizeKafkaManager.getInstance() : null;
-        this.kafkaIncludeFilter = KruizeDeploymentInfo.getKafkaIncludeFilter();
-        this.kafkaExcludeFilter = KruizeDeploymentInfo.getKafkaExcludeFilter();
     }
 
     public static List<String> appendExperiments(List<String> allExperiments, String experimentName) {
@@ -221,9 +230,10 @@ public class BulkJobManager implements Runnable {
                                         break;
                                     }
                                 }
-                                // Shutdown kafkaExecutor
+                                // Wait for the kafka messages of the job
                                 if (kruizeKafkaManager != null) {
-                                    kruizeKafkaManager.shutdownKafkaManager();
+                                    kruizeKafkaManager.flush();
+                                    savePublishedExperimentsToDB();
                                 }
 
                                 if (jobData.getSummary().getTotal_experiments() == jobData.getSummary().getProcessed_experiments().get()) {
@@ -294,13 +304,8 @@ public class BulkJobManager implements Runnable {
         }
         if (!KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {               //toDO avoid this check
             try {
-                if (null == jobData.getExperimentMap() || jobData.getExperimentMap().isEmpty()) {
-                    new ExperimentDAOImpl().bulkJobSave(jobData.getBulkJobForDB("{}"));
-                } else {
-                    Set<String> includeFields = new HashSet<>(Arrays.asList(job_filter_to_db));
-                    String experimentJSONString = filterJson(jobData, includeFields, Collections.emptySet(), null);
-                    new ExperimentDAOImpl().bulkJobSave(jobData.getBulkJobForDB(experimentJSONString));
-                }
+                // the experiments are saved to kruize_bulkjob_experiments as they are processed, see saveExperimentToDB
+                new ExperimentDAOImpl().bulkJobSave(jobData.getBulkJobForDB("{}"));
             } catch (Exception e) {
                 LOGGER.error(e.getMessage());
             }
@@ -343,28 +348,7 @@ public class BulkJobManager implements Runnable {
     }
 
     private List<?> parseRecommendationResponse(GenericRestApiClient.HttpResponseWrapper response) {
-        ExclusionStrategy strategy = new ExclusionStrategy() {
-            @Override
-            public boolean shouldSkipField(FieldAttributes field) {
-                return field.getDeclaringClass() == ContainerData.class && (field.getName().equals("results"))
-                        || (field.getDeclaringClass() == ContainerAPIObject.class && (field.getName().equals("metrics")));
-            }
-
-            @Override
-            public boolean shouldSkipClass(Class<?> clazz) {
-                return false;
-            }
-        };
-        Gson gson = new GsonBuilder()
-                .disableHtmlEscaping()
-                .setPrettyPrinting()
-                .enableComplexMapKeySerialization()
-                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                .setExclusionStrategies(strategy)
-                .create();
-        return gson.fromJson(response.getResponseBody().toString(), List.class);
+        return RECOMMENDATIONS_GSON.fromJson(response.getResponseBody().toString(), List.class);
     }
 
     private void markExperimentAsFailed(BulkJobStatus.Experiment experiment, Exception e) {
@@ -385,7 +369,7 @@ public class BulkJobManager implements Runnable {
         // if kafka is enabled, push the response in the respective topic
         if (kruizeKafkaManager != null) {
             kruizeKafkaManager.publishKafkaMessage(KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC, jobData, experiment.getName(),
-                    experiment, kafkaIncludeFilter, kafkaExcludeFilter);
+                    experiment, publishedExperiments::add);
         }
     }
 
@@ -395,14 +379,44 @@ public class BulkJobManager implements Runnable {
         markExperimentAsFailed(experiment, e);
     }
 
+    /**
+     * Upserts the experiment into kruize_bulkjob_experiments along with the processed count of the job
+     */
+    private void saveExperimentToDB(BulkJobStatus.Experiment experiment) {
+        if (KruizeDeploymentInfo.test_use_only_cache_job_in_mem) {
+            return;
+        }
+        try {
+            KruizeBulkJobExperimentEntry kruizeBulkJobExperimentEntry = jobData.getBulkJobExperimentForDB(experiment, job_filter_to_db);
+            if (null != kruizeBulkJobExperimentEntry) {
+                new ExperimentDAOImpl().saveBulkJobExperiment(kruizeBulkJobExperimentEntry, jobData.getSummary().getProcessed_experiments().get());
+            }
+        } catch (Exception e) {
+            LOGGER.error(BULK_JOB_SAVE_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the PUBLISHED or PUBLISH_FAILED status of the experiments whose Kafka message completed. The status is
+     * only known after the delivery, while the experiment itself was saved when it was processed, and the save is
+     * not done in the delivery callback to keep the DB off the producer I/O thread.
+     */
+    private void savePublishedExperimentsToDB() {
+        BulkJobStatus.Experiment experiment;
+        while (null != (experiment = publishedExperiments.poll())) {
+            saveExperimentToDB(experiment);
+        }
+    }
+
     private void checkAndFinalizeJob(DataSourceInfo datasource, BulkJobStatus.Experiment experiment) {
+        saveExperimentToDB(experiment);
         synchronized (jobData) {
             if (jobData.getSummary().getTotal_experiments() == jobData.getSummary().getProcessed_experiments().get()) {
                 setFinalJobStatus(COMPLETED, null, null, datasource);
                 // if kafka is enabled, push the final summary in the summary topic
                 if (kruizeKafkaManager != null) {
                     kruizeKafkaManager.publishKafkaMessage(KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC, jobData,
-                            experiment.getName(), experiment, kafkaIncludeFilter, kafkaExcludeFilter);
+                            experiment.getName(), experiment, publishedExperiments::add);
                 }
             }
         }
@@ -411,36 +425,85 @@ public class BulkJobManager implements Runnable {
     private void handleRecommendationGeneration(String experimentName, DataSourceInfo datasource, BulkJobStatus.Experiment experiment) {
         String topic = "";
         try {
-            String recommendationURL = String.format(KruizeDeploymentInfo.recommendations_url + "&" + JOB_ID + "=%s",
-                    URLEncoder.encode(experimentName, StandardCharsets.UTF_8), jobID);
+            if (KruizeDeploymentInfo.bulk_in_process_api) {
+                topic = generateRecommendationsInProcess(experimentName, experiment);
+            } else {
+                String recommendationURL = String.format(KruizeDeploymentInfo.recommendations_url + "&" + JOB_ID + "=%s",
+                        URLEncoder.encode(experimentName, StandardCharsets.UTF_8), jobID);
 
-            GenericRestApiClient recommendationApiClient = new GenericRestApiClient(datasource);
-            recommendationApiClient.setBaseURL(recommendationURL);
+                GenericRestApiClient recommendationApiClient = new GenericRestApiClient(datasource);
+                recommendationApiClient.setBaseURL(recommendationURL);
 
-            GenericRestApiClient.HttpResponseWrapper recommendationResponse = recommendationApiClient.callKruizeAPI(null);
+                GenericRestApiClient.HttpResponseWrapper recommendationResponse = recommendationApiClient.callKruizeAPI(null);
 
 
-            if (recommendationResponse.getStatusCode() == HttpURLConnection.HTTP_CREATED) {
-                experiment.getApis().getRecommendations().setResponse(parseRecommendationResponse(recommendationResponse));
-                experiment.setStatus(NotificationConstants.Status.PROCESSED);
-                jobData.getSummary().incrementProcessed_experiments();
-                topic = KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC;
-            } else {
-                markExperimentAsFailed(experiment, new Exception(recommendationResponse.getResponseBody().toString()));
-                LOGGER.error(recommendationResponse.getResponseBody().toString());
-                topic = KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC;
+                if (recommendationResponse.getStatusCode() == HttpURLConnection.HTTP_CREATED) {
+                    experiment.getApis().getRecommendations().setResponse(parseRecommendationResponse(recommendationResponse));
+                    experiment.setStatus(NotificationConstants.Status.PROCESSED);
+                    jobData.getSummary().incrementProcessed_experiments();
+                    topic = KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC;
+                } else {
+                    markExperimentAsFailed(experiment, new Exception(recommendationResponse.getResponseBody().toString()));
+                    LOGGER.error(recommendationResponse.getResponseBody().toString());
+                    topic = KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC;
+                }
             }
         } catch (Exception e) {
             handleException(e, experiment);
         } finally {
             // if kafka is enabled, push the response in the respective topic
             if (kruizeKafkaManager != null) {
-                kruizeKafkaManager.publishKafkaMessage(topic, jobData, experimentName, experiment, kafkaIncludeFilter, kafkaExcludeFilter);
+                kruizeKafkaManager.publishKafkaMessage(topic, jobData, experimentName, experiment, publishedExperiments::add);
             }
             checkAndFinalizeJob(datasource, experiment);
         }
     }
 
+    /**
+     * Generates the recommendations of the experiment with the RecommendationEngine directly, same as the
+     * generateRecommendations API does, instead of calling the API over HTTP
+     *
+     * @return kafka topic for the outcome of the experiment
+     */
+    String generateRecommendationsInProcess(String experimentName, BulkJobStatus.Experiment experiment) {
+        int calCount = inProcessRecommendationCount.incrementAndGet();
+        String statusValue = "failure";
+        Timer.Sample timerBUpdateRecommendations = Timer.start(MetricsConfig.meterRegistry());
+        KruizeResponse failure;
+        try {
+            RecommendationEngine recommendationEngine = new RecommendationEngine(experimentName, null, null);
+            String validationMessage = recommendationEngine.validate_local();
+            if (validationMessage.isEmpty()) {
+                KruizeObject kruizeObject = recommendationEngine.prepareRecommendations(calCount, AnalyzerConstants.LOCAL, jobID);
+                if (kruizeObject.getValidation_data().isSuccess()) {
+                    // kept as objects, BulkJobStatus.RecommendationsResponseSerializer writes them as the API does
+                    experiment.getApis().getRecommendations().setResponse(GenerateRecommendations.getRecommendationList(kruizeObject, null));
+                    experiment.setStatus(NotificationConstants.Status.PROCESSED);
+                    jobData.getSummary().incrementProcessed_experiments();
+                    statusValue = "success";
+                    return KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC;
+                }
+                failure = new KruizeResponse(kruizeObject.getValidation_data().getMessage(), kruizeObject.getValidation_data().getErrorCode(), "", ERROR_STATUS);
+            } else {
+                failure = new KruizeResponse(validationMessage, HttpURLConnection.HTTP_BAD_REQUEST, "", ERROR_STATUS);
+            }
+        } catch (FetchMetricsError e) {
+            failure = new KruizeResponse(e.getMessage(), HttpURLConnection.HTTP_BAD_REQUEST, "", ERROR_STATUS);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage());
+            failure = new KruizeResponse(e.getMessage(), HttpURLConnection.HTTP_INTERNAL_ERROR, "", ERROR_STATUS);
+        } finally {
+            // same timer as the generateRecommendations API
+            MetricsConfig.timerUpdateRecomendations = MetricsConfig.timerBUpdateRecommendations.tag(KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.STATUS, statusValue).register(MetricsConfig.meterRegistry());
+            timerBUpdateRecommendations.stop(MetricsConfig.timerUpdateRecomendations);
+        }
+        // same error body as returned by the API
+        String failureMessage = GSON.toJson(failure);
+        markExperimentAsFailed(experiment, new Exception(failureMessage));
+        LOGGER.error(failureMessage);
+        return KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC;
+    }
+
     private String handleMetadataProfile(DataSourceInfo datasource) {
         String metadataProfileName = null;
         MetadataProfile metadataProfile;
@@ -488,6 +551,9 @@ public class BulkJobManager implements Runnable {
 
 
     private boolean createExperiment(CreateExperimentAPIObject apiObject, BulkJobStatus.Experiment experiment, DataSourceInfo datasource) {
+        if (KruizeDeploymentInfo.bulk_in_process_api) {
+            return createExperimentInProcess(apiObject, experiment);
+        }
         try {
             GenericRestApiClient apiClient = new GenericRestApiClient(datasource);
             apiClient.setBaseURL(KruizeDeploymentInfo.experiments_url);
@@ -504,6 +570,42 @@ public class BulkJobManager implements Runnable {
         }
     }
 
+    /**
+     * Creates the experiment with the same service as the createExperiment API, instead of calling the API over HTTP
+     */
+    boolean createExperimentInProcess(CreateExperimentAPIObject apiObject, BulkJobStatus.Experiment experiment) {
+        String statusValue = "failure";
+        Timer.Sample timerCreateExp = Timer.start(MetricsConfig.meterRegistry());
+        try {
+            // the service updates the experiment it creates, keep the request of the job status as sent
+            CreateExperimentAPIObject createExperimentAPIObject = new CreateExperimentAPIObject(apiObject);
+            ValidationOutputData createdExperiment = ServiceHelpers.createExperiments(new ArrayList<>(List.of(createExperimentAPIObject)));
+            if (createdExperiment.isSuccess()) {
+                experiment.getApis().getCreate().setResponse(CreateExperiment.getSuccessResponse(EXPERIMENT_REGISTERED));
+                statusValue = "success";
+                return true;
+            }
+            experiment.getApis().getCreate().setResponse(
+                    new KruizeResponse(createdExperiment.getMessage(), createdExperiment.getErrorCode(), "", ERROR_STATUS));
+            LOGGER.debug("Create experiment response code: {}", createdExperiment.getErrorCode());
+            return createdExperiment.getErrorCode() == HttpURLConnection.HTTP_CONFLICT;
+        } catch (BulkNotSupportedException e) {
+            experiment.getApis().getCreate().setResponse(new KruizeResponse(AnalyzerErrorConstants.AutotuneObjectErrors.UNSUPPORTED_EXPERIMENT,
+                    HttpURLConnection.HTTP_BAD_REQUEST, "", ERROR_STATUS));
+            return false;
+        } catch (InvalidExperimentType e) {
+            experiment.getApis().getCreate().setResponse(new KruizeResponse(e.getMessage(), HttpURLConnection.HTTP_BAD_REQUEST, "", ERROR_STATUS));
+            return false;
+        } catch (Exception e) {
+            handleException(e, experiment);
+            return false;
+        } finally {
+            // same timer as the createExperiment API
+            MetricsConfig.timerCreateExp = MetricsConfig.timerBCreateExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+            timerCreateExp.stop(MetricsConfig.timerCreateExp);
+        }
+    }
+
     Map<String, CreateExperimentAPIObject> getExperimentMap(String labelString, BulkJobStatus jobData, DataSourceMetadataInfo metadataInfo, DataSourceInfo datasource) throws Exception {
         String statusValue = "failure";
         Timer.Sample timerGetExpMap = Timer.start(MetricsConfig.meterRegistry());
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.analyzer.workerimpl;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the bulk jobs submitted through the Bulk API and the Kafka bulk input topic on a shared pool of
+ * bulkJobPoolSize threads. Jobs submitted while every thread is busy wait for a free thread, producers that can
+ * hold back their jobs, like the Kafka consumer, check {@link #isSaturated()} first.
+ */
+public final class BulkJobScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkJobScheduler.class);
+    private static final ExecutorService jobExecutor = Executors.newFixedThreadPool(KruizeDeploymentInfo.bulk_job_pool_size);
+    // jobs submitted and not completed yet, running or waiting for a thread
+    private static final AtomicInteger pendingJobs = new AtomicInteger();
+
+    private BulkJobScheduler() {
+
+    }
+
+    /**
+     * Submits the job to be processed asynchronously
+     *
+     * @param bulkJobManager the job
+     */
+    public static void submit(BulkJobManager bulkJobManager) {
+        pendingJobs.incrementAndGet();
+        try {
+            jobExecutor.submit(() -> {
+                try {
+                    bulkJobManager.run();
+                } finally {
+                    pendingJobs.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingJobs.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if every thread of the pool has a job, a new job would wait for a free thread
+     */
+    public static boolean isSaturated() {
+        return pendingJobs.get() >= KruizeDeploymentInfo.bulk_job_pool_size;
+    }
+
+    public static int getPendingJobs() {
+        return pendingJobs.get();
+    }
+
+    /**
+     * Stops accepting new jobs, the submitted jobs still run
+     */
+    public static void shutdown() {
+        LOGGER.debug("Shutting down Bulk Job Executor Service...");
+        jobExecutor.shutdown();
+    }
+}
@@ -21,29 +21,29 @@ import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.common.kafka.KruizeKafka;
 import com.autotune.common.kafka.KruizeKafkaProducer;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
- * Manages Kafka message publishing using an executor service.
- * Ensures messages are published to valid Kafka topics and processed asynchronously.
+ * Manages Kafka message publishing.
+ * Ensures messages are published to valid Kafka topics and sends them asynchronously, keyed by the bulk job id
+ * so that the messages of a job keep their order.
  */
 public class KruizeKafkaManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(KruizeKafkaManager.class);
     private static KruizeKafkaManager instance;
-    private final ExecutorService kafkaExecutorService = Executors.newFixedThreadPool(KruizeDeploymentInfo.kafka_thread_pool_size);
     private final Set<String> validTopics;
+    private final ObjectWriter kafkaFilterWriter;
 
     /**
      * Constructs a KruizeKafkaManager instance.
-     * Initializes an executor service and loads valid Kafka topics from the configuration.
+     * Loads valid Kafka topics and the response filters from the configuration.
      */
     public KruizeKafkaManager() {
         // validate the Kafka Connection
@@ -51,6 +51,8 @@ public class KruizeKafkaManager {
         validateKafkaConnection();
         // Load valid topics from config
         validTopics = KruizeDeploymentInfo.loadKafkaTopicsFromConfig();
+        kafkaFilterWriter = BulkService.getFilterWriter(KruizeDeploymentInfo.getKafkaIncludeFilter(),
+                KruizeDeploymentInfo.getKafkaExcludeFilter());
     }
 
     /**
@@ -66,56 +68,67 @@ public class KruizeKafkaManager {
     }
 
     /**
-     * Publishes a Kafka message after filtering and validation.
+     * Publishes a Kafka message after filtering and validation, filtered with the Kafka response filters of the
+     * configuration. Once the message is delivered or failed, the experiment is marked as published or publish
+     * failed and passed to onPublished, on the producer I/O thread.
      *
-     * @param topic              the Kafka topic
-     * @param jobData            the bulkJobStatus object containing the response data
-     * @param experimentName     the experiment name
-     * @param experiment         the experiment object
-     * @param kafkaIncludeFilter filters to include in the Kafka message
-     * @param kafkaExcludeFilter filters to exclude from the Kafka message
+     * @param topic          the Kafka topic
+     * @param jobData        the bulkJobStatus object containing the response data
+     * @param experimentName the experiment name
+     * @param experiment     the experiment object
+     * @param onPublished    called with the experiment once its status is set
      */
-    void publishKafkaMessage(String topic, BulkJobStatus jobData, String experimentName, BulkJobStatus.Experiment experiment, Set<String> kafkaIncludeFilter, Set<String> kafkaExcludeFilter) {
+    void publishKafkaMessage(String topic, BulkJobStatus jobData, String experimentName, BulkJobStatus.Experiment experiment,
+                             Consumer<BulkJobStatus.Experiment> onPublished) {
         try {
             if (!validTopics.contains(topic)) {
                 throw new Exception(String.format(KruizeConstants.KAFKA_CONSTANTS.MISSING_KAFKA_TOPIC, topic));
             }
-            String kafkaMessage = BulkService.filterJson(jobData, kafkaIncludeFilter, kafkaExcludeFilter, experimentName);
+            String kafkaMessage = BulkService.filterJson(kafkaFilterWriter, jobData, experimentName);
             LOGGER.debug("Publishing Kafka Message for experiment {} in topic : {}", experimentName, topic);
-            // synchronize the publish call to avoid inter-leaving of messages
-            synchronized (this) {
-                publish(new KruizeKafka(topic, kafkaMessage));
-            }
-            experiment.setStatus(KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISHED);
+            publish(new KruizeKafka(topic, jobData.getSummary().getJobID(), kafkaMessage), e -> {
+                experiment.setStatus((null == e) ? KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISHED :
+                        KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISH_FAILED);
+                onPublished.accept(experiment);
+            });
         } catch (Exception e) {
             LOGGER.error(e.getMessage());
             experiment.setStatus(KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PUBLISH_FAILED);
+            onPublished.accept(experiment);
         }
     }
 
     /**
-     * Publishes a Kafka message asynchronously using the executor service.
+     * Publishes a Kafka message asynchronously.
      *
      * @param kruizeKafka the Kafka message containing the topic and message content
      */
     public void publish(KruizeKafka kruizeKafka) {
+        publish(kruizeKafka, null);
+    }
+
+    /**
+     * Publishes a Kafka message asynchronously.
+     *
+     * @param kruizeKafka the Kafka message containing the topic, key and message content
+     * @param onComplete  called once the message is delivered, with null, or failed, with the error
+     */
+    public void publish(KruizeKafka kruizeKafka, Consumer<Exception> onComplete) {
         try {
-            // Call Kafka producer based on topic
             switch (kruizeKafka.getTopic()) {
                 case KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC:
-                    kafkaExecutorService.submit(new KruizeKafkaProducer.ValidRecommendationMessageProducer(kruizeKafka.getMessage()));
-                    break;
                 case KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC:
-                    kafkaExecutorService.submit(new KruizeKafkaProducer.ErrorMessageProducer(kruizeKafka.getMessage()));
-                    break;
                 case KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC:
-                    kafkaExecutorService.submit(new KruizeKafkaProducer.SummaryResponseMessageProducer(kruizeKafka.getMessage()));
+                    KruizeKafkaProducer.sendMessage(kruizeKafka, onComplete);
                     break;
                 default:
                     throw new IllegalArgumentException(String.format(KruizeConstants.KAFKA_CONSTANTS.UNKNOWN_TOPIC, kruizeKafka.getTopic()));
             }
         } catch (Exception e) {
             LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_PUBLISH_FAILED, e.getMessage());
+            if (null != onComplete) {
+                onComplete.accept(e);
+            }
         }
     }
 
@@ -142,17 +155,12 @@ public class KruizeKafkaManager {
         }
     }
 
-    public void shutdownKafkaManager() {
-        LOGGER.debug("Shutting down Kafka Executor Service...");
-        kafkaExecutorService.shutdown();
-        try {
-            if (!kafkaExecutorService.awaitTermination(1, TimeUnit.MINUTES)) {
-                kafkaExecutorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            kafkaExecutorService.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+    /**
+     * Waits for the delivery of the messages published so far, like the messages of a completed job.
+     */
+    public void flush() {
+        LOGGER.debug("Flushing Kafka messages...");
+        KruizeKafkaProducer.flush();
     }
 
     @Override
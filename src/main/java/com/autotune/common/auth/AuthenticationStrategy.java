@@ -42,4 +42,10 @@ public interface AuthenticationStrategy {
     default SSLContext getSSLContext() throws Exception {
         return null;
     }
+
+    /**
+     * Drops the cached credentials, if any, after the server rejected them, so the next request loads them again.
+     */
+    default void invalidateCredentials() {
+    }
 }
@@ -2,9 +2,27 @@ package com.autotune.common.auth;
 
 import com.autotune.utils.KruizeConstants;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 public class AuthenticationStrategyFactory {
+    // strategies caching a token by datasource name, shared by all the clients of the datasource
+    private static final Map<String, CachedStrategy> cachingStrategies = new ConcurrentHashMap<>();
 
     public static AuthenticationStrategy createAuthenticationStrategy(AuthenticationConfig authConfig) {
+        return createAuthenticationStrategy(null, authConfig);
+    }
+
+    /**
+     * Creates the authentication strategy of a datasource. The strategies caching a token are shared by the clients
+     * of the datasource, and replaced when its credentials change.
+     *
+     * @param datasourceName name of the datasource, null to not share the strategy
+     * @param authConfig     authentication of the datasource
+     * @return the authentication strategy
+     */
+    public static AuthenticationStrategy createAuthenticationStrategy(String datasourceName, AuthenticationConfig authConfig) {
         AuthType type = authConfig.getType();
         switch (type) {
             case NONE:
@@ -16,6 +34,11 @@ public class AuthenticationStrategyFactory {
             case BEARER:
                 String tokenFilePath = ((BearerTokenCredentials) authConfig.getCredentials()).getTokenFilePath();
                 String token = ((BearerTokenCredentials) authConfig.getCredentials()).getToken();
+                if (null == token) {
+                    // the token read from the file is cached
+                    return getCachingStrategy(datasourceName, authConfig.getCredentials(),
+                            () -> new BearerAuthenticationStrategy(tokenFilePath, null));
+                }
                 return new BearerAuthenticationStrategy(tokenFilePath,token);
             case API_KEY:
                 String apiKey = ((ApiKeyCredentials) authConfig.getCredentials()).getApiKey();
@@ -24,7 +47,8 @@ public class AuthenticationStrategyFactory {
                 String tokenEndpoint = ((OAuth2Credentials) authConfig.getCredentials()).getTokenEndpoint();
                 String clientId = ((OAuth2Credentials) authConfig.getCredentials()).getClientId();
                 String clientSecret = ((OAuth2Credentials) authConfig.getCredentials()).getClientSecret();
-                return new OAuth2AuthenticationStrategy(tokenEndpoint, clientId, clientSecret);
+                return getCachingStrategy(datasourceName, authConfig.getCredentials(),
+                        () -> new OAuth2AuthenticationStrategy(tokenEndpoint, clientId, clientSecret));
             case MTLS:
                 String clientCertPath = ((MTLSCredentials) authConfig.getCredentials()).getClientCertPath();
                 String clientKeyPath = ((MTLSCredentials) authConfig.getCredentials()).getClientKeyPath();
@@ -35,4 +59,40 @@ public class AuthenticationStrategyFactory {
                 throw new IllegalArgumentException(KruizeConstants.AuthenticationConstants.UNKNOWN_AUTHENTICATION+ type);
         }
     }
+
+    /**
+     * Drops the cached strategy of the datasource, once it is updated or deleted
+     *
+     * @param datasourceName name of the datasource
+     */
+    public static void evict(String datasourceName) {
+        if (null != datasourceName) {
+            cachingStrategies.remove(datasourceName);
+        }
+    }
+
+    private static AuthenticationStrategy getCachingStrategy(String datasourceName, Credentials credentials,
+                                                             Supplier<AuthenticationStrategy> strategySupplier) {
+        if (null == datasourceName) {
+            return strategySupplier.get();
+        }
+        CachedStrategy cached = cachingStrategies.get(datasourceName);
+        if (null != cached && cached.credentials.equals(credentials)) {
+            return cached.strategy;
+        }
+        // new or changed credentials, like a rotated client secret, replace the strategy and its token
+        return cachingStrategies.compute(datasourceName, (name, current) ->
+                (null != current && current.credentials.equals(credentials)) ? current :
+                        new CachedStrategy(credentials, strategySupplier.get())).strategy;
+    }
+
+    private static final class CachedStrategy {
+        private final Credentials credentials;
+        private final AuthenticationStrategy strategy;
+
+        private CachedStrategy(Credentials credentials, AuthenticationStrategy strategy) {
+            this.credentials = credentials;
+            this.strategy = strategy;
+        }
+    }
 }
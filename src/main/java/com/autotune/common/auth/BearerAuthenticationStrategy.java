@@ -1,12 +1,28 @@
 package com.autotune.common.auth;
 
+import com.autotune.utils.KruizeConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
+/**
+ * Authenticates with a token given inline or read from a token file.
+ * The token file is read again only when its modification time changes, e.g. when a projected service account
+ * token is rotated, instead of on every request.
+ */
 public class BearerAuthenticationStrategy implements AuthenticationStrategy {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BearerAuthenticationStrategy.class);
     private final String tokenFilePath;
     private final String tokenString;
+    // token read from the file and the modification time of the file when it was read
+    private volatile FileToken fileToken;
 
     public BearerAuthenticationStrategy(String tokenFilePath,  String tokenString) {
         this.tokenFilePath = tokenFilePath;
@@ -18,10 +34,7 @@ public class BearerAuthenticationStrategy implements AuthenticationStrategy {
         if(null == tokenString) {
             // Read token from file
             try {
-                BufferedReader reader = new BufferedReader(new FileReader(tokenFilePath));
-                String token = reader.readLine();
-                reader.close();
-                return "Bearer " + token;
+                return "Bearer " + getFileToken();
             } catch (IOException e) {
                 throw new RuntimeException("Failed to read Bearer token: " + e.getMessage());
             }
@@ -30,4 +43,40 @@ public class BearerAuthenticationStrategy implements AuthenticationStrategy {
         }
 
     }
+
+    @Override
+    public void invalidateCredentials() {
+        fileToken = null;
+    }
+
+    private String getFileToken() throws IOException {
+        Path tokenFile = Paths.get(tokenFilePath);
+        FileTime lastModified = Files.getLastModifiedTime(tokenFile);
+        FileToken current = fileToken;
+        if (null != current && current.lastModified.equals(lastModified)) {
+            return current.token;
+        }
+        // concurrent requests read the changed file once
+        synchronized (this) {
+            current = fileToken;
+            if (null == current || !current.lastModified.equals(lastModified)) {
+                try (BufferedReader reader = Files.newBufferedReader(tokenFile, StandardCharsets.UTF_8)) {
+                    current = new FileToken(reader.readLine(), lastModified);
+                }
+                fileToken = current;
+                LOGGER.debug(KruizeConstants.AuthenticationConstants.TOKEN_FILE_READ, tokenFilePath, lastModified);
+            }
+            return current.token;
+        }
+    }
+
+    private static final class FileToken {
+        private final String token;
+        private final FileTime lastModified;
+
+        private FileToken(String token, FileTime lastModified) {
+            this.token = token;
+            this.lastModified = lastModified;
+        }
+    }
 }
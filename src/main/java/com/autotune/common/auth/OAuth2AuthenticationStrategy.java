@@ -1,14 +1,32 @@
 package com.autotune.common.auth;
 
+import com.autotune.utils.KruizeConstants;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.net.URI;
+import java.net.URLDecoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates with a token fetched from the token endpoint using the client credentials grant.
+ * The token is cached until it expires and refreshed ahead in the background, see {@link TokenCache}.
+ */
 public class OAuth2AuthenticationStrategy implements AuthenticationStrategy {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OAuth2AuthenticationStrategy.class);
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(KruizeConstants.AuthenticationConstants.OAUTH2_CONNECT_TIMEOUT_SECONDS))
+            .build();
     private final String tokenEndpoint;
     private final String clientId;
     private final String clientSecret;
+    private final TokenCache tokenCache = new TokenCache(this::fetchToken);
 
     public OAuth2AuthenticationStrategy(String tokenEndpoint, String clientId, String clientSecret) {
         this.tokenEndpoint = tokenEndpoint;
@@ -18,47 +36,66 @@ public class OAuth2AuthenticationStrategy implements AuthenticationStrategy {
 
     @Override
     public String applyAuthentication() {
-        try {
-            // Fetch the OAuth2 token using client credentials
-            HttpClient client = HttpClient.newHttpClient();
+        return "Bearer " + tokenCache.getToken(); // Return the token in Bearer format
+    }
 
-            // Create the request body for the OAuth2 token request
-            String form = "grant_type=client_credentials"
-                    + "&client_id=" + clientId
-                    + "&client_secret=" + clientSecret;
+    @Override
+    public void invalidateCredentials() {
+        tokenCache.invalidate();
+    }
 
-            // Send the POST request to fetch the token
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(tokenEndpoint))
-                    .header("Content-Type", "application/x-www-form-urlencoded")
-                    .POST(HttpRequest.BodyPublishers.ofString(form))
-                    .build();
+    private TokenCache.Token fetchToken() throws Exception {
+        // Create the request body for the OAuth2 token request
+        String form = "grant_type=client_credentials"
+                + "&client_id=" + clientId
+                + "&client_secret=" + clientSecret;
 
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        // Send the POST request to fetch the token
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(tokenEndpoint))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .timeout(Duration.ofSeconds(KruizeConstants.AuthenticationConstants.OAUTH2_REQUEST_TIMEOUT_SECONDS))
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
 
-            if (response.statusCode() == 200) {
-                // Parse the token from the response JSON (assuming GitHub returns a JSON)
-                String token = parseToken(response.body());
-                return "Bearer " + token; // Return the token in Bearer format
-            } else {
-                throw new RuntimeException("Failed to fetch OAuth2 token: " + response.body());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Error fetching OAuth2 token", e);
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() == 200) {
+            LOGGER.debug(KruizeConstants.AuthenticationConstants.OAUTH2_TOKEN_FETCHED, tokenEndpoint);
+            return parseToken(response.body());
+        } else {
+            throw new RuntimeException("Failed to fetch OAuth2 token: " + response.body());
         }
     }
 
-    // You will need a method to parse the token from the response body
-    private String parseToken(String responseBody) {
-        // Parse the response and extract the access token.
-        // GitHub returns a form-encoded response, so you need to parse the "access_token"
-        String[] pairs = responseBody.split("&");
-        for (String pair : pairs) {
-            String[] keyValue = pair.split("=");
-            if (keyValue[0].equals("access_token")) {
-                return keyValue[1];
+    /**
+     * Parses the access token and its expires_in from a JSON or, like GitHub returns, a form-encoded response.
+     * A token without expires_in is kept for OAUTH2_DEFAULT_TOKEN_TTL_SECONDS.
+     */
+    private TokenCache.Token parseToken(String responseBody) {
+        String accessToken = null;
+        long expiresIn = KruizeConstants.AuthenticationConstants.OAUTH2_DEFAULT_TOKEN_TTL_SECONDS;
+        if (responseBody.trim().startsWith("{")) {
+            JSONObject responseJson = new JSONObject(responseBody);
+            accessToken = responseJson.optString(KruizeConstants.AuthenticationConstants.OAUTH2_ACCESS_TOKEN, null);
+            expiresIn = responseJson.optLong(KruizeConstants.AuthenticationConstants.OAUTH2_EXPIRES_IN, expiresIn);
+        } else {
+            String[] pairs = responseBody.split("&");
+            for (String pair : pairs) {
+                String[] keyValue = pair.split("=", 2);
+                if (keyValue.length < 2) {
+                    continue;
+                }
+                if (keyValue[0].equals(KruizeConstants.AuthenticationConstants.OAUTH2_ACCESS_TOKEN)) {
+                    accessToken = URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8);
+                } else if (keyValue[0].equals(KruizeConstants.AuthenticationConstants.OAUTH2_EXPIRES_IN)) {
+                    expiresIn = Long.parseLong(keyValue[1].trim());
+                }
             }
         }
-        throw new RuntimeException("No access token found in response");
+        if (null == accessToken || accessToken.isEmpty()) {
+            throw new RuntimeException("No access token found in response");
+        }
+        return TokenCache.Token.validFor(accessToken, TimeUnit.SECONDS.toMillis(expiresIn));
     }
 }
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.auth;
+
+import com.autotune.utils.KruizeConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches a token of a datasource until it expires.
+ * <p>
+ * Once the refresh-ahead part of its lifetime has passed, the token is still returned while a new one is fetched in
+ * the background, so queries only wait for a token when there is none or it has expired. Concurrent refreshes are
+ * coalesced into one fetch, which fails after TOKEN_FETCH_TIMEOUT_SECONDS so a stalled fetch does not block the
+ * queries once the token endpoint recovers.
+ */
+public class TokenCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenCache.class);
+    private static final ExecutorService refreshExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "kruize-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TokenFetcher tokenFetcher;
+    private volatile Token token;
+    // the refresh in progress, null if none
+    private CompletableFuture<Token> refresh;
+
+    public TokenCache(TokenFetcher tokenFetcher) {
+        this.tokenFetcher = tokenFetcher;
+    }
+
+    /**
+     * Returns the cached token, fetching a new one if there is none or it has expired
+     *
+     * @return the token
+     * @throws RuntimeException if the token could not be fetched
+     */
+    public String getToken() {
+        Token current = token;
+        long now = System.currentTimeMillis();
+        if (null != current && now < current.expiresAt) {
+            if (now >= current.refreshAt) {
+                refresh(current);
+            }
+            return current.value;
+        }
+        try {
+            return refresh(current).join().value;
+        } catch (CompletionException e) {
+            Throwable cause = (null != e.getCause()) ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Drops the cached token, the next call fetches a new one
+     */
+    public void invalidate() {
+        token = null;
+    }
+
+    /**
+     * Starts fetching a new token unless a fetch is in progress
+     *
+     * @param current the token which needs to be replaced
+     * @return the fetch in progress, or the new token if it was replaced by a fetch which just completed
+     */
+    private synchronized CompletableFuture<Token> refresh(Token current) {
+        if (null != token && token != current) {
+            return CompletableFuture.completedFuture(token);
+        }
+        CompletableFuture<Token> fetch = refresh;
+        if (null == fetch) {
+            fetch = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return tokenFetcher.fetch();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, refreshExecutor).orTimeout(KruizeConstants.AuthenticationConstants.TOKEN_FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            refresh = fetch;
+            fetch.whenComplete(this::completeRefresh);
+        }
+        return fetch;
+    }
+
+    private synchronized void completeRefresh(Token newToken, Throwable error) {
+        if (null != newToken) {
+            token = newToken;
+        } else {
+            // the cached token is used until it expires, the next call after the refresh-ahead time retries
+            // a timed out fetch fails with a TimeoutException without message
+            Throwable cause = (null != error.getCause()) ? error.getCause() : error;
+            LOGGER.error(KruizeConstants.AuthenticationConstants.TOKEN_REFRESH_FAILED,
+                    (null != cause.getMessage()) ? cause.getMessage() : cause.toString());
+        }
+        refresh = null;
+    }
+
+    /**
+     * Fetches a new token
+     */
+    @FunctionalInterface
+    public interface TokenFetcher {
+        Token fetch() throws Exception;
+    }
+
+    /**
+     * A token with the times, in millis, after which it is refreshed in the background and after which it is not
+     * used anymore
+     */
+    public static final class Token {
+        private final String value;
+        private final long refreshAt;
+        private final long expiresAt;
+
+        public Token(String value, long refreshAt, long expiresAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Creates a token which is valid for the given time from now, refreshed ahead once
+         * TOKEN_REFRESH_AHEAD_RATIO of it has passed
+         *
+         * @param value          the token
+         * @param validForMillis time the token is valid for
+         * @return the token
+         */
+        public static Token validFor(String value, long validForMillis) {
+            long now = System.currentTimeMillis();
+            return new Token(value,
+                    now + (long) (validForMillis * KruizeConstants.AuthenticationConstants.TOKEN_REFRESH_AHEAD_RATIO),
+                    now + validForMillis);
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
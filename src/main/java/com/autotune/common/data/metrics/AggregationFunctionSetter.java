@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.metrics;
+
+import com.autotune.utils.KruizeConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Setters of MetricAggregationInfoResults keyed by the aggregation function name of a metric profile,
+ * so that the setter is resolved once per aggregation function instead of by reflection per sample.
+ */
+public enum AggregationFunctionSetter {
+    AVG(KruizeConstants.JSONKeys.AVG, MetricAggregationInfoResults::setAvg),
+    MAX(KruizeConstants.JSONKeys.MAX, MetricAggregationInfoResults::setMax),
+    MEDIAN(KruizeConstants.JSONKeys.MEDIAN, MetricAggregationInfoResults::setMedian),
+    MIN(KruizeConstants.JSONKeys.MIN, MetricAggregationInfoResults::setMin),
+    MODE(KruizeConstants.JSONKeys.MODE, MetricAggregationInfoResults::setMode),
+    RANGE(KruizeConstants.JSONKeys.RANGE, MetricAggregationInfoResults::setRange),
+    SUM(KruizeConstants.JSONKeys.SUM, MetricAggregationInfoResults::setSum);
+
+    private static final Map<String, AggregationFunctionSetter> BY_FUNCTION = new HashMap<>();
+
+    static {
+        for (AggregationFunctionSetter setter : values()) {
+            BY_FUNCTION.put(setter.function, setter);
+        }
+    }
+
+    private final String function;
+    private final BiConsumer<MetricAggregationInfoResults, Double> setter;
+
+    AggregationFunctionSetter(String function, BiConsumer<MetricAggregationInfoResults, Double> setter) {
+        this.function = function;
+        this.setter = setter;
+    }
+
+    /**
+     * Returns the setter of the aggregation function
+     *
+     * @param function aggregation function name as used in the metric profile, e.g. avg, max
+     * @return AggregationFunctionSetter of the function
+     * @throws NoSuchMethodException if MetricAggregationInfoResults has no Double setter for the function
+     */
+    public static AggregationFunctionSetter fromFunction(String function) throws NoSuchMethodException {
+        AggregationFunctionSetter setter = BY_FUNCTION.get(function);
+        if (null == setter) {
+            throw new NoSuchMethodException(MetricAggregationInfoResults.class.getName() + "." + KruizeConstants.APIMessages.SET + function);
+        }
+        return setter;
+    }
+
+    public String getFunction() {
+        return function;
+    }
+
+    public void set(MetricAggregationInfoResults metricAggregationInfoResults, double value) {
+        setter.accept(metricAggregationInfoResults, value);
+    }
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.data.result;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Sorted snapshot of the interval end times of a results map, in epoch millis, to look up
+ * the timestamp nearest to a given time with a binary search instead of scanning all the results.
+ * <p>
+ * The index is not updated when the results map changes, it has to be rebuilt after adding new intervals.
+ */
+public class IntervalResultsTimeIndex {
+    private final long[] epochMillis;
+    private final Timestamp[] timestamps;
+
+    private IntervalResultsTimeIndex(long[] epochMillis, Timestamp[] timestamps) {
+        this.epochMillis = epochMillis;
+        this.timestamps = timestamps;
+    }
+
+    /**
+     * Builds the index of the interval end times of the results
+     *
+     * @param results interval results keyed by interval end time
+     * @return IntervalResultsTimeIndex of the results, empty if results is null
+     */
+    public static IntervalResultsTimeIndex of(Map<Timestamp, IntervalResults> results) {
+        if (null == results || results.isEmpty()) {
+            return new IntervalResultsTimeIndex(new long[0], new Timestamp[0]);
+        }
+        Timestamp[] timestamps = results.keySet().toArray(new Timestamp[0]);
+        Arrays.sort(timestamps);
+        long[] epochMillis = new long[timestamps.length];
+        for (int i = 0; i < timestamps.length; i++) {
+            epochMillis[i] = timestamps[i].getTime();
+        }
+        return new IntervalResultsTimeIndex(epochMillis, timestamps);
+    }
+
+    /**
+     * Returns the timestamp nearest to the target time within the tolerance, the earlier one on a tie
+     *
+     * @param targetTimeMillis  target time in epoch millis
+     * @param toleranceInMillis maximum allowed distance from the target time
+     * @return nearest Timestamp, null if no timestamp is within the tolerance
+     */
+    public Timestamp getNearest(long targetTimeMillis, long toleranceInMillis) {
+        int position = Arrays.binarySearch(epochMillis, targetTimeMillis);
+        if (position >= 0) {
+            return timestamps[position];
+        }
+        int ceiling = -position - 1;
+        int floor = ceiling - 1;
+        long floorDistance = (floor >= 0) ? targetTimeMillis - epochMillis[floor] : Long.MAX_VALUE;
+        long ceilingDistance = (ceiling < epochMillis.length) ? epochMillis[ceiling] - targetTimeMillis : Long.MAX_VALUE;
+        if (floorDistance <= ceilingDistance) {
+            return (floorDistance <= toleranceInMillis) ? timestamps[floor] : null;
+        }
+        return (ceilingDistance <= toleranceInMillis) ? timestamps[ceiling] : null;
+    }
+
+    public int size() {
+        return epochMillis.length;
+    }
+
+    public boolean isEmpty() {
+        return epochMillis.length == 0;
+    }
+}
@@ -16,6 +16,7 @@
 package com.autotune.common.datasource;
 
 import com.autotune.common.auth.AuthenticationConfig;
+import com.autotune.common.auth.AuthenticationStrategyFactory;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.exceptions.datasource.*;
 import com.autotune.common.utils.CommonUtils;
@@ -305,6 +306,7 @@ public class DataSourceCollection {
         }
         if (dataSourceCollection.containsKey(name)) {
             dataSourceCollection.remove(name);
+            AuthenticationStrategyFactory.evict(name);
         } else {
             throw new DataSourceDoesNotExist(KruizeConstants.DataSourceConstants.DataSourceErrorMsgs.DATASOURCE_NOT_EXIST);
         }
@@ -322,6 +324,7 @@ public class DataSourceCollection {
 
         if (dataSourceCollection.containsKey(name)) {
             dataSourceCollection.remove(name);
+            AuthenticationStrategyFactory.evict(name);
             addDataSource(newDataSource);
         } else {
             throw new DataSourceDoesNotExist(name + ": " + KruizeConstants.DataSourceConstants.DataSourceErrorMsgs.DATASOURCE_NOT_EXIST);
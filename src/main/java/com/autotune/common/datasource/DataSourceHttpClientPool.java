@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource;
+
+import com.autotune.common.auth.AuthenticationConfig;
+import com.autotune.common.auth.AuthenticationStrategy;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.GenericRestApiClient;
+import com.autotune.utils.KruizeConstants;
+import com.autotune.utils.MetricsConfig;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.security.KeyManagementException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Holds one pooled, keep-alive HTTP client per datasource so that every query against the same
+ * datasource reuses already established TCP/TLS connections instead of building a new client,
+ * SSL context and socket factory per request.
+ * <p>
+ * Clients are keyed by datasource name and rebuilt when the authentication details of the
+ * datasource change, since the SSL context (mTLS) is derived from them.
+ */
+public class DataSourceHttpClientPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceHttpClientPool.class);
+    private static final Map<String, PooledClient> pooledClients = new ConcurrentHashMap<>();
+
+    private DataSourceHttpClientPool() {
+
+    }
+
+    /**
+     * Returns the shared HTTP client for the datasource, creating it on first use.
+     * The returned client must not be closed by the caller.
+     *
+     * @param dataSourceInfo         datasource the client is used for
+     * @param authenticationStrategy strategy providing a custom SSL context, if any
+     * @return pooled CloseableHttpClient
+     * @throws KeyManagementException if the SSL context could not be created
+     */
+    public static CloseableHttpClient getClient(DataSourceInfo dataSourceInfo, AuthenticationStrategy authenticationStrategy) throws KeyManagementException {
+        String name = dataSourceInfo.getName();
+        AuthenticationConfig authConfig = dataSourceInfo.getAuthenticationConfig();
+        PooledClient pooledClient = pooledClients.get(name);
+        if (null != pooledClient && pooledClient.matches(authConfig)) {
+            return pooledClient.httpClient;
+        }
+        synchronized (DataSourceHttpClientPool.class) {
+            pooledClient = pooledClients.get(name);
+            if (null != pooledClient && pooledClient.matches(authConfig)) {
+                return pooledClient.httpClient;
+            }
+            if (null != pooledClient) {
+                LOGGER.info(KruizeConstants.DataSourceConstants.DataSourceInfoMsgs.HTTP_CLIENT_POOL_RECREATED, name);
+                pooledClient.close(name);
+            }
+            PooledClient newClient = createPooledClient(name, authConfig, authenticationStrategy);
+            if (null == pooledClient) {
+                registerPoolMetrics(name);
+            }
+            pooledClients.put(name, newClient);
+            return newClient.httpClient;
+        }
+    }
+
+    /**
+     * Closes and removes the pooled client of the datasource, if present
+     *
+     * @param dataSourceName name of the datasource
+     */
+    public static void invalidate(String dataSourceName) {
+        synchronized (DataSourceHttpClientPool.class) {
+            PooledClient pooledClient = pooledClients.remove(dataSourceName);
+            if (null != pooledClient) {
+                pooledClient.close(dataSourceName);
+            }
+        }
+    }
+
+    /**
+     * Returns the current connection pool statistics for the datasource
+     *
+     * @param dataSourceName name of the datasource
+     * @return PoolStats of the datasource client, null if no client is created yet
+     */
+    public static PoolStats getPoolStats(String dataSourceName) {
+        PooledClient pooledClient = pooledClients.get(dataSourceName);
+        return (null == pooledClient) ? null : pooledClient.connectionManager.getTotalStats();
+    }
+
+    private static PooledClient createPooledClient(String name, AuthenticationConfig authConfig, AuthenticationStrategy authenticationStrategy) throws KeyManagementException {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", GenericRestApiClient.buildSocketFactory(authenticationStrategy))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(KruizeDeploymentInfo.datasource_http_max_connections);
+        connectionManager.setDefaultMaxPerRoute(KruizeDeploymentInfo.datasource_http_max_connections_per_route);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(KruizeDeploymentInfo.datasource_http_connect_timeout_ms)
+                .setSocketTimeout(KruizeDeploymentInfo.datasource_http_socket_timeout_ms)
+                .setConnectionRequestTimeout(KruizeDeploymentInfo.datasource_http_connection_request_timeout_ms)
+                .build();
+
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(KruizeDeploymentInfo.datasource_http_keep_alive_seconds);
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    // honour the server provided keep-alive, capped at the configured value
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return (serverKeepAlive > 0) ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(KruizeDeploymentInfo.datasource_http_idle_eviction_seconds, TimeUnit.SECONDS)
+                .build();
+
+        LOGGER.info(KruizeConstants.DataSourceConstants.DataSourceInfoMsgs.HTTP_CLIENT_POOL_CREATED, name,
+                KruizeDeploymentInfo.datasource_http_max_connections, KruizeDeploymentInfo.datasource_http_max_connections_per_route);
+        return new PooledClient(authConfig, connectionManager, httpClient);
+    }
+
+    private static void registerPoolMetrics(String name) {
+        try {
+            MetricsConfig.registerDataSourceHttpPoolGauges(name,
+                    () -> statOrZero(name, PoolStats::getLeased),
+                    () -> statOrZero(name, PoolStats::getAvailable),
+                    () -> statOrZero(name, PoolStats::getPending),
+                    () -> statOrZero(name, PoolStats::getMax));
+        } catch (Exception e) {
+            LOGGER.debug("Unable to register HTTP pool metrics for datasource {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static int statOrZero(String name, ToIntFunction<PoolStats> stat) {
+        PoolStats poolStats = getPoolStats(name);
+        return (null == poolStats) ? 0 : stat.applyAsInt(poolStats);
+    }
+
+    private static class PooledClient {
+        private final AuthenticationConfig authConfig;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final CloseableHttpClient httpClient;
+
+        private PooledClient(AuthenticationConfig authConfig, PoolingHttpClientConnectionManager connectionManager, CloseableHttpClient httpClient) {
+            this.authConfig = authConfig;
+            this.connectionManager = connectionManager;
+            this.httpClient = httpClient;
+        }
+
+        private boolean matches(AuthenticationConfig other) {
+            return Objects.equals(authConfig, other);
+        }
+
+        private void close(String name) {
+            try {
+                httpClient.close();
+                LOGGER.debug(KruizeConstants.DataSourceConstants.DataSourceInfoMsgs.HTTP_CLIENT_POOL_CLOSED, name);
+            } catch (IOException e) {
+                LOGGER.error(KruizeConstants.DataSourceConstants.DataSourceErrorMsgs.HTTP_CLIENT_POOL_CLOSE_FAILED, name, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Runs datasource queries concurrently on virtual threads while limiting the number of queries
+ * in flight per datasource, so that fanning out the queries of many experiments cannot overload
+ * a single datasource.
+ */
+public class DataSourceQueryExecutor {
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Map<String, Semaphore> datasourcePermits = new ConcurrentHashMap<>();
+
+    private DataSourceQueryExecutor() {
+
+    }
+
+    /**
+     * Runs all the queries against the datasource and waits for them to complete
+     *
+     * @param dataSourceName name of the datasource queried
+     * @param queries        queries to run
+     * @return results of the queries, in the order of the queries
+     * @throws Exception the failure of the first failed query, the remaining queries are cancelled
+     */
+    public static <T> List<T> invokeAll(String dataSourceName, List<Callable<T>> queries) throws Exception {
+        List<T> results = new ArrayList<>(queries.size());
+        if (queries.size() == 1) {
+            results.add(runWithPermit(getPermits(dataSourceName), queries.get(0)));
+            return results;
+        }
+
+        Semaphore permits = getPermits(dataSourceName);
+        List<Future<T>> futures = new ArrayList<>(queries.size());
+        try {
+            for (Callable<T> query : queries) {
+                futures.add(executor.submit(() -> runWithPermit(permits, query)));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    private static <T> T runWithPermit(Semaphore permits, Callable<T> query) throws Exception {
+        permits.acquire();
+        try {
+            return query.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static Semaphore getPermits(String dataSourceName) {
+        return datasourcePermits.computeIfAbsent(dataSourceName,
+                name -> new Semaphore(Math.max(1, KruizeDeploymentInfo.datasource_max_concurrent_queries), true));
+    }
+}
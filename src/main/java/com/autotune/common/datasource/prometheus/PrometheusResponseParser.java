@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource.prometheus;
+
+import com.autotune.utils.KruizeConstants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming decoder for Prometheus HTTP API query and query_range responses.
+ * <p>
+ * The response body is read token by token and every sample of a vector, matrix or scalar result is
+ * handed to a {@link PrometheusSampleConsumer} as (labels, epochSeconds, value), so neither the body
+ * String nor a JSON tree of the response is ever materialized.
+ * <p>
+ * Example input -
+ * {"status":"success","data":{"resultType":"matrix","result":[{"metric":{"container":"kruize"},
+ * "values":[[1642612628.987,"0.25"],[1642613528.987,"0.3"]]}]}}
+ */
+public class PrometheusResponseParser {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String WARNINGS = "warnings";
+    private static final String ERROR = "error";
+    private static final String POSITIVE_INFINITY = "+Inf";
+    private static final String NEGATIVE_INFINITY = "-Inf";
+
+    private PrometheusResponseParser() {
+
+    }
+
+    /**
+     * Parses the response and delivers every sample to the consumer
+     *
+     * @param inputStream response body
+     * @param consumer    receives the samples of the accepted series
+     * @return ParsedResponse with the status, warnings and number of series of the response
+     * @throws IOException if the response is malformed or the consumer fails to process a sample
+     */
+    public static ParsedResponse parse(InputStream inputStream, PrometheusSampleConsumer consumer) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            return parse(parser, consumer);
+        }
+    }
+
+    /**
+     * Parses the response and delivers every sample to the consumer
+     *
+     * @param content  response body
+     * @param consumer receives the samples of the accepted series
+     * @return ParsedResponse with the status, warnings and number of series of the response
+     * @throws IOException if the response is malformed or the consumer fails to process a sample
+     */
+    public static ParsedResponse parse(String content, PrometheusSampleConsumer consumer) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            return parse(parser, consumer);
+        }
+    }
+
+    private static ParsedResponse parse(JsonParser parser, PrometheusSampleConsumer consumer) throws IOException {
+        ParsedResponse parsedResponse = new ParsedResponse();
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.STATUS.equals(field)) {
+                parsedResponse.status = parser.getValueAsString();
+            } else if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.DATA.equals(field) && token == JsonToken.START_OBJECT) {
+                parseData(parser, consumer, parsedResponse);
+            } else if (WARNINGS.equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    parsedResponse.warnings.add(parser.getValueAsString());
+                }
+            } else if (ERROR.equals(field)) {
+                parsedResponse.error = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return parsedResponse;
+    }
+
+    private static void parseData(JsonParser parser, PrometheusSampleConsumer consumer, ParsedResponse parsedResponse) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.RESULT.equals(field) && token == JsonToken.START_ARRAY) {
+                parseResult(parser, consumer, parsedResponse);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void parseResult(JsonParser parser, PrometheusSampleConsumer consumer, ParsedResponse parsedResponse) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            // scalar or string result: "result": [<epoch>, "<value>"]
+            long epochSeconds = readEpochSeconds(parser);
+            parser.nextToken();
+            double value = readValue(parser);
+            expect(parser, parser.nextToken(), JsonToken.END_ARRAY);
+            parsedResponse.seriesCount = 1;
+            Map<String, String> labels = Collections.emptyMap();
+            if (consumer.acceptSeries(0, labels)) {
+                deliver(consumer, 0, labels, epochSeconds, value);
+            }
+            return;
+        }
+        int seriesIndex = 0;
+        while (token == JsonToken.START_OBJECT) {
+            parseSeries(parser, consumer, seriesIndex++);
+            token = parser.nextToken();
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+        parsedResponse.seriesCount = seriesIndex;
+    }
+
+    private static void parseSeries(JsonParser parser, PrometheusSampleConsumer consumer, int seriesIndex) throws IOException {
+        Map<String, String> labels = null;
+        Boolean accepted = null;
+        // samples seen before the "metric" object are buffered, Prometheus normally sends the labels first
+        SampleBuffer pending = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.METRIC.equals(field) && token == JsonToken.START_OBJECT) {
+                labels = readLabels(parser);
+                accepted = consumer.acceptSeries(seriesIndex, labels);
+                if (accepted && null != pending) {
+                    for (int i = 0; i < pending.size; i++) {
+                        deliver(consumer, seriesIndex, labels, pending.epochs[i], pending.values[i]);
+                    }
+                }
+                pending = null;
+            } else if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUE.equals(field) && token == JsonToken.START_ARRAY) {
+                pending = readSample(parser, consumer, seriesIndex, labels, accepted, pending);
+            } else if (KruizeConstants.DataSourceConstants.DataSourceQueryJSONKeys.VALUES.equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_ARRAY) {
+                    pending = readSample(parser, consumer, seriesIndex, labels, accepted, pending);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (null == labels && null != pending) {
+            // series without labels
+            labels = Collections.emptyMap();
+            if (consumer.acceptSeries(seriesIndex, labels)) {
+                for (int i = 0; i < pending.size; i++) {
+                    deliver(consumer, seriesIndex, labels, pending.epochs[i], pending.values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads one [epoch, "value"] pair, the parser is positioned on its START_ARRAY
+     */
+    private static SampleBuffer readSample(JsonParser parser, PrometheusSampleConsumer consumer, int seriesIndex,
+                                           Map<String, String> labels, Boolean accepted, SampleBuffer pending) throws IOException {
+        parser.nextToken();
+        long epochSeconds = readEpochSeconds(parser);
+        parser.nextToken();
+        double value = readValue(parser);
+        expect(parser, parser.nextToken(), JsonToken.END_ARRAY);
+        if (null == accepted) {
+            if (null == pending) {
+                pending = new SampleBuffer();
+            }
+            pending.add(epochSeconds, value);
+        } else if (accepted) {
+            deliver(consumer, seriesIndex, labels, epochSeconds, value);
+        }
+        return pending;
+    }
+
+    private static Map<String, String> readLabels(JsonParser parser) throws IOException {
+        Map<String, String> labels = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            labels.put(name, parser.getValueAsString());
+        }
+        return labels;
+    }
+
+    private static long readEpochSeconds(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            // sub-second precision is dropped, same as the previous Gson getAsLong() based parsing
+            return (long) parser.getDoubleValue();
+        } else if (token == JsonToken.VALUE_STRING) {
+            return (long) Double.parseDouble(parser.getText());
+        }
+        throw new JsonParseException(parser, "Unexpected sample timestamp token: " + token);
+    }
+
+    private static double readValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        } else if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText();
+            if (POSITIVE_INFINITY.equals(text)) {
+                return Double.POSITIVE_INFINITY;
+            } else if (NEGATIVE_INFINITY.equals(text)) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            return Double.parseDouble(text);
+        }
+        throw new JsonParseException(parser, "Unexpected sample value token: " + token);
+    }
+
+    private static void deliver(PrometheusSampleConsumer consumer, int seriesIndex, Map<String, String> labels,
+                                long epochSeconds, double value) throws IOException {
+        try {
+            consumer.accept(seriesIndex, labels, epochSeconds, value);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Summary of a parsed response, the samples themselves are only passed to the consumer
+     */
+    public static class ParsedResponse {
+        private String status;
+        private String error;
+        private int seriesCount;
+        private final List<String> warnings = new ArrayList<>();
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public int getSeriesCount() {
+            return seriesCount;
+        }
+
+        public List<String> getWarnings() {
+            return warnings;
+        }
+
+        public boolean isEmpty() {
+            return seriesCount == 0;
+        }
+    }
+
+    private static class SampleBuffer {
+        private long[] epochs = new long[16];
+        private double[] values = new double[16];
+        private int size;
+
+        private void add(long epochSeconds, double value) {
+            if (size == epochs.length) {
+                epochs = Arrays.copyOf(epochs, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            epochs[size] = epochSeconds;
+            values[size] = value;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.common.datasource.prometheus;
+
+import java.util.Map;
+
+/**
+ * Receives the samples of a Prometheus vector or matrix response while it is being parsed
+ * by {@link PrometheusResponseParser}, one sample at a time.
+ */
+@FunctionalInterface
+public interface PrometheusSampleConsumer {
+    /**
+     * Called once per series before its samples are delivered.
+     *
+     * @param seriesIndex position of the series in the result array
+     * @param labels      labels of the series ("metric" object)
+     * @return false to skip all samples of the series
+     */
+    default boolean acceptSeries(int seriesIndex, Map<String, String> labels) {
+        return true;
+    }
+
+    /**
+     * Called for every sample of an accepted series.
+     *
+     * @param seriesIndex  position of the series in the result array
+     * @param labels       labels of the series ("metric" object)
+     * @param epochSeconds sample timestamp in epoch seconds
+     * @param value        sample value
+     * @throws Exception if the sample could not be processed, parsing is aborted
+     */
+    void accept(int seriesIndex, Map<String, String> labels, long epochSeconds, double value) throws Exception;
+}
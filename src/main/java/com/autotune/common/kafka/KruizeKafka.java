@@ -17,10 +17,12 @@
 package com.autotune.common.kafka;
 
 /**
- * Represents a Kafka Object with a topic and message content.
+ * Represents a Kafka Object with a topic, an optional key and message content.
+ * Messages with the same key go to the same partition, hence keep their order.
  */
 public class KruizeKafka {
     private final String topic;
+    private final String key;
     private final String message;
 
     /**
@@ -30,7 +32,19 @@ public class KruizeKafka {
      * @param message the message content
      */
     public KruizeKafka(String topic, String message) {
+        this(topic, null, message);
+    }
+
+    /**
+     * Constructs a KruizeKafka instance with the specified topic, key and message.
+     *
+     * @param topic   the Kafka topic to which the message belongs
+     * @param key     the message key, like the bulk job id, null to spread the messages over the partitions
+     * @param message the message content
+     */
+    public KruizeKafka(String topic, String key, String message) {
         this.topic = topic;
+        this.key = key;
         this.message = message;
     }
 
@@ -43,6 +57,15 @@ public class KruizeKafka {
         return topic;
     }
 
+    /**
+     * Retrieves the key of this message.
+     *
+     * @return the key, null if the message has no key
+     */
+    public String getKey() {
+        return key;
+    }
+
     /**
      * Retrieves the content of the message.
      *
@@ -61,6 +84,7 @@ public class KruizeKafka {
     public String toString() {
         return "KruizeKafka{" +
                 "topic='" + topic + '\'' +
+                ", key='" + key + '\'' +
                 ", message='" + message + '\'' +
                 '}';
     }
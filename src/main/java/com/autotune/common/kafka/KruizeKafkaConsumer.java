@@ -15,52 +15,156 @@
  *******************************************************************************/
 package com.autotune.common.kafka;
 
+import com.autotune.analyzer.serviceObjects.BulkInput;
+import com.autotune.analyzer.serviceObjects.BulkJobStatus;
+import com.autotune.analyzer.services.BulkService;
+import com.autotune.analyzer.workerimpl.BulkJobManager;
+import com.autotune.analyzer.workerimpl.BulkJobScheduler;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
-import java.util.Scanner;
+import java.util.UUID;
 
-//TODO: This class is not being used for now, will be updated later
 /**
- * KruizeKafkaConsumer class is responsible for consuming messages from a Kafka topic.
- * It implements the Runnable interface to allow execution in a separate thread.
- * The consumer listens for messages and logs the received recommendations.
+ * KruizeKafkaConsumer class is responsible for consuming bulk jobs from the bulk input topic.
+ * Every message holds the same BulkInput payload as the Bulk API. The job is saved and submitted to the
+ * {@link BulkJobScheduler}, the offset of the message is committed once the job is saved.
+ * While the scheduler is saturated the consumer pauses its partitions, so jobs stay in the topic instead of
+ * piling up in memory, and resumes them once a job completes.
  */
 public class KruizeKafkaConsumer implements Runnable {
-    private static KafkaConsumer<String, String> consumer;
     private static final Logger LOGGER = LoggerFactory.getLogger(KruizeKafkaConsumer.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private final KafkaConsumer<String, String> consumer;
+    private volatile boolean running = true;
+
+    public KruizeKafkaConsumer() {
+        this.consumer = getKafkaConsumerConfig();
+    }
+
+    /**
+     * Starts consuming the bulk input topic in a separate thread and closes the consumer on shutdown
+     *
+     * @return the started consumer
+     */
+    public static KruizeKafkaConsumer start() {
+        KruizeKafkaConsumer kruizeKafkaConsumer = new KruizeKafkaConsumer();
+        Thread consumerThread = new Thread(kruizeKafkaConsumer, "kruize-kafka-consumer");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+        addConsumerShutdownHook(kruizeKafkaConsumer);
+        return kruizeKafkaConsumer;
+    }
 
     /**
      * The main execution method of the Kafka consumer.
-     * The consumer subscribes to a Kafka topic and continuously polls for new input.
+     * The consumer subscribes to the bulk input topic and polls for new jobs until it is shut down.
      */
     @Override
     public void run() {
-
-        // Flag to control the loop and terminate when needed
-        boolean continueListening = true;
-
+        Duration pollTimeout = Duration.ofMillis(KruizeDeploymentInfo.kafka_consumer_poll_timeout_ms);
         try {
-            consumer = getKafkaConsumerConfig();
-            consumer.subscribe(java.util.Collections.singletonList(KruizeDeploymentInfo.bulk_input_topic));
-            while (continueListening) {
-                consumer.poll(java.time.Duration.ofMillis(100)).forEach(record -> {
-                    LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.MESSAGE_RECEIVED_SUCCESSFULLY,
-                            record.key(), record.value(), record.partition(), record.offset());
-                });
-                if (isTerminationSignalReceived()) {
-                    continueListening = false;
+            consumer.subscribe(Collections.singletonList(KruizeDeploymentInfo.bulk_input_topic));
+            while (running) {
+                // poll while paused as well, to stay in the consumer group
+                if (!consumer.paused().isEmpty() && !BulkJobScheduler.isSaturated()) {
+                    LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.BULK_INPUT_RESUMED, BulkJobScheduler.getPendingJobs());
+                    consumer.resume(consumer.paused());
+                }
+                ConsumerRecords<String, String> records = consumer.poll(pollTimeout);
+                boolean saveFailed = false;
+                for (TopicPartition partition : records.partitions()) {
+                    for (ConsumerRecord<String, String> record : records.records(partition)) {
+                        if (BulkJobScheduler.isSaturated()) {
+                            // read the record again once the partitions are resumed
+                            LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.BULK_INPUT_PAUSED, BulkJobScheduler.getPendingJobs());
+                            consumer.seek(partition, record.offset());
+                            consumer.pause(consumer.assignment());
+                            break;
+                        }
+                        if (!admitJob(record)) {
+                            // the job is not saved, read the record again on the next poll
+                            consumer.seek(partition, record.offset());
+                            saveFailed = true;
+                            break;
+                        }
+                        consumer.commitSync(Map.of(partition, new OffsetAndMetadata(record.offset() + 1)));
+                    }
                 }
+                if (saveFailed) {
+                    // back off before saving the jobs again
+                    Thread.sleep(pollTimeout.toMillis());
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                throw e;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
+            LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.BULK_INPUT_CONSUMER_FAILED, e.getMessage());
             e.printStackTrace();
+        } finally {
+            consumer.close();
+        }
+    }
+
+    /**
+     * Saves the job of the record and submits it to the scheduler
+     *
+     * @param record record holding the BulkInput
+     * @return false if the job could not be saved and the record should be read again, true otherwise
+     */
+    private boolean admitJob(ConsumerRecord<String, String> record) {
+        LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.MESSAGE_RECEIVED_SUCCESSFULLY,
+                record.key(), record.value(), record.partition(), record.offset());
+        // the same record gets the same job id when it is read again after a failure
+        String jobID = UUID.nameUUIDFromBytes(String.format("%s-%d-%d", record.topic(), record.partition(), record.offset())
+                .getBytes(StandardCharsets.UTF_8)).toString();
+        BulkInput payload;
+        BulkJobStatus jobStatus;
+        try {
+            payload = OBJECT_MAPPER.readValue(record.value(), BulkInput.class);
+            if (null == payload) {
+                throw new Exception(KruizeConstants.KAFKA_CONSTANTS.EMPTY_BULK_INPUT);
+            }
+            jobStatus = BulkService.createBulkJob(jobID, payload);
+        } catch (Exception e) {
+            // an invalid input fails again when read again, skip it
+            LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.INVALID_BULK_INPUT, record.partition(), record.offset(), e.getMessage());
+            return true;
+        }
+        if (!BulkService.saveBulkJob(jobStatus)) {
+            return false;
         }
+        BulkJobScheduler.submit(new BulkJobManager(jobID, jobStatus, payload));
+        LOGGER.info(KruizeConstants.KAFKA_CONSTANTS.BULK_JOB_ADMITTED, jobID, record.partition(), record.offset());
+        return true;
+    }
+
+    /**
+     * Stops polling and closes the consumer
+     */
+    public void shutdown() {
+        running = false;
+        consumer.wakeup();
     }
 
     /**
@@ -74,6 +178,11 @@ public class KruizeKafkaConsumer implements Runnable {
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, KruizeDeploymentInfo.kafka_group_id);
         consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
         consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        // offsets are committed once the job of a record is saved
+        consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        // at most one pool of jobs is read ahead
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, KruizeDeploymentInfo.bulk_job_pool_size);
 
         return new KafkaConsumer<>(consumerProps);
     }
@@ -81,21 +190,7 @@ public class KruizeKafkaConsumer implements Runnable {
     /**
      * Adds a shutdown hook to close the Kafka consumer gracefully.
      */
-    private static void addConsumerShutdownHook() {
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            if (consumer != null) {
-                consumer.close();
-            }
-        }));
-    }
-
-    /**
-     * Checks if a termination signal has been received.
-     *
-     * @return {@code true} if termination input is detected; {@code false} otherwise.
-     */
-    private static boolean isTerminationSignalReceived() {
-        Scanner scanner = new Scanner(System.in);
-        return scanner.hasNext(); // This will return true if any input arrives
+    private static void addConsumerShutdownHook(KruizeKafkaConsumer kruizeKafkaConsumer) {
+        Runtime.getRuntime().addShutdownHook(new Thread(kruizeKafkaConsumer::shutdown));
     }
 }
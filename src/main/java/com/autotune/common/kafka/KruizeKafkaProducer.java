@@ -17,30 +17,38 @@ package com.autotune.common.kafka;
 
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
+import com.autotune.utils.MetricsConfig;
+import io.micrometer.core.instrument.Counter;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * KruizeKafkaProducer class is responsible for producing messages to Kafka topics.
- * It provides methods to send different types of messages, such as recommendations, errors, and summaries.
+ * Messages are sent asynchronously, the producer batches and compresses them per partition and reports the
+ * delivery of every message in the kruizeKafkaMessages metric.
  */
 public class KruizeKafkaProducer {
     private static final Logger LOGGER = LoggerFactory.getLogger(KruizeKafkaProducer.class);
+    private static final String DELIVERED = "delivered";
+    private static final String FAILED = "failed";
 
     // Singleton Kafka Producer Instance
     private static final KafkaProducer<String, String> producer = new KafkaProducer<>(getProducerProperties());
+    private static final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
 
     /**
-     * Retrieves Kafka producer properties.     *
+     * Retrieves Kafka producer properties.
+     *
      * @return Properties object containing Kafka producer configuration.
      */
     private static Properties getProducerProperties() {
@@ -49,99 +57,66 @@ public class KruizeKafkaProducer {
         producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
         producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
         producerProps.put(ProducerConfig.ACKS_CONFIG, KruizeConstants.KAFKA_CONSTANTS.ALL);
+        // retries keep the order of the messages of a partition
+        producerProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, KruizeDeploymentInfo.kafka_producer_batch_size);
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, KruizeDeploymentInfo.kafka_producer_linger_ms);
+        producerProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, KruizeDeploymentInfo.kafka_producer_compression_type);
+        producerProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, KruizeDeploymentInfo.kafka_producer_delivery_timeout_ms);
         return producerProps;
     }
 
     /**
-     * Sends a message to the specified Kafka topic.
+     * Sends the message to its Kafka topic without waiting for the delivery.
+     * The call only blocks when the buffer of the producer is full or the topic metadata is not available yet.
      *
-     * @param topic   The Kafka topic to send the message to.
-     * @param payload The message payload.
+     * @param kruizeKafka the message with its topic and key
+     * @param onComplete  called on the producer I/O thread once the message is delivered, with null, or failed,
+     *                    with the error
      */
-    private static void sendMessage(String topic, String payload) {
+    public static void sendMessage(KruizeKafka kruizeKafka, Consumer<Exception> onComplete) {
+        String topic = kruizeKafka.getTopic();
         try {
             LOGGER.debug("Sending message to client...");
-            RecordMetadata metadata = producer.send(new ProducerRecord<>(topic, payload))
-                    .get(5, TimeUnit.SECONDS); //todo : set the timeout value via ENV
-            // todo: get the status of message whether its delivered or failed
-            LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.MESSAGE_SENT_SUCCESSFULLY, metadata.topic(), metadata.partition(), metadata.offset());
-        } catch (TimeoutException te) {
-            LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_MESSAGE_TIMEOUT_ERROR, topic, te.getMessage());
+            producer.send(new ProducerRecord<>(topic, kruizeKafka.getKey(), kruizeKafka.getMessage()), (metadata, exception) -> {
+                if (null == exception) {
+                    getMessageCounter(topic, DELIVERED).increment();
+                    LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.MESSAGE_SENT_SUCCESSFULLY, metadata.topic(), metadata.partition(), metadata.offset());
+                    if (null != onComplete) {
+                        onComplete.accept(null);
+                    }
+                } else {
+                    onDeliveryFailure(topic, exception, onComplete);
+                }
+            });
         } catch (Exception e) {
-            LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_MESSAGE_FAILED, topic, e.getMessage(), e);
+            onDeliveryFailure(topic, e, onComplete);
         }
     }
 
-    /**
-     * Produces valid recommendation messages.
-     */
-    public static class ValidRecommendationMessageProducer implements Runnable {
-        private final String payload;
-
-        /**
-         * Constructs a new producer for valid recommendation messages.
-         *
-         * @param payload The recommendation message payload.
-         */
-        public ValidRecommendationMessageProducer(String payload) {
-            this.payload = payload;
+    private static void onDeliveryFailure(String topic, Exception exception, Consumer<Exception> onComplete) {
+        getMessageCounter(topic, FAILED).increment();
+        if (exception instanceof TimeoutException) {
+            LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_MESSAGE_TIMEOUT_ERROR, topic, exception.getMessage());
+        } else {
+            LOGGER.error(KruizeConstants.KAFKA_CONSTANTS.KAFKA_MESSAGE_FAILED, topic, exception.getMessage(), exception);
         }
-
-        /**
-         * Runs the producer to send the recommendation message.
-         */
-        @Override
-        public void run() {
-            sendMessage(KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC, payload);
+        if (null != onComplete) {
+            onComplete.accept(exception);
         }
     }
 
-    /**
-     * Produces error messages.
-     */
-    public static class ErrorMessageProducer implements Runnable {
-        private final String errorDetails;
-
-        /**
-         * Constructs a new producer for error messages.
-         *
-         * @param errorDetails The error message payload.
-         */
-        public ErrorMessageProducer(String errorDetails) {
-            this.errorDetails = errorDetails;
-        }
-
-        /**
-         * Runs the producer to send the error message.
-         */
-        @Override
-        public void run() {
-            sendMessage(KruizeConstants.KAFKA_CONSTANTS.ERROR_TOPIC, errorDetails);
-        }
+    private static Counter getMessageCounter(String topic, String status) {
+        return messageCounters.computeIfAbsent(topic + "|" + status,
+                key -> MetricsConfig.registerKafkaMessageCounter(topic, status));
     }
 
     /**
-     * Produces summary response messages.
+     * Blocks until the messages sent so far are delivered or failed.
      */
-    public static class SummaryResponseMessageProducer implements Runnable {
-        private final String payload;
-
-        /**
-         * Constructs a new producer for summary response messages.
-         *
-         * @param payload The summary message payload.
-         */
-        public SummaryResponseMessageProducer(String payload) {
-            this.payload = payload;
-        }
-
-        /**
-         * Runs the producer to send the summary message.
-         */
-        @Override
-        public void run() {
-            sendMessage(KruizeConstants.KAFKA_CONSTANTS.SUMMARY_TOPIC, payload);
-        }
+    public static void flush() {
+        producer.flush();
+        LOGGER.debug(KruizeConstants.KAFKA_CONSTANTS.KAFKA_PRODUCER_FLUSHED);
     }
 
     /**
@@ -289,9 +289,98 @@ public class CommonUtils {
         return new Timestamp(cal.getTime().getTime());
     }
 
+    /**
+     * Returns the value at the given percentile of the items, picking the item at the rounded
+     * (percentile / 100 * (size - 1)) position of the ascending order. The list is left unchanged.
+     */
     public static Double percentile(double percentile, List<Double> items) {
-        Collections.sort(items);
-        return items.get((int) Math.round(percentile / 100.0 * (items.size() - 1)));
+        double[] values = new double[items.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = items.get(i);
+        }
+        return percentile(percentile, values, values.length);
+    }
+
+    /**
+     * Same as {@link #percentile(double, List)} over the first size values of the array. The value is found
+     * with a quickselect instead of sorting all the values, the values are reordered.
+     */
+    public static double percentile(double percentile, double[] items, int size) {
+        return select(items, size, percentileIndex(percentile, size));
+    }
+
+    /**
+     * Returns the values at each of the given percentiles, with the same rounding as {@link #percentile(double, List)}.
+     * The values are sorted once for all the percentiles.
+     *
+     * @param percentiles percentiles to compute
+     * @param items       values, reordered by the call
+     * @param size        number of values to consider from the start of the array
+     * @return value at each percentile, in the order of the percentiles
+     */
+    public static double[] percentiles(double[] percentiles, double[] items, int size) {
+        if (percentiles.length == 1) {
+            return new double[]{percentile(percentiles[0], items, size)};
+        }
+        Arrays.sort(items, 0, size);
+        double[] values = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            values[i] = items[percentileIndex(percentiles[i], size)];
+        }
+        return values;
+    }
+
+    private static int percentileIndex(double percentile, int size) {
+        return Objects.checkIndex((int) Math.round(percentile / 100.0 * (size - 1)), size);
+    }
+
+    /**
+     * Moves the k-th smallest of the first size values to position k and returns it, in the ordering of Double.compare
+     * like Arrays.sort. Falls back to sorting the remaining range when the partitioning does not converge.
+     */
+    private static double select(double[] items, int size, int k) {
+        int left = 0;
+        int right = size - 1;
+        int partitionsLeft = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(size));
+        while (right > left) {
+            if (partitionsLeft-- == 0) {
+                Arrays.sort(items, left, right + 1);
+                return items[k];
+            }
+            // median of three as pivot
+            int mid = (left + right) >>> 1;
+            if (Double.compare(items[mid], items[left]) < 0) swap(items, left, mid);
+            if (Double.compare(items[right], items[left]) < 0) swap(items, left, right);
+            if (Double.compare(items[right], items[mid]) < 0) swap(items, mid, right);
+            double pivot = items[mid];
+
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (Double.compare(items[i], pivot) < 0) i++;
+                while (Double.compare(items[j], pivot) > 0) j--;
+                if (i <= j) {
+                    swap(items, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                // between the two partitions all the values are equal to the pivot
+                return items[k];
+            }
+        }
+        return items[k];
+    }
+
+    private static void swap(double[] items, int i, int j) {
+        double temp = items[i];
+        items[i] = items[j];
+        items[j] = temp;
     }
 
     public static double getPercentage(double newer, double older) {
@@ -6,6 +6,7 @@ import com.autotune.analyzer.utils.AnalyzerConstants;
 import com.autotune.common.data.ValidationOutputData;
 import com.autotune.database.table.*;
 import com.autotune.database.table.lm.KruizeBulkJobEntry;
+import com.autotune.database.table.lm.KruizeBulkJobExperimentEntry;
 import com.autotune.database.table.lm.KruizeLMExperimentEntry;
 import com.autotune.database.table.lm.KruizeLMLayerEntry;
 import com.autotune.database.table.lm.KruizeLMMetadataProfileEntry;
@@ -90,10 +91,10 @@ public interface ExperimentDAO {
     // If Kruize restarts load all metadata profiles
     List<KruizeLMMetadataProfileEntry> loadAllMetadataProfiles() throws Exception;
 
-    // Load a single experiment based on experimentName
+    // Load a single experiment based on experimentName, the entry may be shared through ExperimentCache and must not be modified
     List<KruizeExperimentEntry> loadExperimentByName(String experimentName) throws Exception;
 
-    // Load a single experiment based on experimentName
+    // Load a single experiment based on experimentName, the entry may be shared through ExperimentCache and must not be modified
     List<KruizeLMExperimentEntry> loadLMExperimentByName(String experimentName) throws Exception;
 
 
@@ -110,6 +111,22 @@ public interface ExperimentDAO {
     // Load all recommendations of a particular experiment
     List<KruizeLMRecommendationEntry> loadLMRecommendationsByExperimentName(String experimentName, String bulkJobId) throws Exception;
 
+    // Load a page of experiments ordered by name, starting after the given experiment name if it is not null
+    List<KruizeExperimentEntry> loadExperimentsPage(String afterExperimentName, int limit) throws Exception;
+
+    List<KruizeLMExperimentEntry> loadLMExperimentsPage(String afterExperimentName, int limit) throws Exception;
+
+    // Load the LM experiments with the given names
+    List<KruizeLMExperimentEntry> loadLMExperimentsByNames(List<String> experimentNames) throws Exception;
+
+    // Load the results of the experiments, only the latest result of every experiment if latest is true
+    List<KruizeResultsEntry> loadResultsByExperimentNames(List<String> experimentNames, boolean latest) throws Exception;
+
+    // Load the recommendations of the experiments, only the latest recommendation of every experiment if latest is true
+    List<KruizeRecommendationEntry> loadRecommendationsByExperimentNames(List<String> experimentNames, boolean latest) throws Exception;
+
+    List<KruizeLMRecommendationEntry> loadLMRecommendationsByExperimentNames(List<String> experimentNames, String bulkJobId, boolean latest) throws Exception;
+
     // Load a single Performance Profile based on name
     List<KruizePerformanceProfileEntry> loadPerformanceProfileByName(String performanceProfileName) throws Exception;
 
@@ -156,6 +173,9 @@ public interface ExperimentDAO {
     // add metadata
     ValidationOutputData addMetadataToDB(KruizeDSMetadataEntry kruizeDSMetadataEntry);
 
+    // replace the metadata of a datasource, writing only the added, changed and removed entries
+    ValidationOutputData syncMetadataToDB(String dataSourceName, List<KruizeDSMetadataEntry> kruizeDSMetadataEntries);
+
     // Delete metadata
     public ValidationOutputData deleteKruizeDSMetadataEntryByName(String dataSourceName);
 
@@ -166,7 +186,9 @@ public interface ExperimentDAO {
 
     KruizeBulkJobEntry findBulkJobById(String jobId) throws Exception;
 
-    ValidationOutputData updateBulkJobByExperiment(String jobId, String experimentName, String notification, String recommendationJson) throws Exception;
+    ValidationOutputData saveBulkJobExperiment(KruizeBulkJobExperimentEntry kruizeBulkJobExperimentEntry, int processedCount);
+
+    List<KruizeBulkJobExperimentEntry> findBulkJobExperiments(String jobId, String experimentName, int offset, int limit) throws Exception;
 
     void deleteBulkJobByID(String jobId);
 
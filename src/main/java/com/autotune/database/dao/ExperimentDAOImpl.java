@@ -25,12 +25,17 @@ import com.autotune.database.helper.DBConstants;
 import com.autotune.database.init.KruizeHibernateUtil;
 import com.autotune.database.table.*;
 import com.autotune.database.table.lm.KruizeBulkJobEntry;
+import com.autotune.database.table.lm.KruizeBulkJobExperimentEntry;
 import com.autotune.database.table.lm.KruizeLMExperimentEntry;
 import com.autotune.database.table.lm.KruizeLMLayerEntry;
 import com.autotune.database.table.lm.KruizeLMMetadataProfileEntry;
 import com.autotune.database.table.lm.KruizeLMRecommendationEntry;
+import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.utils.KruizeConstants;
 import com.autotune.utils.MetricsConfig;
+import com.autotune.utils.cache.ExperimentCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
@@ -43,8 +48,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpServletResponse;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
@@ -73,6 +81,7 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     tx = session.beginTransaction();
                     session.persist(kruizeExperimentEntry);
                     tx.commit();
+                    ExperimentCache.experiments().put(kruizeExperimentEntry.getExperiment_name(), kruizeExperimentEntry);
                     // TODO: remove native sql query and transient
                     //updateExperimentTypeInKruizeExperimentEntry(kruizeExperimentEntry);  #Todo this function no more required and see if it can applied without using update sql
                     validationOutputData.setSuccess(true);
@@ -110,6 +119,7 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     tx = session.beginTransaction();
                     session.persist(kruizeLMExperimentEntry);
                     tx.commit();
+                    ExperimentCache.lmExperiments().put(kruizeLMExperimentEntry.getExperiment_name(), kruizeLMExperimentEntry);
                     // TODO: remove native sql query and transient
                     //updateExperimentTypeInKruizeExperimentEntry(kruizeLMExperimentEntry);
                     validationOutputData.setSuccess(true);
@@ -272,9 +282,153 @@ public class ExperimentDAOImpl implements ExperimentDAO {
     @Override
     public List<KruizeResultsEntry> addToDBAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries) {
         List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
-        Transaction tx = null;
         String statusValue = "failure";
         Timer.Sample timerAddBulkResultsDB = Timer.start(MetricsConfig.meterRegistry());
+        try {
+            int batchSize = KruizeDeploymentInfo.update_results_db_batch_size;
+            if (batchSize > 1) {
+                try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+                    for (int from = 0; from < kruizeResultsEntries.size(); from += batchSize) {
+                        List<KruizeResultsEntry> batch = kruizeResultsEntries.subList(from, Math.min(from + batchSize, kruizeResultsEntries.size()));
+                        failedResultsEntries.addAll(addResultsBatchAndFetchFailedResults(session, batch));
+                    }
+                }
+            } else {
+                failedResultsEntries.addAll(addEachToDBAndFetchFailedResults(kruizeResultsEntries));
+            }
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to save experiment due to {}", e.getMessage());
+            failedResultsEntries.clear();
+            failedResultsEntries.addAll(kruizeResultsEntries);
+            failedResultsEntries.forEach((entry) -> {
+                entry.setErrorReasons(List.of(e.getMessage()));
+            });
+        } finally {
+            if (null != timerAddBulkResultsDB) {
+                MetricsConfig.timerAddBulkResultsDB = MetricsConfig.timerBAddBulkResultsDB.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerAddBulkResultsDB.stop(MetricsConfig.timerAddBulkResultsDB);
+            }
+        }
+        return failedResultsEntries;
+    }
+
+    /**
+     * Inserts a batch of results with a single multi-row INSERT ... ON CONFLICT DO NOTHING and a single commit.
+     * Entries which are not returned by the insert already exist. If partitions are missing, they are created
+     * once for the batch and the insert is retried. Any other failure falls back to inserting the entries one
+     * by one, so that every failed entry gets its own error reason.
+     *
+     * @param session session to run the insert with
+     * @param batch   results to insert
+     * @return results which could not be inserted, with their error reasons
+     */
+    private List<KruizeResultsEntry> addResultsBatchAndFetchFailedResults(Session session, List<KruizeResultsEntry> batch) {
+        List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
+        // an entry repeating the key of an earlier entry of the batch is a duplicate, as it is when inserted one by one
+        Map<String, KruizeResultsEntry> entriesByKey = new LinkedHashMap<>();
+        for (KruizeResultsEntry entry : batch) {
+            if (null != entriesByKey.putIfAbsent(getResultKey(entry.getExperiment_name(), entry.getInterval_start_time(), entry.getInterval_end_time()), entry)) {
+                entry.setErrorReasons(List.of(AnalyzerErrorConstants.APIErrors.updateResultsAPI.RESULTS_ALREADY_EXISTS));
+                failedResultsEntries.add(entry);
+            }
+        }
+        Set<String> insertedKeys;
+        try {
+            insertedKeys = insertResultsBatch(session, entriesByKey.values());
+        } catch (Exception e) {
+            String message = getRootCauseMessage(e);
+            LOGGER.debug(message);
+            if (!message.contains(DBConstants.DB_MESSAGES.NO_PARTITION_RELATION)) {
+                failedResultsEntries.addAll(addEachToDBAndFetchFailedResults(new ArrayList<>(entriesByKey.values())));
+                return failedResultsEntries;
+            }
+            LOGGER.debug(DBConstants.DB_MESSAGES.CREATE_PARTITION_RETRY);
+            // entries of the same day need the same partitions
+            Map<LocalDate, KruizeResultsEntry> entriesByDay = new LinkedHashMap<>();
+            entriesByKey.values().forEach(entry -> entriesByDay.putIfAbsent(entry.getInterval_end_time().toLocalDateTime().toLocalDate(), entry));
+            entriesByDay.values().forEach(this::createPartitions);
+            try {
+                insertedKeys = insertResultsBatch(session, entriesByKey.values());
+            } catch (Exception retryException) {
+                LOGGER.debug(getRootCauseMessage(retryException));
+                failedResultsEntries.addAll(addEachToDBAndFetchFailedResults(new ArrayList<>(entriesByKey.values())));
+                return failedResultsEntries;
+            }
+        }
+        for (Map.Entry<String, KruizeResultsEntry> keyEntry : entriesByKey.entrySet()) {
+            if (!insertedKeys.contains(keyEntry.getKey())) {
+                keyEntry.getValue().setErrorReasons(List.of(AnalyzerErrorConstants.APIErrors.updateResultsAPI.RESULTS_ALREADY_EXISTS));
+                failedResultsEntries.add(keyEntry.getValue());
+            }
+        }
+        return failedResultsEntries;
+    }
+
+    /**
+     * Runs the multi-row insert of the results in its own transaction
+     *
+     * @return keys of the inserted results, see getResultKey
+     */
+    private Set<String> insertResultsBatch(Session session, Collection<KruizeResultsEntry> entries) {
+        if (entries.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Calendar calendar = Calendar.getInstance(null == KruizeDeploymentInfo.settings_hibernate_time_zone ?
+                TimeZone.getDefault() : TimeZone.getTimeZone(KruizeDeploymentInfo.settings_hibernate_time_zone));
+        String sql = String.format(INSERT_RESULTS_BATCH, String.join(", ", Collections.nCopies(entries.size(), INSERT_RESULTS_BATCH_ROW)));
+        Transaction tx = session.beginTransaction();
+        try {
+            Set<String> insertedKeys = session.doReturningWork(connection -> {
+                Set<String> keys = new HashSet<>();
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    int index = 1;
+                    for (KruizeResultsEntry entry : entries) {
+                        statement.setString(index++, entry.getVersion());
+                        statement.setString(index++, entry.getExperiment_name());
+                        statement.setString(index++, entry.getCluster_name());
+                        statement.setTimestamp(index++, entry.getInterval_start_time(), calendar);
+                        statement.setTimestamp(index++, entry.getInterval_end_time(), calendar);
+                        statement.setDouble(index++, entry.getDuration_minutes());
+                        statement.setString(index++, null == entry.getExtended_data() ? null : entry.getExtended_data().toString());
+                        statement.setString(index++, null == entry.getMeta_data() ? null : entry.getMeta_data().toString());
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            keys.add(getResultKey(resultSet.getString(1), resultSet.getTimestamp(2, calendar), resultSet.getTimestamp(3, calendar)));
+                        }
+                    }
+                }
+                return keys;
+            });
+            tx.commit();
+            return insertedKeys;
+        } catch (RuntimeException e) {
+            tx.rollback();
+            throw e;
+        }
+    }
+
+    private static String getResultKey(String experimentName, Timestamp intervalStartTime, Timestamp intervalEndTime) {
+        return experimentName + "|" + intervalStartTime.getTime() + "|" + intervalEndTime.getTime();
+    }
+
+    private static String getRootCauseMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (null != cause.getCause() && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return (null == cause.getMessage()) ? String.valueOf(throwable.getMessage()) : cause.getMessage();
+    }
+
+    /**
+     * Persists and commits the results one at a time
+     *
+     * @return results which could not be persisted, with their error reasons
+     */
+    private List<KruizeResultsEntry> addEachToDBAndFetchFailedResults(List<KruizeResultsEntry> kruizeResultsEntries) {
+        List<KruizeResultsEntry> failedResultsEntries = new ArrayList<>();
+        Transaction tx = null;
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
             for (KruizeResultsEntry entry : kruizeResultsEntries) {
                 tx = session.beginTransaction();
@@ -328,18 +482,6 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     tx.commit();
                 }
             }
-            statusValue = "success";
-        } catch (Exception e) {
-            LOGGER.error("Not able to save experiment due to {}", e.getMessage());
-            failedResultsEntries.addAll(kruizeResultsEntries);
-            failedResultsEntries.forEach((entry) -> {
-                entry.setErrorReasons(List.of(e.getMessage()));
-            });
-        } finally {
-            if (null != timerAddBulkResultsDB) {
-                MetricsConfig.timerAddBulkResultsDB = MetricsConfig.timerBAddBulkResultsDB.tag("status", statusValue).register(MetricsConfig.meterRegistry());
-                timerAddBulkResultsDB.stop(MetricsConfig.timerAddBulkResultsDB);
-            }
         }
         return failedResultsEntries;
     }
@@ -756,6 +898,111 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return validationOutputData;
     }
 
+    /**
+     * Replaces the metadata of the datasource with the given entries in a single transaction. The entries are compared
+     * with the saved ones by datasource, cluster, namespace, workload and container, and only the entries which are
+     * added or changed are upserted, in batches of metadataDBBatchSize, and only the saved entries which are not given
+     * anymore are deleted. Saving the same metadata again only reads it.
+     *
+     * @param dataSourceName          name of the datasource
+     * @param kruizeDSMetadataEntries all the metadata entries of the datasource
+     * @return ValidationOutputData with the success flag and the error message if any
+     */
+    @Override
+    public ValidationOutputData syncMetadataToDB(String dataSourceName, List<KruizeDSMetadataEntry> kruizeDSMetadataEntries) {
+        ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
+        Transaction tx = null;
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            try {
+                tx = session.beginTransaction();
+                List<KruizeDSMetadataEntry> savedEntries = session.createQuery(SELECT_FROM_METADATA_BY_DATASOURCE_NAME, KruizeDSMetadataEntry.class)
+                        .setParameter("dataSourceName", dataSourceName)
+                        .setReadOnly(true)
+                        .list();
+                Map<String, KruizeDSMetadataEntry> savedEntriesByKey = new HashMap<>();
+                List<Long> removedIds = new ArrayList<>();
+                for (KruizeDSMetadataEntry savedEntry : savedEntries) {
+                    if (null != savedEntriesByKey.putIfAbsent(getMetadataKey(savedEntry), savedEntry)) {
+                        removedIds.add(savedEntry.getId());
+                    }
+                }
+                // an entry repeating the key of an earlier entry replaces it, as the upsert would
+                Map<String, KruizeDSMetadataEntry> entriesByKey = new LinkedHashMap<>();
+                for (KruizeDSMetadataEntry entry : kruizeDSMetadataEntries) {
+                    entriesByKey.put(getMetadataKey(entry), entry);
+                }
+                List<KruizeDSMetadataEntry> changedEntries = new ArrayList<>();
+                for (Map.Entry<String, KruizeDSMetadataEntry> keyEntry : entriesByKey.entrySet()) {
+                    KruizeDSMetadataEntry savedEntry = savedEntriesByKey.remove(keyEntry.getKey());
+                    KruizeDSMetadataEntry entry = keyEntry.getValue();
+                    if (null == savedEntry || !Objects.equals(savedEntry.getVersion(), entry.getVersion())
+                            || !Objects.equals(savedEntry.getContainerImageName(), entry.getContainerImageName())) {
+                        changedEntries.add(entry);
+                    }
+                }
+                savedEntriesByKey.values().forEach(savedEntry -> removedIds.add(savedEntry.getId()));
+
+                int batchSize = Math.max(1, KruizeDeploymentInfo.metadata_db_batch_size);
+                for (int from = 0; from < changedEntries.size(); from += batchSize) {
+                    upsertMetadataBatch(session, changedEntries.subList(from, Math.min(from + batchSize, changedEntries.size())));
+                }
+                for (int from = 0; from < removedIds.size(); from += batchSize) {
+                    session.createMutationQuery(DELETE_FROM_METADATA_BY_IDS)
+                            .setParameterList("ids", removedIds.subList(from, Math.min(from + batchSize, removedIds.size())))
+                            .executeUpdate();
+                }
+                tx.commit();
+                LOGGER.debug(DBConstants.DB_MESSAGES.METADATA_SYNCED, dataSourceName, changedEntries.size(), removedIds.size(),
+                        entriesByKey.size() - changedEntries.size());
+                validationOutputData.setSuccess(true);
+            } catch (HibernateException e) {
+                LOGGER.error("Not able to save metadata due to {}", e.getMessage());
+                if (tx != null) tx.rollback();
+                e.printStackTrace();
+                validationOutputData.setSuccess(false);
+                validationOutputData.setMessage(e.getMessage());
+            }
+        } catch (Exception e) {
+            LOGGER.error("Not able to save metadata source due to {}", e.getMessage());
+            validationOutputData.setMessage(e.getMessage());
+        }
+        return validationOutputData;
+    }
+
+    /**
+     * Runs the multi-row upsert of the metadata entries in the transaction of the session
+     */
+    private void upsertMetadataBatch(Session session, List<KruizeDSMetadataEntry> entries) {
+        String sql = String.format(UPSERT_METADATA_BATCH, String.join(", ", Collections.nCopies(entries.size(), UPSERT_METADATA_BATCH_ROW)));
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (KruizeDSMetadataEntry entry : entries) {
+                    statement.setString(index++, entry.getVersion());
+                    statement.setString(index++, entry.getDataSourceName());
+                    statement.setString(index++, entry.getClusterName());
+                    statement.setString(index++, entry.getNamespace());
+                    statement.setString(index++, entry.getWorkloadType());
+                    statement.setString(index++, entry.getWorkloadName());
+                    statement.setString(index++, entry.getContainerName());
+                    statement.setString(index++, entry.getContainerImageName());
+                }
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Returns the key of the metadata entry within its datasource, matching the uk_dsmetadata_container index which
+     * does not distinguish a missing workload or container from an empty name
+     */
+    private static String getMetadataKey(KruizeDSMetadataEntry entry) {
+        return String.join("|", entry.getClusterName(), entry.getNamespace(),
+                Objects.toString(entry.getWorkloadType(), ""),
+                Objects.toString(entry.getWorkloadName(), ""),
+                Objects.toString(entry.getContainerName(), ""));
+    }
+
     /**
      * @param kruizeAuthenticationEntry
      * @return
@@ -865,66 +1112,97 @@ public class ExperimentDAOImpl implements ExperimentDAO {
     }
 
     /**
-     * Updates the notification and recommendation fields of a bulk job for a specific experiment.
+     * Saves the state of one experiment of a bulk job and updates the processed count of the job.
      *
-     * <p>This method performs a partial update on a bulk job's JSON fields using the jsonb_set function
-     * in PostgreSQL. It updates the notification and recommendation data for a given experiment within
-     * the bulk job record.</p>
-     * <p>
-     * updateBulkJobByExperiment is an important function that is intended to be called frequently for each experiment per job_id.
-     * However,  avoid these frequent updates to the bulk job. Instead, we can leverage the kruize_lm_recommendations table
-     * to derive the status of each experiment. But kept this function as of now JIC if there is any need comes up for ACM usecase
-     * Current Flow:
-     * When Kruize receives a bulk request, an immediate entry is created in kruize_bulkjobs.
-     * A subsequent entry is added with total_experiments and metadata.
-     * A final update occurs once all experiments are completed, but not for every individual experiment.
-     * The kruize_lm_recommendations table contains an entry for each experiment.
-     * So only three calls to kruize_bulkjob table per bulk request
-     * By utilizing kruize_lm_recommendations, we can reduce the number of updates to kruize_bulkjobs.
-     * <p>Performance metrics are recorded, and any errors encountered during execution are logged.</p>
+     * <p>Every experiment is upserted as its own row in kruize_bulkjob_experiments, so the cost of an update
+     * does not grow with the number of experiments of the job, unlike rewriting the experiments of kruize_bulkjobs.
+     * The summary row of the job only gets its processed count updated. Both are written in one transaction.</p>
      *
-     * @param jobId
-     * @param experimentName
-     * @param notification
-     * @param recommendationJson
-     * @return
-     * @throws Exception
+     * @param kruizeBulkJobExperimentEntry experiment of the job to save
+     * @param processedCount               number of processed experiments of the job
+     * @return ValidationOutputData with the success flag and the error message if any
      */
-
     @Override
-    public ValidationOutputData updateBulkJobByExperiment(String jobId, String experimentName, String notification, String recommendationJson) throws Exception {
+    public ValidationOutputData saveBulkJobExperiment(KruizeBulkJobExperimentEntry kruizeBulkJobExperimentEntry, int processedCount) {
         ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
+        Transaction tx = null;
         String statusValue = "failure";
-        Timer.Sample timerGetBulkJobDB = Timer.start(MetricsConfig.meterRegistry());
+        Timer.Sample timerUpdateBulkJobDB = Timer.start(MetricsConfig.meterRegistry());
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
-            // Construct JSON paths for notification and recommendations fields
-            String notificationPath = "{experiments,\"" + experimentName + "\",notification}";
-            String recommendationPath = "{experiments,\"" + experimentName + "\",recommendations}";
-
-            // Native SQL query using jsonb_set for partial updates
-            String sql = UPDATE_BULKJOB_BY_ID;
+            try {
+                tx = session.beginTransaction();
+                session.createNativeQuery(UPSERT_BULKJOB_EXPERIMENT)
+                        .setParameter("jobId", kruizeBulkJobExperimentEntry.getJobId())
+                        .setParameter("experimentName", kruizeBulkJobExperimentEntry.getExperimentName())
+                        .setParameter("status", kruizeBulkJobExperimentEntry.getStatus())
+                        .setParameter("notifications", String.valueOf(kruizeBulkJobExperimentEntry.getNotifications()))
+                        .setParameter("experiment", String.valueOf(kruizeBulkJobExperimentEntry.getExperiment()))
+                        .setParameter("updateDate", kruizeBulkJobExperimentEntry.getUpdateDate())
+                        .executeUpdate();
+                session.createNativeQuery(UPDATE_BULKJOB_PROCESSED_COUNT)
+                        .setParameter("processedCount", processedCount)
+                        .setParameter("jobId", kruizeBulkJobExperimentEntry.getJobId())
+                        .executeUpdate();
+                tx.commit();
+                validationOutputData.setSuccess(true);
+                statusValue = "success";
+            } catch (HibernateException e) {
+                LOGGER.error(BULK_JOB_SAVE_ERROR, e.getMessage());
+                if (tx != null) tx.rollback();
+                validationOutputData.setMessage(e.getMessage());
+            }
+        } catch (Exception e) {
+            LOGGER.error(BULK_JOB_SAVE_ERROR, e.getMessage());
+            validationOutputData.setMessage(e.getMessage());
+        } finally {
+            if (null != timerUpdateBulkJobDB) {
+                MetricsConfig.timerUpdateBulkJobId = MetricsConfig.timerBUpdateBulkJobId.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerUpdateBulkJobDB.stop(MetricsConfig.timerUpdateBulkJobId);
+            }
+        }
+        return validationOutputData;
+    }
 
-            // Execute the query
-            session.createNativeQuery(sql)
-                    .setParameter("notificationPath", notificationPath)
-                    .setParameter("newNotification", notification == null ? "null" : "\"" + notification + "\"") // Handle null value
-                    .setParameter("recommendationPath", recommendationPath)
-                    .setParameter("newRecommendation", recommendationJson)
-                    .setParameter("jobId", jobId)
-                    .executeUpdate();
-            validationOutputData.setSuccess(true);
+    /**
+     * Retrieves a page of the experiments of a bulk job, ordered by experiment name.
+     *
+     * @param jobId          job ID of the bulk job
+     * @param experimentName if not null, only the experiments whose name contains it are returned
+     * @param offset         number of experiments to skip
+     * @param limit          maximum number of experiments to return, all of them if 0 or less
+     * @return List of KruizeBulkJobExperimentEntry, empty if the job has no stored experiments
+     * @throws Exception
+     */
+    @Override
+    public List<KruizeBulkJobExperimentEntry> findBulkJobExperiments(String jobId, String experimentName, int offset, int limit) throws Exception {
+        List<KruizeBulkJobExperimentEntry> entries;
+        String statusValue = "failure";
+        Timer.Sample timerGetBulkJobDB = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Query<KruizeBulkJobExperimentEntry> query;
+            if (null == experimentName || experimentName.isEmpty()) {
+                query = session.createQuery(SELECT_FROM_BULKJOB_EXPERIMENTS_BY_JOB_ID, KruizeBulkJobExperimentEntry.class);
+            } else {
+                String escapedName = experimentName.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+                query = session.createQuery(SELECT_FROM_BULKJOB_EXPERIMENTS_BY_JOB_ID_AND_EXP_NAME, KruizeBulkJobExperimentEntry.class)
+                        .setParameter("experimentName", "%" + escapedName + "%");
+            }
+            query.setParameter("jobId", jobId).setFirstResult(Math.max(offset, 0));
+            if (limit > 0) {
+                query.setMaxResults(limit);
+            }
+            entries = query.getResultList();
             statusValue = "success";
         } catch (Exception e) {
             LOGGER.error(BULK_JOB_LOAD_ERROR, jobId, e.getMessage());
-            validationOutputData.setMessage(e.getMessage());
             throw new Exception(e.getMessage());
         } finally {
             if (null != timerGetBulkJobDB) {
-                MetricsConfig.timerUpdateBulkJobId = MetricsConfig.timerBUpdateBulkJobId.tag("status", statusValue).register(MetricsConfig.meterRegistry());
-                timerGetBulkJobDB.stop(MetricsConfig.timerLoadExpName);
+                MetricsConfig.timerLoadBulkJobId = MetricsConfig.timerBLoadBulkJobId.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerGetBulkJobDB.stop(MetricsConfig.timerLoadBulkJobId);
             }
         }
-        return validationOutputData;
+        return entries;
     }
 
     @Override
@@ -963,6 +1241,9 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     .executeUpdate();
 
             session.getTransaction().commit();
+            for (String experimentName : experimentNames) {
+                ExperimentCache.experiments().update(experimentName, entry -> entry.setUpdate_date(currentTimestamp));
+            }
             statusValue = "success";
         } catch (Exception e) {
             LOGGER.error("Failed to update update_date for experiments: {}", e.getMessage());
@@ -1082,6 +1363,8 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     validationOutputData.setSuccess(true);
                 }
                 tx.commit();
+                ExperimentCache.experiments().remove(experimentName);
+                ExperimentCache.results().remove(experimentName);
             } catch (HibernateException e) {
                 LOGGER.error("Not able to delete experiment {} due to {}", experimentName, e.getMessage());
                 if (tx != null) tx.rollback();
@@ -1126,6 +1409,7 @@ public class ExperimentDAOImpl implements ExperimentDAO {
                     validationOutputData.setSuccess(true);
                 }
                 tx.commit();
+                ExperimentCache.lmExperiments().remove(experimentName);
             } catch (HibernateException e) {
                 LOGGER.error("Not able to delete experiment {} due to {}", experimentName, e.getMessage());
                 if (tx != null) tx.rollback();
@@ -1500,12 +1784,23 @@ public class ExperimentDAOImpl implements ExperimentDAO {
     @Override
     public List<KruizeLMExperimentEntry> loadLMExperimentByName(String experimentName) throws Exception {
         //todo load only experimentStatus=inprogress , playback may not require completed experiments
+        ExperimentCache<KruizeLMExperimentEntry> experimentCache = ExperimentCache.lmExperiments();
+        if (experimentCache.isEnabled()) {
+            KruizeLMExperimentEntry cachedEntry = experimentCache.get(experimentName);
+            if (null != cachedEntry) {
+                return new ArrayList<>(List.of(cachedEntry));
+            }
+        }
+        long removalCount = experimentCache.getRemovalCount();
         List<KruizeLMExperimentEntry> entries = null;
         String statusValue = "failure";
         Timer.Sample timerLoadExpName = Timer.start(MetricsConfig.meterRegistry());
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
             entries = session.createQuery(DBConstants.SQLQUERY.SELECT_FROM_LM_EXPERIMENTS_BY_EXP_NAME, KruizeLMExperimentEntry.class)
                     .setParameter("experimentName", experimentName).list();
+            if (entries.size() == 1) {
+                experimentCache.putLoaded(experimentName, entries.get(0), removalCount);
+            }
             // TODO: remove native sql query and transient
             //getExperimentTypeInKruizeExperimentEntry(entries);
             statusValue = "success";
@@ -1525,12 +1820,23 @@ public class ExperimentDAOImpl implements ExperimentDAO {
     @Override
     public List<KruizeExperimentEntry> loadExperimentByName(String experimentName) throws Exception {
         //todo load only experimentStatus=inprogress , playback may not require completed experiments
+        ExperimentCache<KruizeExperimentEntry> experimentCache = ExperimentCache.experiments();
+        if (experimentCache.isEnabled()) {
+            KruizeExperimentEntry cachedEntry = experimentCache.get(experimentName);
+            if (null != cachedEntry) {
+                return new ArrayList<>(List.of(cachedEntry));
+            }
+        }
+        long removalCount = experimentCache.getRemovalCount();
         List<KruizeExperimentEntry> entries = null;
         String statusValue = "failure";
         Timer.Sample timerLoadExpName = Timer.start(MetricsConfig.meterRegistry());
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
             entries = session.createQuery(DBConstants.SQLQUERY.SELECT_FROM_EXPERIMENTS_BY_EXP_NAME, KruizeExperimentEntry.class)
                     .setParameter("experimentName", experimentName).list();
+            if (entries.size() == 1) {
+                experimentCache.putLoaded(experimentName, entries.get(0), removalCount);
+            }
             // TODO: remove native sql query and transient
             //getExperimentTypeInKruizeExperimentEntry(entries);
             statusValue = "success";
@@ -1559,18 +1865,15 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         String statusValue = "failure";
         Timer.Sample timerLoadExpName = Timer.start(MetricsConfig.meterRegistry());
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
-            // assuming there will be only one container
-            ContainerAPIObject containerAPIObject = kubernetesAPIObject.getContainerAPIObjects().get(0);
-            // Set parameters for KubernetesObject and Container
-            Query<KruizeExperimentEntry> query = session.createNativeQuery(SELECT_FROM_EXPERIMENTS_BY_INPUT_JSON, KruizeExperimentEntry.class);
-            query.setParameter(CLUSTER_NAME, clusterName.toString());
-            query.setParameter(KruizeConstants.JSONKeys.NAME, kubernetesAPIObject.getName());
-            query.setParameter(KruizeConstants.JSONKeys.NAMESPACE, kubernetesAPIObject.getNamespace());
-            query.setParameter(KruizeConstants.JSONKeys.TYPE, kubernetesAPIObject.getType());
-            query.setParameter(KruizeConstants.JSONKeys.CONTAINER_NAME, containerAPIObject.getContainer_name());
-            query.setParameter(KruizeConstants.JSONKeys.CONTAINER_IMAGE_NAME, containerAPIObject.getContainer_image_name());
-
-            entries = query.getResultList();
+            String kubernetesObjectsFilter = getKubernetesObjectsFilter(kubernetesAPIObject);
+            if (null == kubernetesObjectsFilter) {
+                entries = new ArrayList<>();
+            } else {
+                Query<KruizeExperimentEntry> query = session.createNativeQuery(SELECT_FROM_EXPERIMENTS_BY_INPUT_JSON, KruizeExperimentEntry.class);
+                query.setParameter(CLUSTER_NAME, clusterName.toString());
+                query.setParameter(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS, kubernetesObjectsFilter);
+                entries = query.getResultList();
+            }
             statusValue = "success";
         } catch (Exception e) {
             LOGGER.error("Error fetching experiment data: {}", e.getMessage());
@@ -1584,6 +1887,31 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return entries;
     }
 
+    /**
+     * Builds the extended_data subset matching experiments of the kubernetes object and its first container,
+     * e.g. {"kubernetes_objects":[{"name":"tfb","namespace":"default","type":"deployment",
+     * "containers":[{"container_name":"tfb-server","container_image_name":"kruize/tfb-qrh:1.13.2.F_et17"}]}]}
+     *
+     * @return JSON of the subset, null if a value to match is missing as no experiment can match it
+     */
+    private static String getKubernetesObjectsFilter(KubernetesAPIObject kubernetesAPIObject) throws JsonProcessingException {
+        // assuming there will be only one container
+        ContainerAPIObject containerAPIObject = kubernetesAPIObject.getContainerAPIObjects().get(0);
+        if (null == kubernetesAPIObject.getName() || null == kubernetesAPIObject.getNamespace() || null == kubernetesAPIObject.getType()
+                || null == containerAPIObject.getContainer_name() || null == containerAPIObject.getContainer_image_name()) {
+            return null;
+        }
+        Map<String, String> container = new LinkedHashMap<>();
+        container.put(KruizeConstants.JSONKeys.CONTAINER_NAME, containerAPIObject.getContainer_name());
+        container.put(KruizeConstants.JSONKeys.CONTAINER_IMAGE_NAME, containerAPIObject.getContainer_image_name());
+        Map<String, Object> kubernetesObject = new LinkedHashMap<>();
+        kubernetesObject.put(KruizeConstants.JSONKeys.NAME, kubernetesAPIObject.getName());
+        kubernetesObject.put(KruizeConstants.JSONKeys.NAMESPACE, kubernetesAPIObject.getNamespace());
+        kubernetesObject.put(KruizeConstants.JSONKeys.TYPE, kubernetesAPIObject.getType());
+        kubernetesObject.put(KruizeConstants.JSONKeys.CONTAINERS, List.of(container));
+        return new ObjectMapper().writeValueAsString(Map.of(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS, List.of(kubernetesObject)));
+    }
+
     @Override
     public List<KruizeLMExperimentEntry> loadLMExperimentFromDBByInputJSON(StringBuilder clusterName, KubernetesAPIObject kubernetesAPIObject) throws Exception {
         //todo load only experimentStatus=inprogress , playback may not require completed experiments
@@ -1591,18 +1919,15 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         String statusValue = "failure";
         Timer.Sample timerLoadExpName = Timer.start(MetricsConfig.meterRegistry());
         try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
-            // assuming there will be only one container
-            ContainerAPIObject containerAPIObject = kubernetesAPIObject.getContainerAPIObjects().get(0);
-            // Set parameters for KubernetesObject and Container
-            Query<KruizeLMExperimentEntry> query = session.createNativeQuery(SELECT_FROM_LM_EXPERIMENTS_BY_INPUT_JSON, KruizeLMExperimentEntry.class);
-            query.setParameter(CLUSTER_NAME, clusterName.toString());
-            query.setParameter(KruizeConstants.JSONKeys.NAME, kubernetesAPIObject.getName());
-            query.setParameter(KruizeConstants.JSONKeys.NAMESPACE, kubernetesAPIObject.getNamespace());
-            query.setParameter(KruizeConstants.JSONKeys.TYPE, kubernetesAPIObject.getType());
-            query.setParameter(KruizeConstants.JSONKeys.CONTAINER_NAME, containerAPIObject.getContainer_name());
-            query.setParameter(KruizeConstants.JSONKeys.CONTAINER_IMAGE_NAME, containerAPIObject.getContainer_image_name());
-
-            entries = query.getResultList();
+            String kubernetesObjectsFilter = getKubernetesObjectsFilter(kubernetesAPIObject);
+            if (null == kubernetesObjectsFilter) {
+                entries = new ArrayList<>();
+            } else {
+                Query<KruizeLMExperimentEntry> query = session.createNativeQuery(SELECT_FROM_LM_EXPERIMENTS_BY_INPUT_JSON, KruizeLMExperimentEntry.class);
+                query.setParameter(CLUSTER_NAME, clusterName.toString());
+                query.setParameter(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS, kubernetesObjectsFilter);
+                entries = query.getResultList();
+            }
             statusValue = "success";
         } catch (Exception e) {
             LOGGER.error("Error fetching experiment data: {}", e.getMessage());
@@ -1705,6 +2030,170 @@ public class ExperimentDAOImpl implements ExperimentDAO {
         return recommendationEntries;
     }
 
+    @Override
+    public List<KruizeExperimentEntry> loadExperimentsPage(String afterExperimentName, int limit) throws Exception {
+        List<KruizeExperimentEntry> entries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadAllExp = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Query<KruizeExperimentEntry> query;
+            if (null != afterExperimentName) {
+                query = session.createQuery(SELECT_FROM_EXPERIMENTS_PAGE_AFTER_EXP_NAME, KruizeExperimentEntry.class)
+                        .setParameter("experimentName", afterExperimentName);
+            } else {
+                query = session.createQuery(SELECT_FROM_EXPERIMENTS_PAGE, KruizeExperimentEntry.class);
+            }
+            entries = query.setMaxResults(limit).list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load experiment due to {}", e.getMessage());
+            throw new Exception("Error while loading exsisting experiments from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadAllExp) {
+                MetricsConfig.timerLoadAllExp = MetricsConfig.timerBLoadAllExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadAllExp.stop(MetricsConfig.timerLoadAllExp);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public List<KruizeLMExperimentEntry> loadLMExperimentsPage(String afterExperimentName, int limit) throws Exception {
+        List<KruizeLMExperimentEntry> entries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadAllExp = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Query<KruizeLMExperimentEntry> query;
+            if (null != afterExperimentName) {
+                query = session.createQuery(SELECT_FROM_LM_EXPERIMENTS_PAGE_AFTER_EXP_NAME, KruizeLMExperimentEntry.class)
+                        .setParameter("experimentName", afterExperimentName);
+            } else {
+                query = session.createQuery(SELECT_FROM_LM_EXPERIMENTS_PAGE, KruizeLMExperimentEntry.class);
+            }
+            entries = query.setMaxResults(limit).list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load experiment due to {}", e.getMessage());
+            throw new Exception("Error while loading exsisting experiments from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadAllExp) {
+                MetricsConfig.timerLoadAllExp = MetricsConfig.timerBLoadAllExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadAllExp.stop(MetricsConfig.timerLoadAllExp);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public List<KruizeLMExperimentEntry> loadLMExperimentsByNames(List<String> experimentNames) throws Exception {
+        List<KruizeLMExperimentEntry> entries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadAllExp = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            entries = session.createQuery(SELECT_FROM_LM_EXPERIMENTS_BY_EXP_NAMES, KruizeLMExperimentEntry.class)
+                    .setParameterList("experimentNames", experimentNames).list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load experiment due to {}", e.getMessage());
+            throw new Exception("Error while loading exsisting experiments from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadAllExp) {
+                MetricsConfig.timerLoadAllExp = MetricsConfig.timerBLoadAllExp.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadAllExp.stop(MetricsConfig.timerLoadAllExp);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public List<KruizeResultsEntry> loadResultsByExperimentNames(List<String> experimentNames, boolean latest) throws Exception {
+        List<KruizeResultsEntry> kruizeResultsEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadResultsExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            if (latest) {
+                kruizeResultsEntries = session.createNativeQuery(String.format(SELECT_LATEST_FROM_RESULTS, WHERE_EXP_NAMES), KruizeResultsEntry.class)
+                        .setParameterList("experimentNames", experimentNames)
+                        .list();
+            } else {
+                kruizeResultsEntries = session.createQuery(SELECT_FROM_RESULTS_BY_EXP_NAMES, KruizeResultsEntry.class)
+                        .setParameterList("experimentNames", experimentNames)
+                        .list();
+            }
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load results due to: {}", e.getMessage());
+            throw new Exception("Error while loading results from the database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadResultsExpName) {
+                MetricsConfig.timerLoadResultsExpName = MetricsConfig.timerBLoadResultsExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadResultsExpName.stop(MetricsConfig.timerLoadResultsExpName);
+            }
+        }
+        return kruizeResultsEntries;
+    }
+
+    @Override
+    public List<KruizeRecommendationEntry> loadRecommendationsByExperimentNames(List<String> experimentNames, boolean latest) throws Exception {
+        List<KruizeRecommendationEntry> recommendationEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadRecExpName = Timer.start(MetricsConfig.meterRegistry());
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            if (latest) {
+                recommendationEntries = session.createNativeQuery(String.format(SELECT_LATEST_FROM_RECOMMENDATIONS, WHERE_EXP_NAMES), KruizeRecommendationEntry.class)
+                        .setParameterList("experimentNames", experimentNames)
+                        .list();
+            } else {
+                recommendationEntries = session.createQuery(SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAMES, KruizeRecommendationEntry.class)
+                        .setParameterList("experimentNames", experimentNames)
+                        .list();
+            }
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load recommendations due to {}", e.getMessage());
+            throw new Exception("Error while loading existing recommendations from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadRecExpName) {
+                MetricsConfig.timerLoadRecExpName = MetricsConfig.timerBLoadRecExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadRecExpName.stop(MetricsConfig.timerLoadRecExpName);
+            }
+        }
+        return recommendationEntries;
+    }
+
+    @Override
+    public List<KruizeLMRecommendationEntry> loadLMRecommendationsByExperimentNames(List<String> experimentNames, String bulkJobId, boolean latest) throws Exception {
+        List<KruizeLMRecommendationEntry> recommendationEntries = null;
+        String statusValue = "failure";
+        Timer.Sample timerLoadRecExpName = Timer.start(MetricsConfig.meterRegistry());
+        boolean filterByJobId = null != bulkJobId && !bulkJobId.isEmpty();
+        try (Session session = KruizeHibernateUtil.getSessionFactory().openSession()) {
+            Query<KruizeLMRecommendationEntry> query;
+            if (latest) {
+                query = session.createNativeQuery(String.format(SELECT_LATEST_FROM_LM_RECOMMENDATIONS,
+                        filterByJobId ? WHERE_EXP_NAMES_AND_JOB_ID : WHERE_EXP_NAMES), KruizeLMRecommendationEntry.class);
+            } else {
+                query = session.createQuery(filterByJobId ? SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES_AND_JOB_ID :
+                        SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES, KruizeLMRecommendationEntry.class);
+            }
+            query.setParameterList("experimentNames", experimentNames);
+            if (filterByJobId) {
+                query.setParameter(JOB_ID, bulkJobId);
+            }
+            recommendationEntries = query.list();
+            statusValue = "success";
+        } catch (Exception e) {
+            LOGGER.error("Not able to load recommendations due to {}", e.getMessage());
+            throw new Exception("Error while loading existing recommendations from database due to : " + e.getMessage());
+        } finally {
+            if (null != timerLoadRecExpName) {
+                MetricsConfig.timerLoadRecExpName = MetricsConfig.timerBLoadRecExpName.tag("status", statusValue).register(MetricsConfig.meterRegistry());
+                timerLoadRecExpName.stop(MetricsConfig.timerLoadRecExpName);
+            }
+        }
+        return recommendationEntries;
+    }
+
     @Override
     public KruizeRecommendationEntry loadRecommendationsByExperimentNameAndDate(String experimentName, String cluster_name, Timestamp interval_end_time) throws Exception {
         KruizeRecommendationEntry recommendationEntries = null;
@@ -7,23 +7,50 @@ public class DBConstants {
     public static final class SQLQUERY {
         public static final String SELECT_FROM_EXPERIMENTS = "from KruizeExperimentEntry";
         public static final String SELECT_FROM_LM_EXPERIMENTS = "from KruizeLMExperimentEntry";
+        // pages of experiments ordered by the unique experiment name, the next page starts after the last name of a page
+        public static final String SELECT_FROM_EXPERIMENTS_PAGE = "from KruizeExperimentEntry k ORDER BY k.experiment_name";
+        public static final String SELECT_FROM_EXPERIMENTS_PAGE_AFTER_EXP_NAME = "from KruizeExperimentEntry k " +
+                "WHERE k.experiment_name > :experimentName ORDER BY k.experiment_name";
+        public static final String SELECT_FROM_LM_EXPERIMENTS_PAGE = "from KruizeLMExperimentEntry k ORDER BY k.experiment_name";
+        public static final String SELECT_FROM_LM_EXPERIMENTS_PAGE_AFTER_EXP_NAME = "from KruizeLMExperimentEntry k " +
+                "WHERE k.experiment_name > :experimentName ORDER BY k.experiment_name";
         public static final String SELECT_FROM_EXPERIMENTS_BY_EXP_NAME = "from KruizeExperimentEntry k WHERE k.experiment_name = :experimentName";
         public static final String SELECT_COUNT_FROM_EXPERIMENTS_BY_PROFILE_NAME = "SELECT count(k) FROM KruizeExperimentEntry k WHERE k.performance_profile = :performanceProfile";
         public static final String SELECT_FROM_LM_EXPERIMENTS_BY_EXP_NAME = "from KruizeLMExperimentEntry k WHERE k.experiment_name = :experimentName";
+        public static final String SELECT_FROM_LM_EXPERIMENTS_BY_EXP_NAMES = "from KruizeLMExperimentEntry k WHERE k.experiment_name IN (:experimentNames)";
         public static final String SELECT_FROM_BULKJOBS_BY_JOB_ID = "from KruizeBulkJobEntry k WHERE k.jobId = :jobId";
-        public static final String UPDATE_BULKJOB_BY_ID = "UPDATE kruize_bulkjobs " +
-                "SET experiments = jsonb_set(" +
-                "    jsonb_set(experiments, :notificationPath, :newNotification::jsonb, true), " +
-                "    :recommendationPath, :newRecommendation::jsonb, true" +
-                ") " +
-                "WHERE job_id = :jobId";
+        public static final String SELECT_FROM_BULKJOB_EXPERIMENTS_BY_JOB_ID = "from KruizeBulkJobExperimentEntry k WHERE k.jobId = :jobId " +
+                "ORDER BY k.experimentName";
+        public static final String SELECT_FROM_BULKJOB_EXPERIMENTS_BY_JOB_ID_AND_EXP_NAME = "from KruizeBulkJobExperimentEntry k WHERE k.jobId = :jobId " +
+                "AND k.experimentName LIKE :experimentName ESCAPE '\\' ORDER BY k.experimentName";
+        public static final String UPSERT_BULKJOB_EXPERIMENT = "INSERT INTO kruize_bulkjob_experiments " +
+                "(job_id, experiment_name, status, notifications, experiment, update_date) " +
+                "VALUES (:jobId, :experimentName, :status, CAST(:notifications AS jsonb), CAST(:experiment AS jsonb), :updateDate) " +
+                "ON CONFLICT (job_id, experiment_name) DO UPDATE SET status = EXCLUDED.status, notifications = EXCLUDED.notifications, " +
+                "experiment = EXCLUDED.experiment, update_date = EXCLUDED.update_date";
+        // concurrent experiments of a job may commit out of order, never lower the count
+        public static final String UPDATE_BULKJOB_PROCESSED_COUNT = "UPDATE kruize_bulkjobs " +
+                "SET processed_count = GREATEST(processed_count, :processedCount) WHERE job_id = :jobId";
         public static final String UPDATE_EXPERIMENTS_DATE = "UPDATE kruize_experiments " +
                 "SET update_date = :updateDate WHERE experiment_name IN (:experimentNames) ";
         public static final String SELECT_FROM_RESULTS = "from KruizeResultsEntry";
+        // multi-row insert of results, the VALUES row is repeated once per entry of the batch
+        public static final String INSERT_RESULTS_BATCH = "INSERT INTO kruize_results (version, experiment_name, cluster_name, " +
+                "interval_start_time, interval_end_time, duration_minutes, extended_data, meta_data) VALUES %s " +
+                "ON CONFLICT DO NOTHING RETURNING experiment_name, interval_start_time, interval_end_time";
+        public static final String INSERT_RESULTS_BATCH_ROW = "(?, ?, ?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb))";
         public static final String SELECT_FROM_RESULTS_BY_EXP_NAME = "from KruizeResultsEntry k WHERE k.experiment_name = :experimentName";
         public static final String SELECT_FROM_DATASOURCE = "from KruizeDataSourceEntry";
         public static final String SELECT_FROM_DATASOURCE_BY_NAME = "from KruizeDataSourceEntry kd WHERE kd.name = :name";
         public static final String SELECT_FROM_METADATA_BY_DATASOURCE_NAME = "from KruizeDSMetadataEntry km WHERE km.datasource_name = :dataSourceName";
+        // multi-row upsert of metadata on the uk_dsmetadata_container index, the VALUES row is repeated once per entry
+        public static final String UPSERT_METADATA_BATCH = "INSERT INTO kruize_dsmetadata (version, datasource_name, cluster_name, " +
+                "namespace, workload_type, workload_name, container_name, container_image_name) VALUES %s " +
+                "ON CONFLICT (datasource_name, cluster_name, namespace, (COALESCE(workload_type, '')), " +
+                "(COALESCE(workload_name, '')), (COALESCE(container_name, ''))) DO UPDATE SET version = EXCLUDED.version, " +
+                "container_image_name = EXCLUDED.container_image_name";
+        public static final String UPSERT_METADATA_BATCH_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+        public static final String DELETE_FROM_METADATA_BY_IDS = "DELETE FROM KruizeDSMetadataEntry km WHERE km.id IN (:ids)";
         public static final String SELECT_FROM_METADATA_BY_DATASOURCE_NAME_AND_CLUSTER_NAME =
                 String.format("from KruizeDSMetadataEntry km " +
                                 "WHERE km.datasource_name = :%s and " +
@@ -65,7 +92,7 @@ public class DBConstants {
         public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAME_BY_JOB_ID =
                 String.format(
                         "from KruizeLMRecommendationEntry k WHERE k.experiment_name = :experimentName " +
-                                "AND function('jsonb_extract_path_text', extended_data, 'job_id') = :job_id");
+                                "AND k.job_id = :job_id");
         public static final String SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAME_AND_END_TIME = String.format(
                 "from KruizeRecommendationEntry k WHERE " +
                         "k.experiment_name = :%s and " +
@@ -78,7 +105,21 @@ public class DBConstants {
                 KruizeConstants.JSONKeys.EXPERIMENT_NAME, KruizeConstants.JSONKeys.INTERVAL_END_TIME);
         public static final String SELECT_FROM_RECOMMENDATIONS = "from KruizeRecommendationEntry";
         public static final String SELECT_FROM_LM_RECOMMENDATIONS = "from KruizeLMRecommendationEntry";
-        public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_JOB_ID = "from KruizeLMRecommendationEntry where function('jsonb_extract_path_text', extended_data, 'job_id') = :job_id";
+        public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_JOB_ID = "from KruizeLMRecommendationEntry k WHERE k.job_id = :job_id";
+        // newest row of every experiment, %s is replaced with an optional WHERE clause, served by the primary key index
+        public static final String SELECT_LATEST_FROM_RESULTS = "SELECT DISTINCT ON (experiment_name) * FROM kruize_results %s " +
+                "ORDER BY experiment_name, interval_end_time DESC";
+        public static final String SELECT_LATEST_FROM_RECOMMENDATIONS = "SELECT DISTINCT ON (experiment_name) * FROM kruize_recommendations %s " +
+                "ORDER BY experiment_name, interval_end_time DESC";
+        public static final String SELECT_LATEST_FROM_LM_RECOMMENDATIONS = "SELECT DISTINCT ON (experiment_name) * FROM kruize_lm_recommendations %s " +
+                "ORDER BY experiment_name, interval_end_time DESC";
+        public static final String WHERE_EXP_NAMES = "WHERE experiment_name IN (:experimentNames)";
+        public static final String WHERE_EXP_NAMES_AND_JOB_ID = "WHERE experiment_name IN (:experimentNames) AND job_id = :job_id";
+        public static final String SELECT_FROM_RESULTS_BY_EXP_NAMES = "from KruizeResultsEntry k WHERE k.experiment_name IN (:experimentNames)";
+        public static final String SELECT_FROM_RECOMMENDATIONS_BY_EXP_NAMES = "from KruizeRecommendationEntry k WHERE k.experiment_name IN (:experimentNames)";
+        public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES = "from KruizeLMRecommendationEntry k WHERE k.experiment_name IN (:experimentNames)";
+        public static final String SELECT_FROM_LM_RECOMMENDATIONS_BY_EXP_NAMES_AND_JOB_ID =
+                "from KruizeLMRecommendationEntry k WHERE k.experiment_name IN (:experimentNames) AND k.job_id = :job_id";
         public static final String SELECT_FROM_PERFORMANCE_PROFILE = "from KruizePerformanceProfileEntry";
         public static final String SELECT_FROM_PERFORMANCE_PROFILE_BY_NAME = "from KruizePerformanceProfileEntry k WHERE k.name = :name";
         public static final String SELECT_FROM_METRIC_PROFILE = "from KruizeMetricProfileEntry";
@@ -98,24 +139,11 @@ public class DBConstants {
         public static final String DB_PARTITION_DATERANGE = "CREATE TABLE IF NOT EXISTS %s_%s%s%s PARTITION OF %s FOR VALUES FROM ('%s-%s-%s 00:00:00.000') TO ('%s-%s-%s 23:59:59');";
         public static final String SELECT_ALL_KRUIZE_TABLES = "SELECT table_name FROM information_schema.tables WHERE table_schema = 'public' " +
                 "and (table_name like 'kruize_results_%' or table_name like 'kruize_recommendations_%') ";
+        // containment (@>) of the kubernetes object, served by the GIN index on extended_data
         public static final String SELECT_FROM_EXPERIMENTS_BY_INPUT_JSON = "SELECT * FROM kruize_experiments WHERE cluster_name = :cluster_name " +
-                "AND EXISTS (SELECT 1 FROM jsonb_array_elements(extended_data->'kubernetes_objects') AS kubernetes_object" +
-                " WHERE kubernetes_object->>'name' = :name " +
-                " AND kubernetes_object->>'namespace' = :namespace " +
-                " AND kubernetes_object->>'type' = :type " +
-                " AND EXISTS (SELECT 1 FROM jsonb_array_elements(kubernetes_object->'containers') AS container" +
-                " WHERE container->>'container_name' = :container_name" +
-                " AND container->>'container_image_name' = :container_image_name" +
-                " ))";
+                "AND extended_data @> CAST(:kubernetes_objects AS jsonb)";
         public static final String SELECT_FROM_LM_EXPERIMENTS_BY_INPUT_JSON = "SELECT * FROM kruize_lm_experiments WHERE cluster_name = :cluster_name " +
-                "AND EXISTS (SELECT 1 FROM jsonb_array_elements(extended_data->'kubernetes_objects') AS kubernetes_object" +
-                " WHERE kubernetes_object->>'name' = :name " +
-                " AND kubernetes_object->>'namespace' = :namespace " +
-                " AND kubernetes_object->>'type' = :type " +
-                " AND EXISTS (SELECT 1 FROM jsonb_array_elements(kubernetes_object->'containers') AS container" +
-                " WHERE container->>'container_name' = :container_name" +
-                " AND container->>'container_image_name' = :container_image_name" +
-                " ))";
+                "AND extended_data @> CAST(:kubernetes_objects AS jsonb)";
         public static final String UPDATE_METADATA_PROFILE_TO_DB = "UPDATE KruizeLMMetadataProfileEntry km "+
                 "SET km.api_version = :apiVersion, km.kind = :kind, km.metadata = :metadata, km.name = :name, km.profile_version = :profileVersion, " +
                 "km.k8s_type = :k8sType, km.datasource = :datasource, km.query_variables = :queryVariables " +
@@ -153,6 +181,7 @@ public class DBConstants {
         public static final String DB_CREATION_SUCCESS = "DB creation successful !";
         public static final String DB_LIVELINESS_PROBE_SUCCESS = "DB Liveliness probe connection successful!";
         public static final String DUPLICATE_DB_OPERATION = " - Attempted operation has already been executed";
+        public static final String METADATA_SYNCED = "Saved metadata of datasource {}: {} entries added or changed, {} removed, {} unchanged";
 
     }
 
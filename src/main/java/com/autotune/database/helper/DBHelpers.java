@@ -67,7 +67,6 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URL;
 import java.sql.Timestamp;
-import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
 
@@ -423,6 +422,26 @@ public class DBHelpers {
     }
 
     public static class Converters {
+        // Gson and ObjectMapper are thread-safe once configured, so the converters share them
+        private static final Gson GSON = new GsonBuilder()
+                .disableHtmlEscaping()
+                .enableComplexMapKeySerialization()
+                .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
+                .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
+                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
+                .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
+                .create();
+        private static final Gson PLAIN_GSON = new Gson();
+        private static final Gson DEBUG_GSON = new GsonBuilder()
+                .setPrettyPrinting()
+                .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
+                .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
+                .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
+                .create();
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+                .setDateFormat(new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT));
+
         private Converters() {
 
         }
@@ -455,16 +474,7 @@ public class DBHelpers {
                     kruizeLMExperimentEntry.setDatasource(null);
                     kruizeLMExperimentEntry.setExperiment_type(apiObject.getExperimentType());
 
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    try {
-                        kruizeLMExperimentEntry.setExtended_data(
-                                objectMapper.readTree(
-                                        new Gson().toJson(apiObject)
-                                )
-                        );
-                    } catch (JsonProcessingException e) {
-                        throw new Exception("Error while creating Extended data due to : " + e.getMessage());
-                    }
+                    kruizeLMExperimentEntry.setExtended_data(JsonTreeConverter.toJsonNode(PLAIN_GSON, apiObject));
                 } catch (Exception e) {
                     kruizeLMExperimentEntry = null;
                     LOGGER.error("Error while converting Kruize Object to experimentDetailTable due to {}", e.getMessage());
@@ -480,16 +490,6 @@ public class DBHelpers {
              */
             public static KruizeResultsEntry convertExperimentResultToExperimentResultsTable(ExperimentResultData experimentResultData) {
                 KruizeResultsEntry kruizeResultsEntry = null;
-                Gson gson = new GsonBuilder()
-                        .disableHtmlEscaping()
-                        .setPrettyPrinting()
-                        .enableComplexMapKeySerialization()
-                        .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
-                        .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                        .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                        .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                        .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                        .create();
                 try {
                     kruizeResultsEntry = new KruizeResultsEntry();
                     kruizeResultsEntry.setVersion(experimentResultData.getVersion());
@@ -502,18 +502,7 @@ public class DBHelpers {
                                     experimentResultData.getIntervalStartTime().getTime()) / (60 * 1000))
                     );
                     Map<String, List<K8sObject>> k8sObjectsMap = Map.of(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS, experimentResultData.getKubernetes_objects());
-                    String k8sObjectString = gson.toJson(k8sObjectsMap);
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    try {
-                        kruizeResultsEntry.setExtended_data(
-                                objectMapper.readTree(
-                                        k8sObjectString
-                                )
-                        );
-                    } catch (JsonProcessingException e) {
-                        throw new Exception("Error while creating Extended data due to : " + e.getMessage());
-                    }
-
+                    kruizeResultsEntry.setExtended_data(JsonTreeConverter.toJsonNode(GSON, k8sObjectsMap));
                 } catch (Exception e) {
                     kruizeResultsEntry = null;
                     LOGGER.error("Error while converting ExperimentResultData to ExperimentResultsTable due to {}", e.getMessage());
@@ -526,29 +515,15 @@ public class DBHelpers {
                 KruizeRecommendationEntry kruizeRecommendationEntry = null;
                 Boolean checkForTimestamp = false;
                 Boolean getLatest = true;
-                Gson gson = new GsonBuilder()
-                        .disableHtmlEscaping()
-                        .setPrettyPrinting()
-                        .enableComplexMapKeySerialization()
-                        .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
-                        .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                        .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                        .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                        .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                        .create();
                 try {
                     ListRecommendationsAPIObject listRecommendationsAPIObject = getListRecommendationAPIObjectForDB(
                             kruizeObject, monitoringEndTime);
                     if (null == listRecommendationsAPIObject) {
                         return null;
                     }
-                    LOGGER.debug(new GsonBuilder()
-                            .setPrettyPrinting()
-                            .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                            .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                            .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                            .create()
-                            .toJson(listRecommendationsAPIObject));
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(DEBUG_GSON.toJson(listRecommendationsAPIObject));
+                    }
                     kruizeRecommendationEntry = new KruizeRecommendationEntry();
                     kruizeRecommendationEntry.setVersion(KruizeConstants.KRUIZE_RECOMMENDATION_API_VERSION.LATEST.getVersionNumber());
                     kruizeRecommendationEntry.setExperiment_name(listRecommendationsAPIObject.getExperimentName());
@@ -569,19 +544,7 @@ public class DBHelpers {
                     }
                     kruizeRecommendationEntry.setInterval_end_time(endInterval);
                     Map k8sObjectsMap = Map.of(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS, listRecommendationsAPIObject.getKubernetesObjects());
-                    String k8sObjectString = gson.toJson(k8sObjectsMap);
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    DateFormat df = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT);
-                    objectMapper.setDateFormat(df);
-                    try {
-                        kruizeRecommendationEntry.setExtended_data(
-                                objectMapper.readTree(
-                                        k8sObjectString
-                                )
-                        );
-                    } catch (JsonProcessingException e) {
-                        throw new Exception("Error while creating Extended data due to : " + e.getMessage());
-                    }
+                    kruizeRecommendationEntry.setExtended_data(JsonTreeConverter.toJsonNode(GSON, k8sObjectsMap));
                 } catch (Exception e) {
                     kruizeRecommendationEntry = null;
                     LOGGER.error("Error while converting KruizeObject to KruizeRecommendationEntry due to {}", e.getMessage());
@@ -595,34 +558,21 @@ public class DBHelpers {
                 KruizeLMRecommendationEntry kruizeRecommendationEntry = null;
                 Boolean checkForTimestamp = false;
                 Boolean getLatest = true;
-                Gson gson = new GsonBuilder()
-                        .disableHtmlEscaping()
-                        .setPrettyPrinting()
-                        .enableComplexMapKeySerialization()
-                        .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
-                        .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                        .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                        .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                        .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                        .create();
                 try {
                     ListRecommendationsAPIObject listRecommendationsAPIObject = getListRecommendationAPIObjectForDB(
                             kruizeObject, monitoringEndTime);
                     if (null == listRecommendationsAPIObject) {
                         return null;
                     }
-                    LOGGER.debug(new GsonBuilder()
-                            .setPrettyPrinting()
-                            .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                            .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                            .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                            .create()
-                            .toJson(listRecommendationsAPIObject));
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(DEBUG_GSON.toJson(listRecommendationsAPIObject));
+                    }
                     kruizeRecommendationEntry = new KruizeLMRecommendationEntry();
                     kruizeRecommendationEntry.setVersion(KruizeConstants.KRUIZE_RECOMMENDATION_API_VERSION.LATEST.getVersionNumber());
                     kruizeRecommendationEntry.setExperiment_name(listRecommendationsAPIObject.getExperimentName());
                     kruizeRecommendationEntry.setCluster_name(listRecommendationsAPIObject.getClusterName());
                     kruizeRecommendationEntry.setExperimentType(kruizeObject.getExperimentType().name());
+                    kruizeRecommendationEntry.setJob_id(kruizeObject.getBulkJobId());
 
                     Timestamp endInterval = null;
                     // todo : what happens if two k8 objects or Containers with different timestamp
@@ -641,19 +591,7 @@ public class DBHelpers {
                     k8sObjectsMap.put(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS, listRecommendationsAPIObject.getKubernetesObjects());
                     if (null != kruizeObject.getBulkJobId())
                         k8sObjectsMap.put(JOB_ID, kruizeObject.getBulkJobId());
-                    String k8sObjectString = gson.toJson(k8sObjectsMap);
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    DateFormat df = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT);
-                    objectMapper.setDateFormat(df);
-                    try {
-                        kruizeRecommendationEntry.setExtended_data(
-                                objectMapper.readTree(
-                                        k8sObjectString
-                                )
-                        );
-                    } catch (JsonProcessingException e) {
-                        throw new Exception("Error while creating Extended data due to : " + e.getMessage());
-                    }
+                    kruizeRecommendationEntry.setExtended_data(JsonTreeConverter.toJsonNode(GSON, k8sObjectsMap));
                 } catch (Exception e) {
                     kruizeRecommendationEntry = null;
                     LOGGER.error("Error while converting KruizeObject to KruizeRecommendationEntry due to {}", e.getMessage());
@@ -775,8 +713,7 @@ public class DBHelpers {
                 for (KruizeLMExperimentEntry entry : entries) {
                     try {
                         JsonNode extended_data = entry.getExtended_data();
-                        String extended_data_rawJson = extended_data.toString();
-                        CreateExperimentAPIObject apiObj = new Gson().fromJson(extended_data_rawJson, CreateExperimentAPIObject.class);
+                        CreateExperimentAPIObject apiObj = JsonTreeConverter.fromJsonNode(PLAIN_GSON, extended_data, CreateExperimentAPIObject.class);
                         apiObj.setExperiment_id(entry.getExperiment_id());
                         apiObj.setStatus(entry.getStatus());
                         apiObj.setTargetCluster(entry.getTarget_cluster());
@@ -802,8 +739,7 @@ public class DBHelpers {
                 for (KruizeExperimentEntry entry : entries) {
                     try {
                         JsonNode extended_data = entry.getExtended_data();
-                        String extended_data_rawJson = extended_data.toString();
-                        CreateExperimentAPIObject apiObj = new Gson().fromJson(extended_data_rawJson, CreateExperimentAPIObject.class);
+                        CreateExperimentAPIObject apiObj = JsonTreeConverter.fromJsonNode(PLAIN_GSON, extended_data, CreateExperimentAPIObject.class);
                         apiObj.setExperiment_id(entry.getExperiment_id());
                         apiObj.setStatus(entry.getStatus());
                         apiObj.setExperimentType(ExperimentTypeUtil.getExperimentTypeFromBitMask(entry.getExperiment_type()));
@@ -824,19 +760,6 @@ public class DBHelpers {
 
 
             public static List<UpdateResultsAPIObject> convertResultEntryToUpdateResultsAPIObject(List<KruizeResultsEntry> kruizeResultsEntries) {
-                ObjectMapper mapper = new ObjectMapper();
-                DateFormat df = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT);
-                mapper.setDateFormat(df);
-                Gson gson = new GsonBuilder()
-                        .disableHtmlEscaping()
-                        .setPrettyPrinting()
-                        .enableComplexMapKeySerialization()
-                        .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
-                        .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                        .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                        .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                        .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                        .create();
                 List<UpdateResultsAPIObject> updateResultsAPIObjects = new ArrayList<>();
                 for (KruizeResultsEntry kruizeResultsEntry : kruizeResultsEntries) {
                     try {
@@ -851,7 +774,7 @@ public class DBHelpers {
                         List<K8sObject> k8sObjectList = new ArrayList<>();
                         if (k8sObjectsNode.isArray()) {
                             for (JsonNode node : k8sObjectsNode) {
-                                K8sObject k8sObject = gson.fromJson(mapper.writeValueAsString(node), K8sObject.class);
+                                K8sObject k8sObject = JsonTreeConverter.fromJsonNode(GSON, node, K8sObject.class);
                                 if (null != k8sObject) {
                                     k8sObjectList.add(k8sObject);
                                 } else {
@@ -921,16 +844,6 @@ public class DBHelpers {
                     return null;
                 if (kruizeRecommendationEntryList.size() == 0)
                     return null;
-                Gson gson = new GsonBuilder()
-                        .disableHtmlEscaping()
-                        .setPrettyPrinting()
-                        .enableComplexMapKeySerialization()
-                        .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
-                        .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                        .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                        .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                        .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                        .create();
                 List<ListRecommendationsAPIObject> listRecommendationsAPIObjectList = new ArrayList<>();
                 for (KruizeRecommendationEntry kruizeRecommendationEntry : kruizeRecommendationEntryList) {
                     // Check if instance of KruizeRecommendationEntry is null
@@ -943,38 +856,29 @@ public class DBHelpers {
                                 )
                         );
                     }
-                    // Create an Object Mapper to extract value from JSON Node
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    DateFormat df = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT);
-                    objectMapper.setDateFormat(df);
                     // Create a holder for recommendation object to save the result from object mapper
                     ListRecommendationsAPIObject listRecommendationsAPIObject = null;
                     JsonNode extendedData = kruizeRecommendationEntry.getExtended_data().get(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS);
                     if (null == extendedData)
                         continue;
-                    try {
-                        // If successful, the object mapper returns the list recommendation API Object
-                        List<KubernetesAPIObject> kubernetesAPIObjectList = new ArrayList<>();
-                        if (extendedData.isArray()) {
-                            for (JsonNode node : extendedData) {
-                                KubernetesAPIObject kubernetesAPIObject = gson.fromJson(objectMapper.writeValueAsString(node), KubernetesAPIObject.class);
-                                if (null != kubernetesAPIObject) {
-                                    kubernetesAPIObjectList.add(kubernetesAPIObject);
-                                } else {
-                                    LOGGER.debug("GSON failed to convert the DB Json object in convertRecommendationEntryToRecommendationAPIObject");
-                                }
+                    // Convert the kubernetes objects of the JSON Node to the list recommendation API Object
+                    List<KubernetesAPIObject> kubernetesAPIObjectList = new ArrayList<>();
+                    if (extendedData.isArray()) {
+                        for (JsonNode node : extendedData) {
+                            KubernetesAPIObject kubernetesAPIObject = JsonTreeConverter.fromJsonNode(GSON, node, KubernetesAPIObject.class);
+                            if (null != kubernetesAPIObject) {
+                                kubernetesAPIObjectList.add(kubernetesAPIObject);
+                            } else {
+                                LOGGER.debug("GSON failed to convert the DB Json object in convertRecommendationEntryToRecommendationAPIObject");
                             }
                         }
-                        if (null != kubernetesAPIObjectList) {
-                            listRecommendationsAPIObject = new ListRecommendationsAPIObject();
-                            listRecommendationsAPIObject.setApiVersion(kruizeRecommendationEntry.getVersion());
-                            listRecommendationsAPIObject.setKubernetesObjects(kubernetesAPIObjectList);
-                            listRecommendationsAPIObject.setExperimentName(kruizeRecommendationEntry.getExperiment_name());
-                            listRecommendationsAPIObject.setClusterName(kruizeRecommendationEntry.getCluster_name());
-                        }
-                    } catch (JsonProcessingException e) {
-                        e.printStackTrace();
-                        LOGGER.debug(e.getMessage());
+                    }
+                    if (null != kubernetesAPIObjectList) {
+                        listRecommendationsAPIObject = new ListRecommendationsAPIObject();
+                        listRecommendationsAPIObject.setApiVersion(kruizeRecommendationEntry.getVersion());
+                        listRecommendationsAPIObject.setKubernetesObjects(kubernetesAPIObjectList);
+                        listRecommendationsAPIObject.setExperimentName(kruizeRecommendationEntry.getExperiment_name());
+                        listRecommendationsAPIObject.setClusterName(kruizeRecommendationEntry.getCluster_name());
                     }
                     if (null != listRecommendationsAPIObject)
                         listRecommendationsAPIObjectList.add(listRecommendationsAPIObject);
@@ -990,16 +894,6 @@ public class DBHelpers {
                     return null;
                 if (kruizeRecommendationEntryList.size() == 0)
                     return null;
-                Gson gson = new GsonBuilder()
-                        .disableHtmlEscaping()
-                        .setPrettyPrinting()
-                        .enableComplexMapKeySerialization()
-                        .setDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT)
-                        .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
-                        .registerTypeAdapter(AnalyzerConstants.RecommendationItem.class, new RecommendationItemAdapter())
-                        .registerTypeAdapter(DeviceDetails.class, new DeviceDetailsAdapter())
-                        .registerTypeAdapter(MetricMetadata.class, new MetricMetadataAdapter())
-                        .create();
                 List<ListRecommendationsAPIObject> listRecommendationsAPIObjectList = new ArrayList<>();
                 for (KruizeLMRecommendationEntry kruizeRecommendationEntry : kruizeRecommendationEntryList) {
                     // Check if instance of KruizeRecommendationEntry is null
@@ -1012,38 +906,29 @@ public class DBHelpers {
                                 )
                         );
                     }
-                    // Create an Object Mapper to extract value from JSON Node
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    DateFormat df = new SimpleDateFormat(KruizeConstants.DateFormats.STANDARD_JSON_DATE_FORMAT);
-                    objectMapper.setDateFormat(df);
                     // Create a holder for recommendation object to save the result from object mapper
                     ListRecommendationsAPIObject listRecommendationsAPIObject = null;
                     JsonNode extendedData = kruizeRecommendationEntry.getExtended_data().get(KruizeConstants.JSONKeys.KUBERNETES_OBJECTS);
                     if (null == extendedData)
                         continue;
-                    try {
-                        // If successful, the object mapper returns the list recommendation API Object
-                        List<KubernetesAPIObject> kubernetesAPIObjectList = new ArrayList<>();
-                        if (extendedData.isArray()) {
-                            for (JsonNode node : extendedData) {
-                                KubernetesAPIObject kubernetesAPIObject = gson.fromJson(objectMapper.writeValueAsString(node), KubernetesAPIObject.class);
-                                if (null != kubernetesAPIObject) {
-                                    kubernetesAPIObjectList.add(kubernetesAPIObject);
-                                } else {
-                                    LOGGER.debug("GSON failed to convert the DB Json object in convertRecommendationEntryToRecommendationAPIObject");
-                                }
+                    // Convert the kubernetes objects of the JSON Node to the list recommendation API Object
+                    List<KubernetesAPIObject> kubernetesAPIObjectList = new ArrayList<>();
+                    if (extendedData.isArray()) {
+                        for (JsonNode node : extendedData) {
+                            KubernetesAPIObject kubernetesAPIObject = JsonTreeConverter.fromJsonNode(GSON, node, KubernetesAPIObject.class);
+                            if (null != kubernetesAPIObject) {
+                                kubernetesAPIObjectList.add(kubernetesAPIObject);
+                            } else {
+                                LOGGER.debug("GSON failed to convert the DB Json object in convertRecommendationEntryToRecommendationAPIObject");
                             }
                         }
-                        if (null != kubernetesAPIObjectList) {
-                            listRecommendationsAPIObject = new ListRecommendationsAPIObject();
-                            listRecommendationsAPIObject.setApiVersion(kruizeRecommendationEntry.getVersion());
-                            listRecommendationsAPIObject.setKubernetesObjects(kubernetesAPIObjectList);
-                            listRecommendationsAPIObject.setExperimentName(kruizeRecommendationEntry.getExperiment_name());
-                            listRecommendationsAPIObject.setClusterName(kruizeRecommendationEntry.getCluster_name());
-                        }
-                    } catch (JsonProcessingException e) {
-                        e.printStackTrace();
-                        LOGGER.debug(e.getMessage());
+                    }
+                    if (null != kubernetesAPIObjectList) {
+                        listRecommendationsAPIObject = new ListRecommendationsAPIObject();
+                        listRecommendationsAPIObject.setApiVersion(kruizeRecommendationEntry.getVersion());
+                        listRecommendationsAPIObject.setKubernetesObjects(kubernetesAPIObjectList);
+                        listRecommendationsAPIObject.setExperimentName(kruizeRecommendationEntry.getExperiment_name());
+                        listRecommendationsAPIObject.setClusterName(kruizeRecommendationEntry.getCluster_name());
                     }
                     if (null != listRecommendationsAPIObject)
                         listRecommendationsAPIObjectList.add(listRecommendationsAPIObject);
@@ -1061,13 +946,7 @@ public class DBHelpers {
                     kruizePerformanceProfileEntry.setProfile_version(performanceProfile.getProfile_version());
                     kruizePerformanceProfileEntry.setK8s_type(performanceProfile.getK8S_TYPE());
 
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    try {
-                        kruizePerformanceProfileEntry.setSlo(
-                                objectMapper.readTree(new Gson().toJson(performanceProfile.getSloInfo())));
-                    } catch (JsonProcessingException e) {
-                        throw new Exception("Error while creating SLO data due to : " + e.getMessage());
-                    }
+                    kruizePerformanceProfileEntry.setSlo(JsonTreeConverter.toJsonNode(PLAIN_GSON, performanceProfile.getSloInfo()));
                 } catch (Exception e) {
                     LOGGER.error("Error occurred while converting Performance Profile Object to PerformanceProfile table due to {}", e.getMessage());
                     e.printStackTrace();
@@ -1082,8 +961,7 @@ public class DBHelpers {
                 for (KruizePerformanceProfileEntry entry : entries) {
                     try {
                         JsonNode sloData = entry.getSlo();
-                        String slo_rawJson = sloData.toString();
-                        SloInfo sloInfo = new Gson().fromJson(slo_rawJson, SloInfo.class);
+                        SloInfo sloInfo = JsonTreeConverter.fromJsonNode(PLAIN_GSON, sloData, SloInfo.class);
                         PerformanceProfile performanceProfile = new PerformanceProfile(
                                 entry.getName(), entry.getProfile_version(), entry.getK8s_type(), sloInfo);
                         performanceProfiles.add(performanceProfile);
@@ -1114,22 +992,15 @@ public class DBHelpers {
                     kruizeMetricProfileEntry.setProfile_version(metricProfile.getProfile_version());
                     kruizeMetricProfileEntry.setK8s_type(metricProfile.getK8S_TYPE());
 
-                    ObjectMapper objectMapper = new ObjectMapper();
-
                     try {
-                        JsonNode metadataNode = objectMapper.readTree(metricProfile.getMetadata().toString());
+                        JsonNode metadataNode = OBJECT_MAPPER.readTree(metricProfile.getMetadata().toString());
                         kruizeMetricProfileEntry.setMetadata(metadataNode);
                     } catch (JsonProcessingException e) {
                         throw new Exception("Error while creating metadata due to : " + e.getMessage());
                     }
                     kruizeMetricProfileEntry.setName(metricProfile.getMetadata().get("name").asText());
 
-                    try {
-                        kruizeMetricProfileEntry.setSlo(
-                                objectMapper.readTree(new Gson().toJson(metricProfile.getSloInfo())));
-                    } catch (JsonProcessingException e) {
-                        throw new Exception("Error while creating SLO data due to : " + e.getMessage());
-                    }
+                    kruizeMetricProfileEntry.setSlo(JsonTreeConverter.toJsonNode(PLAIN_GSON, metricProfile.getSloInfo()));
                 } catch (Exception e) {
                     LOGGER.error("Error occurred while converting MetricProfile Object to MetricProfile table due to {}", e.getMessage());
                     e.printStackTrace();
@@ -1152,8 +1023,7 @@ public class DBHelpers {
                     try {
                         JsonNode metadata = entry.getMetadata();
                         JsonNode sloData = entry.getSlo();
-                        String slo_rawJson = sloData.toString();
-                        SloInfo sloInfo = new Gson().fromJson(slo_rawJson, SloInfo.class);
+                        SloInfo sloInfo = JsonTreeConverter.fromJsonNode(PLAIN_GSON, sloData, SloInfo.class);
                         PerformanceProfile performanceProfile = new PerformanceProfile(
                                 entry.getApi_version(), entry.getKind(), metadata, entry.getProfile_version(), entry.getK8s_type(), sloInfo);
                         metricProfiles.add(performanceProfile);
@@ -1468,15 +1338,7 @@ public class DBHelpers {
                     kruizeAuthenticationEntry = new KruizeAuthenticationEntry();
                     kruizeAuthenticationEntry.setAuthenticationType(authenticationConfig.getType().toString());
                     // set the authentication details
-                    String credentialsString = new Gson().toJson(authenticationConfig.getCredentials());
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode credentials;
-                    try {
-                        credentials = objectMapper.readTree(credentialsString);
-                    } catch (JsonProcessingException e) {
-                        throw new Exception("Error occurred while creating credentials object : " + e.getMessage());
-                    }
-                    kruizeAuthenticationEntry.setCredentials(credentials);
+                    kruizeAuthenticationEntry.setCredentials(JsonTreeConverter.toJsonNode(PLAIN_GSON, authenticationConfig.getCredentials()));
                     kruizeAuthenticationEntry.setServiceType(serviceType);
                 } catch (Exception e) {
                     kruizeAuthenticationEntry = null;
@@ -1504,8 +1366,7 @@ public class DBHelpers {
 
                         if (query_variables.isArray()) {
                             for (JsonNode node : query_variables) {
-                                String metric_rawJson = node.toString();
-                                Metric metric = new Gson().fromJson(metric_rawJson, Metric.class);
+                                Metric metric = JsonTreeConverter.fromJsonNode(PLAIN_GSON, node, Metric.class);
                                 queryVariablesList.add(metric);
                             }
                         }
@@ -1542,22 +1403,15 @@ public class DBHelpers {
                     kruizeMetadataProfileEntry.setK8s_type(metadataProfile.getK8s_type());
                     kruizeMetadataProfileEntry.setDatasource(metadataProfile.getDatasource());
 
-                    ObjectMapper objectMapper = new ObjectMapper();
-
                     try {
-                        JsonNode metadataNode = objectMapper.readTree(metadataProfile.getMetadata().toString());
+                        JsonNode metadataNode = OBJECT_MAPPER.readTree(metadataProfile.getMetadata().toString());
                         kruizeMetadataProfileEntry.setMetadata(metadataNode);
                     } catch (JsonProcessingException e) {
                         throw new Exception(KruizeConstants.MetadataProfileConstants.MetadataProfileErrorMsgs.PROCESS_METADATA_PROFILE_OBJECT_ERROR + e.getMessage());
                     }
                     kruizeMetadataProfileEntry.setName(metadataProfile.getMetadata().get(KruizeConstants.JSONKeys.NAME).asText());
 
-                    try {
-                        kruizeMetadataProfileEntry.setQuery_variables(
-                                objectMapper.readTree(new Gson().toJson(metadataProfile.getQueryVariables())));
-                    } catch (JsonProcessingException e) {
-                        throw new Exception(KruizeConstants.MetadataProfileConstants.MetadataProfileErrorMsgs.PROCESS_QUERY_VARIABLES_ERROR + e.getMessage());
-                    }
+                    kruizeMetadataProfileEntry.setQuery_variables(JsonTreeConverter.toJsonNode(PLAIN_GSON, metadataProfile.getQueryVariables()));
                 } catch (Exception e) {
                     LOGGER.error(KruizeConstants.MetadataProfileConstants.MetadataProfileErrorMsgs.CONVERT_METADATA_PROFILE_TO_DB_OBJECT_FAILURE, e.getMessage());
                     e.printStackTrace();
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Converts between Gson and Jackson JSON trees.
+ * <p>
+ * The entities keep their JSON columns as Jackson JsonNode while the Kruize objects are (de)serialized with Gson
+ * and its type adapters. Converting the trees directly avoids printing every object to a String with Gson and
+ * parsing it again with Jackson, or the other way round. Numbers get the same node types as when the printed
+ * JSON is parsed by Jackson, so the stored JSON does not change.
+ */
+public final class JsonTreeConverter {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private JsonTreeConverter() {
+
+    }
+
+    /**
+     * Serializes the object with Gson into a Jackson tree
+     *
+     * @param gson   Gson instance with the type adapters of the object
+     * @param object object to serialize
+     * @return JsonNode of the object
+     */
+    public static JsonNode toJsonNode(Gson gson, Object object) {
+        return toJsonNode(gson.toJsonTree(object));
+    }
+
+    /**
+     * Deserializes the Jackson tree with Gson
+     *
+     * @param gson  Gson instance with the type adapters of the class
+     * @param node  JSON tree of the object
+     * @param clazz class of the object
+     * @return the deserialized object, null if the node is null
+     */
+    public static <T> T fromJsonNode(Gson gson, JsonNode node, Class<T> clazz) {
+        return gson.fromJson(toJsonElement(node), clazz);
+    }
+
+    public static JsonNode toJsonNode(JsonElement element) {
+        if (null == element || element.isJsonNull()) {
+            return NODE_FACTORY.nullNode();
+        }
+        if (element.isJsonObject()) {
+            ObjectNode objectNode = NODE_FACTORY.objectNode();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                objectNode.set(entry.getKey(), toJsonNode(entry.getValue()));
+            }
+            return objectNode;
+        }
+        if (element.isJsonArray()) {
+            ArrayNode arrayNode = NODE_FACTORY.arrayNode();
+            for (JsonElement item : element.getAsJsonArray()) {
+                arrayNode.add(toJsonNode(item));
+            }
+            return arrayNode;
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return NODE_FACTORY.booleanNode(primitive.getAsBoolean());
+        }
+        if (primitive.isNumber()) {
+            // Gson prints numbers with toString(), parse that text the way Jackson does
+            return toNumberNode(primitive.getAsNumber().toString());
+        }
+        return NODE_FACTORY.textNode(primitive.getAsString());
+    }
+
+    public static JsonElement toJsonElement(JsonNode node) {
+        if (null == node || node.isNull() || node.isMissingNode()) {
+            return JsonNull.INSTANCE;
+        }
+        if (node.isObject()) {
+            JsonObject jsonObject = new JsonObject();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                jsonObject.add(field.getKey(), toJsonElement(field.getValue()));
+            }
+            return jsonObject;
+        }
+        if (node.isArray()) {
+            JsonArray jsonArray = new JsonArray(node.size());
+            for (JsonNode item : node) {
+                jsonArray.add(toJsonElement(item));
+            }
+            return jsonArray;
+        }
+        if (node.isBoolean()) {
+            return new JsonPrimitive(node.booleanValue());
+        }
+        if (node.isNumber()) {
+            return new JsonPrimitive(node.numberValue());
+        }
+        return new JsonPrimitive(node.asText());
+    }
+
+    private static JsonNode toNumberNode(String text) {
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+            return DoubleNode.valueOf(Double.parseDouble(text));
+        }
+        try {
+            long value = Long.parseLong(text);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return IntNode.valueOf((int) value);
+            }
+            return LongNode.valueOf(value);
+        } catch (NumberFormatException e) {
+            return BigIntegerNode.valueOf(new BigInteger(text));
+        }
+    }
+}
@@ -44,6 +44,8 @@ import com.autotune.database.table.lm.KruizeLMRecommendationEntry;
 import com.autotune.operator.KruizeDeploymentInfo;
 import com.autotune.operator.KruizeOperator;
 import com.autotune.utils.KruizeConstants;
+import com.autotune.utils.cache.ExperimentCache;
+import com.autotune.utils.cache.ExperimentResultsWindow;
 import com.autotune.utils.cache.PerformanceProfileCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +53,7 @@ import org.slf4j.LoggerFactory;
 import javax.servlet.http.HttpServletResponse;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.autotune.operator.KruizeDeploymentInfo.is_ros_enabled;
 
@@ -64,54 +67,95 @@ public class ExperimentDBService {
     }
 
     public void loadAllExperiments(Map<String, KruizeObject> mainKruizeExperimentMap) throws Exception {
-        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         List<KruizeExperimentEntry> entries = experimentDAO.loadAllExperiments();
         if (null != entries && !entries.isEmpty()) {
-            List<CreateExperimentAPIObject> createExperimentAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertExperimentEntryToCreateExperimentAPIObject(entries);
-            if (null != createExperimentAPIObjects && !createExperimentAPIObjects.isEmpty()) {
-                List<KruizeObject> kruizeExpList = new ArrayList<>();
-
-                int failureThreshHold = createExperimentAPIObjects.size();
-                int failureCount = 0;
-                for (CreateExperimentAPIObject createExperimentAPIObject : createExperimentAPIObjects) {
-                    KruizeObject kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(createExperimentAPIObject);
-                    if (null != kruizeObject) {
-                        kruizeExpList.add(kruizeObject);
-                    } else {
-                        failureCount++;
-                    }
-                }
-                if (failureThreshHold > 0 && failureCount == failureThreshHold) {
-                    throw new Exception("None of the experiments are able to load from DB.");
-                }
-                experimentInterface.addExperimentToLocalStorage(mainKruizeExperimentMap, kruizeExpList);
-            }
+            addExperimentsToLocalStorage(mainKruizeExperimentMap,
+                    DBHelpers.Converters.KruizeObjectConverters.convertExperimentEntryToCreateExperimentAPIObject(entries));
         }
     }
 
     public void loadAllLMExperiments(Map<String, KruizeObject> mainKruizeExperimentMap) throws Exception {
-        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         List<KruizeLMExperimentEntry> entries = experimentDAO.loadAllLMExperiments();
         if (null != entries && !entries.isEmpty()) {
-            List<CreateExperimentAPIObject> createExperimentAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertLMExperimentEntryToCreateExperimentAPIObject(entries);
-            if (null != createExperimentAPIObjects && !createExperimentAPIObjects.isEmpty()) {
-                List<KruizeObject> kruizeExpList = new ArrayList<>();
+            addExperimentsToLocalStorage(mainKruizeExperimentMap,
+                    DBHelpers.Converters.KruizeObjectConverters.convertLMExperimentEntryToCreateExperimentAPIObject(entries));
+        }
+    }
 
-                int failureThreshHold = createExperimentAPIObjects.size();
-                int failureCount = 0;
-                for (CreateExperimentAPIObject createExperimentAPIObject : createExperimentAPIObjects) {
-                    KruizeObject kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(createExperimentAPIObject);
-                    if (null != kruizeObject) {
-                        kruizeExpList.add(kruizeObject);
-                    } else {
-                        failureCount++;
-                    }
-                }
-                if (failureThreshHold > 0 && failureCount == failureThreshHold) {
-                    throw new Exception("None of the experiments are able to load from DB.");
+    /**
+     * Loads a page of experiments ordered by name
+     *
+     * @param mainKruizeExperimentMap map to add the experiments to
+     * @param afterExperimentName     name of the last experiment of the previous page, null for the first page
+     * @param limit                   maximum number of experiments of the page
+     * @return names of the experiments of the page in order, fewer than limit on the last page
+     */
+    public List<String> loadExperimentsPage(Map<String, KruizeObject> mainKruizeExperimentMap, String afterExperimentName, int limit) throws Exception {
+        List<KruizeExperimentEntry> entries = experimentDAO.loadExperimentsPage(afterExperimentName, limit);
+        List<String> experimentNames = new ArrayList<>();
+        if (null != entries && !entries.isEmpty()) {
+            entries.forEach(entry -> experimentNames.add(entry.getExperiment_name()));
+            addExperimentsToLocalStorage(mainKruizeExperimentMap,
+                    DBHelpers.Converters.KruizeObjectConverters.convertExperimentEntryToCreateExperimentAPIObject(entries));
+        }
+        return experimentNames;
+    }
+
+    /**
+     * Loads a page of LM experiments ordered by name
+     *
+     * @param mainKruizeExperimentMap map to add the experiments to
+     * @param afterExperimentName     name of the last experiment of the previous page, null for the first page
+     * @param limit                   maximum number of experiments of the page
+     * @return names of the experiments of the page in order, fewer than limit on the last page
+     */
+    public List<String> loadLMExperimentsPage(Map<String, KruizeObject> mainKruizeExperimentMap, String afterExperimentName, int limit) throws Exception {
+        List<KruizeLMExperimentEntry> entries = experimentDAO.loadLMExperimentsPage(afterExperimentName, limit);
+        List<String> experimentNames = new ArrayList<>();
+        if (null != entries && !entries.isEmpty()) {
+            entries.forEach(entry -> experimentNames.add(entry.getExperiment_name()));
+            addExperimentsToLocalStorage(mainKruizeExperimentMap,
+                    DBHelpers.Converters.KruizeObjectConverters.convertLMExperimentEntryToCreateExperimentAPIObject(entries));
+        }
+        return experimentNames;
+    }
+
+    /**
+     * Loads the LM experiments with the given names
+     *
+     * @param mainKruizeExperimentMap map to add the experiments to
+     * @param experimentNames         names of the experiments, the missing ones are skipped
+     */
+    public void loadLMExperimentsByNames(Map<String, KruizeObject> mainKruizeExperimentMap, List<String> experimentNames) throws Exception {
+        if (null == experimentNames || experimentNames.isEmpty()) {
+            return;
+        }
+        List<KruizeLMExperimentEntry> entries = experimentDAO.loadLMExperimentsByNames(experimentNames);
+        if (null != entries && !entries.isEmpty()) {
+            addExperimentsToLocalStorage(mainKruizeExperimentMap,
+                    DBHelpers.Converters.KruizeObjectConverters.convertLMExperimentEntryToCreateExperimentAPIObject(entries));
+        }
+    }
+
+    private void addExperimentsToLocalStorage(Map<String, KruizeObject> mainKruizeExperimentMap, List<CreateExperimentAPIObject> createExperimentAPIObjects) throws Exception {
+        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
+        if (null != createExperimentAPIObjects && !createExperimentAPIObjects.isEmpty()) {
+            List<KruizeObject> kruizeExpList = new ArrayList<>();
+
+            int failureThreshHold = createExperimentAPIObjects.size();
+            int failureCount = 0;
+            for (CreateExperimentAPIObject createExperimentAPIObject : createExperimentAPIObjects) {
+                KruizeObject kruizeObject = Converters.KruizeObjectConverters.convertCreateExperimentAPIObjToKruizeObject(createExperimentAPIObject);
+                if (null != kruizeObject) {
+                    kruizeExpList.add(kruizeObject);
+                } else {
+                    failureCount++;
                 }
-                experimentInterface.addExperimentToLocalStorage(mainKruizeExperimentMap, kruizeExpList);
             }
+            if (failureThreshHold > 0 && failureCount == failureThreshHold) {
+                throw new Exception("None of the experiments are able to load from DB.");
+            }
+            experimentInterface.addExperimentToLocalStorage(mainKruizeExperimentMap, kruizeExpList);
         }
     }
 
@@ -183,6 +227,95 @@ public class ExperimentDBService {
         }
     }
 
+    /**
+     * Loads the results of the experiments, the experiments must be in the map
+     *
+     * @param mainKruizeExperimentMap map holding the experiments of the results
+     * @param experimentNames         names of the experiments
+     * @param latest                  true to load only the latest result of every experiment
+     */
+    public void loadResultsByExperimentNames(Map<String, KruizeObject> mainKruizeExperimentMap, List<String> experimentNames, boolean latest) throws Exception {
+        if (null == experimentNames || experimentNames.isEmpty()) {
+            return;
+        }
+        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
+        List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentNames(experimentNames, latest);
+        if (null == kruizeResultsEntries || kruizeResultsEntries.isEmpty()) {
+            return;
+        }
+        Map<String, List<KruizeResultsEntry>> entriesByExperiment = kruizeResultsEntries.stream()
+                .collect(Collectors.groupingBy(KruizeResultsEntry::getExperiment_name));
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        for (Map.Entry<String, List<KruizeResultsEntry>> entry : entriesByExperiment.entrySet()) {
+            KruizeObject kruizeObject = mainKruizeExperimentMap.get(entry.getKey());
+            if (null != kruizeObject) {
+                resultDataList.addAll(convertResultEntriesToExperimentResultData(kruizeObject, entry.getValue()));
+            }
+        }
+        if (!resultDataList.isEmpty()) {
+            experimentInterface.addResultsToLocalStorage(mainKruizeExperimentMap, resultDataList);
+        }
+    }
+
+    /**
+     * Loads the recommendations of the experiments, the experiments must be in the map
+     *
+     * @param mainKruizeExperimentMap map holding the experiments of the recommendations
+     * @param experimentNames         names of the experiments
+     * @param latest                  true to load only the latest recommendation of every experiment
+     */
+    public void loadRecommendationsByExperimentNames(Map<String, KruizeObject> mainKruizeExperimentMap, List<String> experimentNames, boolean latest) throws Exception {
+        if (null == experimentNames || experimentNames.isEmpty()) {
+            return;
+        }
+        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
+        List<KruizeRecommendationEntry> recommendationEntries = experimentDAO.loadRecommendationsByExperimentNames(experimentNames, latest);
+        if (null != recommendationEntries && !recommendationEntries.isEmpty()) {
+            List<ListRecommendationsAPIObject> recommendationsAPIObjects = null;
+            try {
+                recommendationsAPIObjects = DBHelpers.Converters.KruizeObjectConverters
+                        .convertRecommendationEntryToRecommendationAPIObject(recommendationEntries);
+            } catch (InvalidConversionOfRecommendationEntryException e) {
+                e.printStackTrace();
+            }
+            if (null != recommendationsAPIObjects && !recommendationsAPIObjects.isEmpty()) {
+                experimentInterface.addRecommendationsToLocalStorage(mainKruizeExperimentMap,
+                        recommendationsAPIObjects,
+                        true);
+            }
+        }
+    }
+
+    /**
+     * Loads the LM recommendations of the experiments, the experiments must be in the map
+     *
+     * @param mainKruizeExperimentMap map holding the experiments of the recommendations
+     * @param experimentNames         names of the experiments
+     * @param bulkJobId               bulk job which generated the recommendations, null for any job
+     * @param latest                  true to load only the latest recommendation of every experiment
+     */
+    public void loadLMRecommendationsByExperimentNames(Map<String, KruizeObject> mainKruizeExperimentMap, List<String> experimentNames, String bulkJobId, boolean latest) throws Exception {
+        if (null == experimentNames || experimentNames.isEmpty()) {
+            return;
+        }
+        ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
+        List<KruizeLMRecommendationEntry> recommendationEntries = experimentDAO.loadLMRecommendationsByExperimentNames(experimentNames, bulkJobId, latest);
+        if (null != recommendationEntries && !recommendationEntries.isEmpty()) {
+            List<ListRecommendationsAPIObject> recommendationsAPIObjects = null;
+            try {
+                recommendationsAPIObjects = DBHelpers.Converters.KruizeObjectConverters
+                        .convertLMRecommendationEntryToRecommendationAPIObject(recommendationEntries);
+            } catch (InvalidConversionOfRecommendationEntryException e) {
+                e.printStackTrace();
+            }
+            if (null != recommendationsAPIObjects && !recommendationsAPIObjects.isEmpty()) {
+                experimentInterface.addRecommendationsToLocalStorage(mainKruizeExperimentMap,
+                        recommendationsAPIObjects,
+                        true);
+            }
+        }
+    }
+
     public void loadAllPerformanceProfiles(Map<String, PerformanceProfile> performanceProfileMap) throws Exception {
         List<KruizePerformanceProfileEntry> entries = experimentDAO.loadAllPerformanceProfiles();
         if (null != entries && !entries.isEmpty()) {
@@ -226,34 +359,83 @@ public class ExperimentDBService {
     public boolean loadResultsFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, String experimentName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         KruizeObject kruizeObject = mainKruizeExperimentMap.get(experimentName);
+        if (null != calculated_start_time && null != interval_end_time && ExperimentCache.results().isEnabled()) {
+            List<ExperimentResultData> resultDataList = loadResultsWindow(kruizeObject, experimentName, calculated_start_time, interval_end_time);
+            if (!resultDataList.isEmpty()) {
+                experimentInterface.addResultsToLocalStorage(mainKruizeExperimentMap, resultDataList);
+            }
+            return !resultDataList.isEmpty();
+        }
         boolean resultsAvailable = false;
         // Load results from the DB and save to local
         List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentName(experimentName, kruizeObject.getClusterName(), calculated_start_time, interval_end_time);
         if (null != kruizeResultsEntries && !kruizeResultsEntries.isEmpty()) {
             resultsAvailable = true;
-            List<UpdateResultsAPIObject> updateResultsAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertResultEntryToUpdateResultsAPIObject(kruizeResultsEntries);
-            if (null != updateResultsAPIObjects && !updateResultsAPIObjects.isEmpty()) {
-                List<ExperimentResultData> resultDataList = new ArrayList<>();
-                for (UpdateResultsAPIObject updateResultsAPIObject : updateResultsAPIObjects) {
-                    updateResultsAPIObject.setKruizeObject(kruizeObject);
-                    try {
-                        ExperimentResultData experimentResultData = Converters.KruizeObjectConverters.convertUpdateResultsAPIObjToExperimentResultData(updateResultsAPIObject);
-                        if (experimentResultData != null)
-                            resultDataList.add(experimentResultData);
-                        else
-                            LOGGER.warn("Converted experimentResultData is null");
-                    } catch (IllegalArgumentException e) {
-                        LOGGER.error("Failed to convert DB data to local: {}", e.getMessage());
-                    } catch (Exception e) {
-                        LOGGER.error("Unexpected error: {}", e.getMessage());
-                    }
-                }
+            List<ExperimentResultData> resultDataList = convertResultEntriesToExperimentResultData(kruizeObject, kruizeResultsEntries);
+            if (!resultDataList.isEmpty()) {
                 experimentInterface.addResultsToLocalStorage(mainKruizeExperimentMap, resultDataList);
             }
         }
         return resultsAvailable;
     }
 
+    /**
+     * Loads the results of the range from the results window of the experiment. Only the results added after the
+     * last result of the window are read from the DB, the whole range is read when the window does not cover it.
+     *
+     * @param kruizeObject          experiment of the results
+     * @param experimentName        name of the experiment
+     * @param calculated_start_time start of the range
+     * @param interval_end_time     end of the range
+     * @return results of the range, empty if there are none
+     */
+    private List<ExperimentResultData> loadResultsWindow(KruizeObject kruizeObject, String experimentName, Timestamp calculated_start_time, Timestamp interval_end_time) throws Exception {
+        ExperimentCache<ExperimentResultsWindow> resultsCache = ExperimentCache.results();
+        ExperimentResultsWindow resultsWindow = resultsCache.get(experimentName);
+        if (null != resultsWindow) {
+            List<ExperimentResultData> resultDataList = resultsWindow.getIfCovered(calculated_start_time, interval_end_time, (startTime, endTime) -> {
+                List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentName(experimentName, kruizeObject.getClusterName(), startTime, endTime);
+                return (null == kruizeResultsEntries || kruizeResultsEntries.isEmpty()) ? null :
+                        convertResultEntriesToExperimentResultData(kruizeObject, kruizeResultsEntries);
+            });
+            if (null != resultDataList) {
+                return resultDataList;
+            }
+        }
+        long removalCount = resultsCache.getRemovalCount();
+        List<KruizeResultsEntry> kruizeResultsEntries = experimentDAO.loadResultsByExperimentName(experimentName, kruizeObject.getClusterName(), calculated_start_time, interval_end_time);
+        if (null == kruizeResultsEntries || kruizeResultsEntries.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<ExperimentResultData> resultDataList = convertResultEntriesToExperimentResultData(kruizeObject, kruizeResultsEntries);
+        if (!resultDataList.isEmpty()) {
+            resultsCache.putLoaded(experimentName, new ExperimentResultsWindow(calculated_start_time, resultDataList), removalCount);
+        }
+        return resultDataList;
+    }
+
+    private List<ExperimentResultData> convertResultEntriesToExperimentResultData(KruizeObject kruizeObject, List<KruizeResultsEntry> kruizeResultsEntries) {
+        List<ExperimentResultData> resultDataList = new ArrayList<>();
+        List<UpdateResultsAPIObject> updateResultsAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertResultEntryToUpdateResultsAPIObject(kruizeResultsEntries);
+        if (null != updateResultsAPIObjects && !updateResultsAPIObjects.isEmpty()) {
+            for (UpdateResultsAPIObject updateResultsAPIObject : updateResultsAPIObjects) {
+                updateResultsAPIObject.setKruizeObject(kruizeObject);
+                try {
+                    ExperimentResultData experimentResultData = Converters.KruizeObjectConverters.convertUpdateResultsAPIObjToExperimentResultData(updateResultsAPIObject);
+                    if (experimentResultData != null)
+                        resultDataList.add(experimentResultData);
+                    else
+                        LOGGER.warn("Converted experimentResultData is null");
+                } catch (IllegalArgumentException e) {
+                    LOGGER.error("Failed to convert DB data to local: {}", e.getMessage());
+                } catch (Exception e) {
+                    LOGGER.error("Unexpected error: {}", e.getMessage());
+                }
+            }
+        }
+        return resultDataList;
+    }
+
     public void loadRecommendationsFromDBByName(Map<String, KruizeObject> mainKruizeExperimentMap, String experimentName) throws Exception {
         ExperimentInterface experimentInterface = new ExperimentInterfaceImpl();
         // Load Recommendations from DB and save to local
@@ -325,6 +507,11 @@ public class ExperimentDBService {
             }
         }
         failedResultsEntries.addAll(experimentDAO.addToDBAndFetchFailedResults(kruizeResultsEntryList));
+        // results ending before the last one of a results window are not picked up by its incremental load
+        for (ExperimentResultData resultData : resultDataList) {
+            ExperimentCache.results().removeIf(resultData.getExperiment_name(),
+                    resultsWindow -> !resultsWindow.endsBefore(resultData.getIntervalEndTime()));
+        }
         failedUpdateResultsAPIObjects = DBHelpers.Converters.KruizeObjectConverters.convertResultEntryToUpdateResultsAPIObject(failedResultsEntries);
         return failedUpdateResultsAPIObjects;
     }
@@ -804,7 +991,8 @@ public class ExperimentDBService {
     }
 
     /**
-     * adds metadata to database table
+     * saves metadata to database table, the saved metadata of each datasource of dataSourceMetadataInfo is replaced
+     * and only the added, changed or removed entries are written
      *
      * @param dataSourceMetadataInfo DataSourceMetadataInfo object
      * @return
@@ -813,8 +1001,18 @@ public class ExperimentDBService {
         ValidationOutputData validationOutputData = new ValidationOutputData(false, null, null);
         try {
             List<KruizeDSMetadataEntry> kruizeMetadataList = DBHelpers.Converters.KruizeObjectConverters.convertDataSourceMetadataToMetadataObj(dataSourceMetadataInfo);
+            // a datasource without entries has its saved metadata removed
+            Map<String, List<KruizeDSMetadataEntry>> kruizeMetadataByDataSource = new LinkedHashMap<>();
+            dataSourceMetadataInfo.getDatasources().values().forEach(dataSource -> kruizeMetadataByDataSource.put(dataSource.getDataSourceName(), new ArrayList<>()));
             for (KruizeDSMetadataEntry kruizeMetadata : kruizeMetadataList) {
-                validationOutputData = this.experimentDAO.addMetadataToDB(kruizeMetadata);
+                kruizeMetadataByDataSource.computeIfAbsent(kruizeMetadata.getDataSourceName(), name -> new ArrayList<>()).add(kruizeMetadata);
+            }
+            validationOutputData.setSuccess(true);
+            for (Map.Entry<String, List<KruizeDSMetadataEntry>> entry : kruizeMetadataByDataSource.entrySet()) {
+                ValidationOutputData syncedToDB = this.experimentDAO.syncMetadataToDB(entry.getKey(), entry.getValue());
+                if (!syncedToDB.isSuccess()) {
+                    validationOutputData = syncedToDB;
+                }
             }
         } catch (Exception e) {
             LOGGER.error("Not able to save metadata due to {}", e.getMessage());
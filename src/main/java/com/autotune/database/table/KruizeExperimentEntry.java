@@ -209,4 +209,8 @@ public class KruizeExperimentEntry {
         return update_date;
     }
 
+    public void setUpdate_date(Timestamp update_date) {
+        this.update_date = update_date;
+    }
+
 }
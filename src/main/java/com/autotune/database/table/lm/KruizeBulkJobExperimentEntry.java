@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+package com.autotune.database.table.lm;
+
+import com.autotune.analyzer.serviceObjects.BulkJobStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.sql.Timestamp;
+
+/**
+ * DB entity to store the state of one experiment of a Kruize bulk job, so that every experiment
+ * is written as its own row instead of rewriting the experiments of the whole job in kruize_bulkjobs.
+ * <p>
+ * The recommendations of the experiment are not stored here, they are kept in kruize_lm_recommendations
+ * and looked up by job_id and experiment_name.
+ */
+@Entity
+@Table(name = "kruize_bulkjob_experiments")
+public class KruizeBulkJobExperimentEntry {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    @Id
+    @Column(name = "job_id", columnDefinition = "VARCHAR(36)")
+    private String jobId;
+    @Id
+    @Column(name = "experiment_name")
+    private String experimentName;
+    private String status;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private JsonNode notifications;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private JsonNode experiment; // experiment details as filtered by job_filter_to_db
+    @Column(name = "update_date")
+    private Timestamp updateDate;
+
+    public KruizeBulkJobExperimentEntry(String jobId, String experimentName, String status, String notifications, String experiment, Timestamp updateDate) {
+        this.jobId = jobId;
+        this.experimentName = experimentName;
+        this.status = status;
+        this.updateDate = updateDate;
+        try {
+            this.notifications = OBJECT_MAPPER.readTree(notifications);
+            this.experiment = OBJECT_MAPPER.readTree(experiment);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public KruizeBulkJobExperimentEntry() {
+
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getExperimentName() {
+        return experimentName;
+    }
+
+    public void setExperimentName(String experimentName) {
+        this.experimentName = experimentName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public JsonNode getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(JsonNode notifications) {
+        this.notifications = notifications;
+    }
+
+    public JsonNode getExperiment() {
+        return experiment;
+    }
+
+    public void setExperiment(JsonNode experiment) {
+        this.experiment = experiment;
+    }
+
+    public Timestamp getUpdateDate() {
+        return updateDate;
+    }
+
+    public void setUpdateDate(Timestamp updateDate) {
+        this.updateDate = updateDate;
+    }
+
+    /**
+     * Rebuilds the experiment of the bulk job status from the stored details
+     */
+    public BulkJobStatus.Experiment getBulkJobExperiment() {
+        if (experiment == null || experiment.isNull()) {
+            return new BulkJobStatus.Experiment(experimentName);
+        }
+        try {
+            BulkJobStatus.Experiment bulkJobExperiment = OBJECT_MAPPER.treeToValue(experiment, BulkJobStatus.Experiment.class);
+            bulkJobExperiment.setName(experimentName);
+            return bulkJobExperiment;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to convert JsonNode to BulkJobStatus.Experiment", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BulkJobExperiment{" +
+                "jobId=" + jobId +
+                ", experimentName='" + experimentName + '\'' +
+                ", status='" + status + '\'' +
+                ", notifications='" + notifications + '\'' +
+                ", experiment='" + experiment + '\'' +
+                ", updateDate=" + updateDate +
+                '}';
+    }
+}
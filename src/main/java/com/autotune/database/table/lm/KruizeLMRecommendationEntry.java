@@ -1,6 +1,7 @@
 package com.autotune.database.table.lm;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
@@ -19,6 +20,10 @@ import java.sql.Timestamp;
         @Index(
                 name = "idx_recommendation_interval_end_time",
                 columnList = "interval_end_time",
+                unique = false),
+        @Index(
+                name = "idx_lm_recommendation_job_id",
+                columnList = "job_id",
                 unique = false)
 })
 public class KruizeLMRecommendationEntry {
@@ -31,6 +36,8 @@ public class KruizeLMRecommendationEntry {
     @JdbcTypeCode(SqlTypes.JSON)
     private JsonNode extended_data;
     private String experiment_type;
+    @Column(columnDefinition = "VARCHAR(36)")
+    private String job_id; // bulk job which generated the recommendation, also kept in extended_data
 
     public String getExperiment_name() {
         return experiment_name;
@@ -79,4 +86,12 @@ public class KruizeLMRecommendationEntry {
     public void setExperimentType(String experimentType) {
         this.experiment_type = experimentType;
     }
+
+    public String getJob_id() {
+        return job_id;
+    }
+
+    public void setJob_id(String job_id) {
+        this.job_id = job_id;
+    }
 }
@@ -72,16 +72,36 @@ public class KruizeDeploymentInfo {
     public static String cloudwatch_logs_region;
     public static String cloudwatch_logs_log_level;
     public static String cloudwatch_logs_log_stream;
+    // log events buffered for CloudWatch, events logged while the buffer is full are dropped
+    public static Integer cloudwatch_logs_buffer_size = 10000;
+    // the buffered events are sent at least this often
+    public static Integer cloudwatch_logs_flush_interval_ms = 1000;
 
     public static Boolean settings_save_to_db;
     public static String em_only_mode;
     public static Integer bulk_update_results_limit = 100;
+    // number of results written per multi-row insert by updateResults, 1 or less writes them one by one
+    public static Integer update_results_db_batch_size = 100;
+    // number of metadata entries written per multi-row upsert or delete
+    public static Integer metadata_db_batch_size = 1000;
+    // number of experiments kept in memory per experiments table by the DAO, 0 disables the cache
+    public static Integer experiment_cache_size = 1000;
+    // number of remote monitoring experiments whose results window is kept in memory, 0 disables the cache
+    public static Integer results_cache_size = 100;
+    // number of experiments loaded and written at a time by listExperiments and listRecommendations, also the maximum limit
+    public static Integer list_api_page_size = 500;
     public static Boolean local = false;
     public static Boolean log_http_req_resp = false;
     public static String recommendations_url;
     public static String experiments_url;
     public static Integer bulk_api_limit = 1000;
     public static Integer bulk_thread_pool_size = 3;
+    public static Integer bulk_job_pool_size = 10;
+    public static Integer kafka_consumer_poll_timeout_ms = 1000;
+    // number of auto and recreate mode experiments updated at the same time
+    public static Integer autoscaler_worker_pool_size = 4;
+    // create experiments and generate recommendations of bulk jobs in-process instead of over experiments_url and recommendations_url
+    public static Boolean bulk_in_process_api = true;
     public static int generate_recommendations_date_range_limit_in_days = 15;
     public static Integer delete_partition_threshold_in_days = DELETE_PARTITION_THRESHOLD_IN_DAYS;
     public static String experiment_name_format = "%datasource%|%clustername%|%namespace%|%workloadname%(%workloadtype%)|%containername%";
@@ -100,7 +120,21 @@ public class KruizeDeploymentInfo {
     public static String kafka_topics = System.getenv("KAFKA_TOPICS");
     public static String kafka_response_filter_include = System.getenv("KAFKA_RESPONSE_FILTER_INCLUDE");
     public static String kafka_response_filter_exclude = System.getenv("KAFKA_RESPONSE_FILTER_EXCLUDE");
-    public static Integer kafka_thread_pool_size = 3;
+    // Kafka producer batching, messages are sent asynchronously and batched per partition
+    public static Integer kafka_producer_batch_size = 65536;
+    public static Integer kafka_producer_linger_ms = 20;
+    public static String kafka_producer_compression_type = "lz4";
+    public static Integer kafka_producer_delivery_timeout_ms = 120000;
+    // Pooled HTTP client settings shared by all queries against a datasource
+    public static Integer datasource_http_max_connections = 100;
+    public static Integer datasource_http_max_connections_per_route = 20;
+    public static Integer datasource_http_connect_timeout_ms = 30000;
+    public static Integer datasource_http_socket_timeout_ms = 300000;
+    public static Integer datasource_http_connection_request_timeout_ms = 60000;
+    public static Integer datasource_http_keep_alive_seconds = 60;
+    public static Integer datasource_http_idle_eviction_seconds = 30;
+    // Maximum number of metric queries run concurrently against a single datasource
+    public static Integer datasource_max_concurrent_queries = 10;
 
 
     private KruizeDeploymentInfo() {
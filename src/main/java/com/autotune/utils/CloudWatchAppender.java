@@ -19,57 +19,212 @@ import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import static com.autotune.operator.KruizeDeploymentInfo.*;
 
+/**
+ * Sends the log events to a CloudWatch log stream.
+ * <p>
+ * Logging threads only add the event to a bounded buffer, a background thread sends the buffered events in batches
+ * of at most 10,000 events and 1 MB, once a batch is full or flushIntervalMs after its first event. When the buffer
+ * is full, because CloudWatch is slow or unreachable, new events are dropped instead of blocking the logging threads.
+ * The delivered and dropped events are counted.
+ */
 public class CloudWatchAppender extends AbstractAppender {
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudWatchAppender.class);
+    // PutLogEvents limits, the size of an event is its UTF-8 message plus 26 bytes
+    private static final int MAX_BATCH_EVENTS = 10000;
+    private static final long MAX_BATCH_BYTES = 1048576;
+    private static final int MAX_EVENT_BYTES = 262144;
+    private static final int EVENT_OVERHEAD_BYTES = 26;
+    private static final long MAX_BATCH_SPAN_MILLIS = TimeUnit.HOURS.toMillis(24);
+    private static final long SEND_TIMEOUT_SECONDS = 30;
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
     private final String logGroupName;
     private final String logStreamName;
     private final CloudWatchLogsAsyncClient cloudWatchLogsClient;
-    private String sequenceToken = null;
+    private final BlockingQueue<InputLogEvent> buffer;
+    private final long flushIntervalMillis;
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final Thread flusher;
+    private volatile boolean running = true;
 
     public CloudWatchAppender(String name, Filter filter, Layout<?> layout, String logGroupName, String logStreamName, String region, String awsAccessKeyId, String awsSecretKey) {
+        this(name, filter, layout, logGroupName, logStreamName,
+                CloudWatchLogsAsyncClient.builder()
+                        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(awsAccessKeyId, awsSecretKey)))
+                        .region(Region.of(region))
+                        .build(),
+                cloudwatch_logs_buffer_size, cloudwatch_logs_flush_interval_ms);
+    }
+
+    CloudWatchAppender(String name, Filter filter, Layout<?> layout, String logGroupName, String logStreamName,
+                       CloudWatchLogsAsyncClient cloudWatchLogsClient, int bufferSize, long flushIntervalMillis) {
         super(name, filter, layout, false, null);
         this.logGroupName = logGroupName;
         this.logStreamName = logStreamName;
-        this.cloudWatchLogsClient = CloudWatchLogsAsyncClient.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(awsAccessKeyId, awsSecretKey)))
-                .region(Region.of(region))
-                .build();
+        this.cloudWatchLogsClient = cloudWatchLogsClient;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+        this.flusher = new Thread(this::flushEvents, "kruize-cloudwatch-logs");
+        this.flusher.setDaemon(true);
     }
 
     @Override
     public void start() {
         super.start();
+        flusher.start();
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        boolean stopped = super.stop(timeout, timeUnit, false);
+        // the flusher sends the buffered events before it exits
+        running = false;
+        try {
+            flusher.join((timeout > 0) ? timeUnit.toMillis(timeout) : STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cloudWatchLogsClient.close();
+        setStopped();
+        return stopped;
     }
 
     @Override
     public void append(LogEvent event) {
-        String message = getLayout().toSerializable(event).toString();
-        List<InputLogEvent> logEvents = new ArrayList<>();
-        logEvents.add(InputLogEvent.builder()
+        InputLogEvent logEvent = InputLogEvent.builder()
                 .timestamp(event.getTimeMillis())
-                .message(message)
-                .build());
+                .message(getLayout().toSerializable(event).toString())
+                .build();
+        if (!buffer.offer(logEvent)) {
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    public long getDeliveredEvents() {
+        return deliveredEvents.get();
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
 
+    private void flushEvents() {
+        // event taken from the buffer which did not fit into the previous batch
+        InputLogEvent carried = null;
+        while (running || null != carried || !buffer.isEmpty()) {
+            List<InputLogEvent> batch = new ArrayList<>();
+            long batchBytes = 0;
+            long minTimestamp = Long.MAX_VALUE;
+            long maxTimestamp = Long.MIN_VALUE;
+            long deadline = 0;
+            try {
+                while (batch.size() < MAX_BATCH_EVENTS) {
+                    InputLogEvent logEvent = carried;
+                    carried = null;
+                    if (null == logEvent) {
+                        // an empty batch waits one interval at a time, to notice the appender being stopped
+                        long waitNanos = batch.isEmpty() ? TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis) : deadline - System.nanoTime();
+                        logEvent = running ? buffer.poll(waitNanos, TimeUnit.NANOSECONDS) : buffer.poll();
+                        if (null == logEvent) {
+                            break;
+                        }
+                        logEvent = truncate(logEvent);
+                    }
+                    long eventBytes = getEventBytes(logEvent);
+                    long timestamp = logEvent.timestamp();
+                    if (!batch.isEmpty() && (batchBytes + eventBytes > MAX_BATCH_BYTES
+                            || Math.max(maxTimestamp, timestamp) - Math.min(minTimestamp, timestamp) > MAX_BATCH_SPAN_MILLIS)) {
+                        carried = logEvent;
+                        break;
+                    }
+                    if (batch.isEmpty()) {
+                        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                    }
+                    batch.add(logEvent);
+                    batchBytes += eventBytes;
+                    minTimestamp = Math.min(minTimestamp, timestamp);
+                    maxTimestamp = Math.max(maxTimestamp, timestamp);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                sendBatch(batch);
+            }
+        }
+    }
+
+    private void sendBatch(List<InputLogEvent> batch) {
+        // the events of a request must be in chronological order
+        batch.sort(Comparator.comparing(InputLogEvent::timestamp));
         PutLogEventsRequest request = PutLogEventsRequest.builder()
                 .logGroupName(logGroupName)
                 .logStreamName(logStreamName)
-                .logEvents(logEvents)
-                .sequenceToken(sequenceToken)
+                .logEvents(batch)
                 .build();
+        try {
+            PutLogEventsResponse response = cloudWatchLogsClient.putLogEvents(request).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            int rejected = getRejectedEvents(response, batch.size());
+            deliveredEvents.addAndGet(batch.size() - rejected);
+            droppedEvents.addAndGet(rejected);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            droppedEvents.addAndGet(batch.size());
+        } catch (Exception e) {
+            droppedEvents.addAndGet(batch.size());
+            // not logged through log4j, the event would be sent to CloudWatch again
+            error(String.format(KruizeConstants.CloudWatchConstants.PUT_LOG_EVENTS_FAILED, batch.size(), e.getMessage()));
+        }
+    }
 
-        CompletableFuture<PutLogEventsResponse> futureResponse = cloudWatchLogsClient.putLogEvents(request);
-        futureResponse.whenComplete((response, error) -> {
-            if (error != null) {
-                error.printStackTrace();
-            } else {
-                sequenceToken = response.nextSequenceToken();
-            }
-        });
+    private static int getRejectedEvents(PutLogEventsResponse response, int batchSize) {
+        RejectedLogEventsInfo rejectedInfo = (null != response) ? response.rejectedLogEventsInfo() : null;
+        if (null == rejectedInfo) {
+            return 0;
+        }
+        // the indexes are inclusive end indexes of the old events and the start index of the new events
+        int rejected = 0;
+        int oldEndIndex = Math.max(
+                (null != rejectedInfo.tooOldLogEventEndIndex()) ? rejectedInfo.tooOldLogEventEndIndex() : -1,
+                (null != rejectedInfo.expiredLogEventEndIndex()) ? rejectedInfo.expiredLogEventEndIndex() : -1);
+        rejected += oldEndIndex + 1;
+        if (null != rejectedInfo.tooNewLogEventStartIndex()) {
+            rejected += batchSize - Math.max(rejectedInfo.tooNewLogEventStartIndex(), oldEndIndex + 1);
+        }
+        return Math.min(rejected, batchSize);
+    }
+
+    private static long getEventBytes(InputLogEvent logEvent) {
+        return (long) logEvent.message().getBytes(StandardCharsets.UTF_8).length + EVENT_OVERHEAD_BYTES;
+    }
+
+    private static InputLogEvent truncate(InputLogEvent logEvent) {
+        byte[] message = logEvent.message().getBytes(StandardCharsets.UTF_8);
+        int maxMessageBytes = MAX_EVENT_BYTES - EVENT_OVERHEAD_BYTES;
+        if (message.length <= maxMessageBytes) {
+            return logEvent;
+        }
+        // a split multi-byte character at the end is replaced by the decoder
+        String truncated = new String(message, 0, maxMessageBytes, StandardCharsets.UTF_8);
+        while (truncated.getBytes(StandardCharsets.UTF_8).length > maxMessageBytes) {
+            truncated = truncated.substring(0, truncated.length() - 1);
+        }
+        return InputLogEvent.builder()
+                .timestamp(logEvent.timestamp())
+                .message(truncated)
+                .build();
     }
 
     public static void configureLoggerForCloudWatchLog() {
@@ -104,6 +259,8 @@ public class CloudWatchAppender extends AbstractAppender {
                 CloudWatchAppender appender = new CloudWatchAppender("cloudwatchRootAppender", filter, layout, cw_logs_log_group, cw_logs_log_stream, cloudwatch_logs_region,cloudwatch_logs_access_key_id,cloudwatch_logs_secret_access_key);
 
                 appender.start();
+                MetricsConfig.registerCloudWatchLogEventsCounter("delivered", appender::getDeliveredEvents);
+                MetricsConfig.registerCloudWatchLogEventsCounter("dropped", appender::getDroppedEvents);
                 config.addAppender(appender);
                 // Adding CloudWatch Appender to "com.autotune" logger
                 LoggerConfig loggerConfig = config.getLoggerConfig("com.autotune");
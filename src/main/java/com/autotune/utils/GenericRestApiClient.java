@@ -17,7 +17,10 @@ package com.autotune.utils;
 
 import com.autotune.common.auth.AuthenticationStrategy;
 import com.autotune.common.auth.AuthenticationStrategyFactory;
+import com.autotune.common.datasource.DataSourceHttpClientPool;
 import com.autotune.common.datasource.DataSourceInfo;
+import com.autotune.common.datasource.prometheus.PrometheusResponseParser;
+import com.autotune.common.datasource.prometheus.PrometheusSampleConsumer;
 import com.autotune.utils.authModels.APIKeysAuthentication;
 import com.autotune.utils.authModels.BasicAuthentication;
 import com.autotune.utils.authModels.BearerAccessToken;
@@ -25,6 +28,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -45,6 +49,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
@@ -66,6 +71,7 @@ public class GenericRestApiClient {
     private BearerAccessToken bearerAccessToken;
     private APIKeysAuthentication apiKeysAuthentication;
     private AuthenticationStrategy authenticationStrategy;
+    private DataSourceInfo dataSourceInfo;
 
     /**
      * constructor to set the authentication based on the datasourceInfo object
@@ -75,7 +81,8 @@ public class GenericRestApiClient {
     public GenericRestApiClient(DataSourceInfo dataSourceInfo) {
         // TODO: add partial URL as well as part of this constructor
         this.authenticationStrategy = AuthenticationStrategyFactory.createAuthenticationStrategy(
-                dataSourceInfo.getAuthenticationConfig());
+                dataSourceInfo.getName(), dataSourceInfo.getAuthenticationConfig());
+        this.dataSourceInfo = dataSourceInfo;
     }
 
     public GenericRestApiClient() {
@@ -91,26 +98,28 @@ public class GenericRestApiClient {
      */
     public JSONObject fetchMetricsJson(String methodType, String queryString) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
         String jsonResponse;
-        try (CloseableHttpClient httpclient = setupHttpClient()) {
-
-            HttpRequestBase httpRequestBase;
-            if (methodType.equalsIgnoreCase("GET")) {
-                httpRequestBase = new HttpGet(baseURL + URLEncoder.encode(queryString, StandardCharsets.UTF_8));
-            } else {
-                throw new UnsupportedOperationException("Unsupported method type: " + methodType);
-            }
+        // the datasource client is pooled and shared across queries, only a dedicated client is closed here
+        boolean pooledClient = (null != dataSourceInfo);
+        CloseableHttpClient httpclient = pooledClient ? DataSourceHttpClientPool.getClient(dataSourceInfo, authenticationStrategy) : setupHttpClient();
+        HttpRequestBase httpRequestBase;
+        if (methodType.equalsIgnoreCase("GET")) {
+            httpRequestBase = new HttpGet(baseURL + URLEncoder.encode(queryString, StandardCharsets.UTF_8));
+        } else {
+            throw new UnsupportedOperationException("Unsupported method type: " + methodType);
+        }
 
-            // Apply authentication
-            applyAuthentication(httpRequestBase);
+        // Apply authentication
+        applyAuthentication(httpRequestBase);
 
-            LOGGER.debug("Executing Prometheus metrics request: {}", httpRequestBase.getRequestLine());
+        LOGGER.debug("Executing Prometheus metrics request: {}", httpRequestBase.getRequestLine());
 
-            // Execute the request and get the HttpResponse
-            HttpResponse response = httpclient.execute(httpRequestBase);
+        // Execute the request, closing the response releases the connection back to the pool
+        try (CloseableHttpResponse response = httpclient.execute(httpRequestBase)) {
 
             // Get and print the response code
             int responseCode = response.getStatusLine().getStatusCode();
             LOGGER.debug("Response code: {}", responseCode);
+            invalidateRejectedCredentials(responseCode);
 
             // Get the response body if needed
             jsonResponse = new StringResponseHandler().handleResponse(response);
@@ -131,11 +140,82 @@ public class GenericRestApiClient {
                     }
                 }
             }
+        } finally {
+            if (!pooledClient) {
+                httpclient.close();
+            }
         }
         return new JSONObject(jsonResponse);
     }
 
 
+    /**
+     * This method appends queryString with baseURL and streams the Prometheus response samples to the consumer
+     * without building the response String or a JSON object of it.
+     *
+     * @param methodType  Http methods like GET,POST,PATCH etc
+     * @param queryString query to be appended to the baseURL
+     * @param consumer    receives the samples of the response
+     * @return ParsedResponse containing the status, warnings and number of series of the response
+     * @throws IOException if the request fails or Prometheus reports a rate-limit / read error
+     */
+    public PrometheusResponseParser.ParsedResponse streamMetrics(String methodType, String queryString, PrometheusSampleConsumer consumer) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        if (!methodType.equalsIgnoreCase("GET")) {
+            throw new UnsupportedOperationException("Unsupported method type: " + methodType);
+        }
+        return streamMetricsFromURL(baseURL + URLEncoder.encode(queryString, StandardCharsets.UTF_8), consumer);
+    }
+
+    /**
+     * Runs a GET request on the given url and streams the Prometheus response samples to the consumer.
+     * The baseURL of the client is neither used nor modified, so a client can be shared by concurrent queries.
+     *
+     * @param metricsURL complete query url
+     * @param consumer   receives the samples of the response
+     * @return ParsedResponse containing the status, warnings and number of series of the response
+     * @throws IOException if the request fails or Prometheus reports a rate-limit / read error
+     */
+    public PrometheusResponseParser.ParsedResponse streamMetricsFromURL(String metricsURL, PrometheusSampleConsumer consumer) throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        PrometheusResponseParser.ParsedResponse parsedResponse;
+        // the datasource client is pooled and shared across queries, only a dedicated client is closed here
+        boolean pooledClient = (null != dataSourceInfo);
+        CloseableHttpClient httpclient = pooledClient ? DataSourceHttpClientPool.getClient(dataSourceInfo, authenticationStrategy) : setupHttpClient();
+        HttpRequestBase httpRequestBase = new HttpGet(metricsURL);
+        applyAuthentication(httpRequestBase);
+        LOGGER.debug("Executing Prometheus metrics request: {}", httpRequestBase.getRequestLine());
+
+        try (CloseableHttpResponse response = httpclient.execute(httpRequestBase)) {
+            int responseCode = response.getStatusLine().getStatusCode();
+            LOGGER.debug("Response code: {}", responseCode);
+            invalidateRejectedCredentials(responseCode);
+            if (responseCode < 200 || responseCode >= 300) {
+                throw new ClientProtocolException("Unexpected response status: " + responseCode);
+            }
+            HttpEntity entity = response.getEntity();
+            if (null == entity) {
+                throw new ClientProtocolException("Empty response for Prometheus metrics request");
+            }
+            try (InputStream content = entity.getContent()) {
+                parsedResponse = PrometheusResponseParser.parse(content, consumer);
+            }
+
+            // Check if the result is empty and if there are specific warnings
+            if (parsedResponse.isEmpty()) {
+                for (String warningMessage : parsedResponse.getWarnings()) {
+                    if (warningMessage.contains("error reading from server") || warningMessage.contains("Please reduce your request rate")) {
+                        LOGGER.warn("Warning detected: {}", warningMessage);
+                        throw new IOException(warningMessage);
+                    }
+                }
+            }
+        } finally {
+            if (!pooledClient) {
+                httpclient.close();
+            }
+        }
+        return parsedResponse;
+    }
+
     /**
      * Common method to setup HTTP client with appropriate SSL context.
      * The SSL context is obtained from the authentication strategy if it provides one,
@@ -144,6 +224,18 @@ public class GenericRestApiClient {
      * @return CloseableHttpClient configured with appropriate SSL settings
      */
     private CloseableHttpClient setupHttpClient() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
+        return HttpClients.custom().setSSLSocketFactory(buildSocketFactory(authenticationStrategy)).build();
+    }
+
+    /**
+     * Builds the TLS socket factory of the datasource clients, shared by the per-request and the pooled clients
+     * so both follow the same TLS policy.
+     *
+     * @param authenticationStrategy strategy providing a custom SSL context (mTLS), null or no context for trust-all
+     * @return SSLConnectionSocketFactory using the system's default TLS protocols
+     * @throws KeyManagementException if the SSL context could not be created
+     */
+    public static SSLConnectionSocketFactory buildSocketFactory(AuthenticationStrategy authenticationStrategy) throws KeyManagementException {
         SSLContext sslContext;
         
         try {
@@ -163,7 +255,7 @@ public class GenericRestApiClient {
         }
         
         // Pass null for protocols to use system's default TLS configuration, respecting the system TLS profile and avoiding JVM-specific protocol mapping issues
-        SSLConnectionSocketFactory sslConnectionSocketFactory = new SSLConnectionSocketFactory(
+        return new SSLConnectionSocketFactory(
                 sslContext,
                 null,
                 null,
@@ -185,8 +277,6 @@ public class GenericRestApiClient {
                 }
             }
         };
-        
-        return HttpClients.custom().setSSLSocketFactory(sslConnectionSocketFactory).build();
     }
 
     /**
@@ -206,6 +296,17 @@ public class GenericRestApiClient {
         }
     }
 
+    /**
+     * Drops the cached token of the datasource when it is rejected, so the next query does not reuse it
+     *
+     * @param responseCode HTTP status code of the response
+     */
+    private void invalidateRejectedCredentials(int responseCode) {
+        if (HttpStatus.SC_UNAUTHORIZED == responseCode && null != authenticationStrategy) {
+            authenticationStrategy.invalidateCredentials();
+        }
+    }
+
     /**
      * Method to call the Experiment API (e.g., to create an experiment) using POST request.
      *
@@ -1,6 +1,7 @@
 package com.autotune.utils;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
@@ -13,6 +14,7 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class MetricsConfig {
     
@@ -50,6 +52,14 @@ public class MetricsConfig {
     public String METHOD_METRIC_DESC = "Time taken for Kruize methods";
     public static final AtomicInteger activeJobs = new AtomicInteger(0);
     public static Gauge.Builder timerBBulkRunJobs;
+    public static final String DATASOURCE_HTTP_POOL_METRIC = "kruizeDatasourceHttpPool";
+    public String DATASOURCE_HTTP_POOL_METRIC_DESC = "Connections of the pooled datasource HTTP client";
+    public static final String CACHE_METRIC = "kruizeCache";
+    public String CACHE_METRIC_DESC = "Lookups and evictions of Kruize in-memory caches";
+    public static final String KAFKA_MESSAGES_METRIC = "kruizeKafkaMessages";
+    public String KAFKA_MESSAGES_METRIC_DESC = "Messages published to Kafka by delivery status";
+    public static final String CLOUDWATCH_LOG_EVENTS_METRIC = "kruizeCloudWatchLogEvents";
+    public String CLOUDWATCH_LOG_EVENTS_METRIC_DESC = "Log events sent to CloudWatch by delivery status";
 
     private MetricsConfig() {
         meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
@@ -117,6 +127,61 @@ public class MetricsConfig {
         meterRegistry.config().namingConvention(NamingConvention.dot);
     }
 
+    /**
+     * Registers gauges for the connection pool of the HTTP client shared by a datasource
+     *
+     * @param datasourceName name of the datasource, used as tag
+     * @param leased         supplier for the connections currently in use
+     * @param available      supplier for the idle connections kept alive
+     * @param pending        supplier for the requests waiting for a connection
+     * @param max            supplier for the maximum pool size
+     */
+    public static void registerDataSourceHttpPoolGauges(String datasourceName, Supplier<Number> leased, Supplier<Number> available,
+                                                        Supplier<Number> pending, Supplier<Number> max) {
+        PrometheusMeterRegistry registry = meterRegistry();
+        String description = INSTANCE.DATASOURCE_HTTP_POOL_METRIC_DESC;
+        Gauge.builder(DATASOURCE_HTTP_POOL_METRIC, leased).description(description).tags("datasource", datasourceName, "state", "leased").register(registry);
+        Gauge.builder(DATASOURCE_HTTP_POOL_METRIC, available).description(description).tags("datasource", datasourceName, "state", "available").register(registry);
+        Gauge.builder(DATASOURCE_HTTP_POOL_METRIC, pending).description(description).tags("datasource", datasourceName, "state", "pending").register(registry);
+        Gauge.builder(DATASOURCE_HTTP_POOL_METRIC, max).description(description).tags("datasource", datasourceName, "state", "max").register(registry);
+    }
+
+    /**
+     * Registers a counter of an in-memory cache
+     *
+     * @param cacheName name of the cache, used as tag
+     * @param event     counted event, like hit, miss or eviction
+     * @return the registered Counter
+     */
+    public static Counter registerCacheCounter(String cacheName, String event) {
+        PrometheusMeterRegistry registry = meterRegistry();
+        return Counter.builder(CACHE_METRIC).description(INSTANCE.CACHE_METRIC_DESC).tags("cache", cacheName, "event", event).register(registry);
+    }
+
+    /**
+     * Registers a counter of the messages published to a Kafka topic
+     *
+     * @param topic  Kafka topic, used as tag
+     * @param status delivery status, like delivered or failed
+     * @return the registered Counter
+     */
+    public static Counter registerKafkaMessageCounter(String topic, String status) {
+        PrometheusMeterRegistry registry = meterRegistry();
+        return Counter.builder(KAFKA_MESSAGES_METRIC).description(INSTANCE.KAFKA_MESSAGES_METRIC_DESC).tags("topic", topic, "status", status).register(registry);
+    }
+
+    /**
+     * Registers a counter of the log events sent to CloudWatch
+     *
+     * @param status delivery status, like delivered or dropped, used as tag
+     * @param count  supplier for the events counted so far
+     */
+    public static void registerCloudWatchLogEventsCounter(String status, Supplier<Number> count) {
+        PrometheusMeterRegistry registry = meterRegistry();
+        FunctionCounter.builder(CLOUDWATCH_LOG_EVENTS_METRIC, count, supplier -> supplier.get().doubleValue())
+                .description(INSTANCE.CLOUDWATCH_LOG_EVENTS_METRIC_DESC).tags("status", status).register(registry);
+    }
+
     public static PrometheusMeterRegistry meterRegistry() {
         if (INSTANCE == null) {
             synchronized (MetricsConfig.class) {
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.utils.cache;
+
+import com.autotune.database.table.KruizeExperimentEntry;
+import com.autotune.database.table.lm.KruizeLMExperimentEntry;
+import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.MetricsConfig;
+import io.micrometer.core.instrument.Counter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, least recently used cache of experiment data keyed by experiment name.
+ * <p>
+ * The DAO writes through the experiment caches when an experiment is added, updated or deleted, so loading an
+ * experiment by name only reads the database on a miss. Every caller gets the same cached instance, so it must be
+ * treated as read only; only the DAO changes it, through {@link #update}, after the change is committed. Entries are
+ * converted to a new KruizeObject on every load, hence callers never share the objects they fill with results and
+ * recommendations. The results cache keeps the
+ * results window of remote monitoring experiments, see {@link ExperimentResultsWindow}. The caches are local to
+ * the replica, see experimentCacheSize and resultsCacheSize in KruizeConfiguration.md.
+ *
+ * @param <T> cached experiment data
+ */
+public class ExperimentCache<T> {
+    private static final ExperimentCache<KruizeExperimentEntry> experimentCache =
+            new ExperimentCache<>("experiments", () -> KruizeDeploymentInfo.experiment_cache_size);
+    private static final ExperimentCache<KruizeLMExperimentEntry> lmExperimentCache =
+            new ExperimentCache<>("lm_experiments", () -> KruizeDeploymentInfo.experiment_cache_size);
+    private static final ExperimentCache<ExperimentResultsWindow> resultsCache =
+            new ExperimentCache<>("results", () -> KruizeDeploymentInfo.results_cache_size);
+
+    private final IntSupplier maxSize;
+    private final Map<String, T> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long removals;
+
+    ExperimentCache(String name, IntSupplier maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                boolean evict = size() > Math.max(maxSize.getAsInt(), 0);
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.hits = MetricsConfig.registerCacheCounter(name, "hit");
+        this.misses = MetricsConfig.registerCacheCounter(name, "miss");
+        this.evictions = MetricsConfig.registerCacheCounter(name, "eviction");
+    }
+
+    public static ExperimentCache<KruizeExperimentEntry> experiments() {
+        return experimentCache;
+    }
+
+    public static ExperimentCache<KruizeLMExperimentEntry> lmExperiments() {
+        return lmExperimentCache;
+    }
+
+    public static ExperimentCache<ExperimentResultsWindow> results() {
+        return resultsCache;
+    }
+
+    public boolean isEnabled() {
+        return maxSize.getAsInt() > 0;
+    }
+
+    /**
+     * Returns the cached entry of the experiment and counts the hit or miss
+     *
+     * @param experimentName name of the experiment
+     * @return cached entry shared with the other callers, it must not be modified, null if the experiment is not cached
+     */
+    public synchronized T get(String experimentName) {
+        T entry = entries.get(experimentName);
+        if (null == entry) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the entry of the experiment, evicting the least recently used one when the cache is full
+     */
+    public synchronized void put(String experimentName, T entry) {
+        if (null == experimentName || null == entry || !isEnabled()) {
+            return;
+        }
+        entries.put(experimentName, entry);
+    }
+
+    /**
+     * Caches the entry of the experiment loaded from the DB, unless an experiment got removed since the load started,
+     * as the loaded entry may then be stale
+     *
+     * @param experimentName name of the experiment
+     * @param entry          loaded entry
+     * @param removalCount   value of {@link #getRemovalCount()} read before loading the entry
+     */
+    public synchronized void putLoaded(String experimentName, T entry, long removalCount) {
+        if (removalCount == removals) {
+            put(experimentName, entry);
+        }
+    }
+
+    /**
+     * Applies the update to the cached entry of the experiment, if any, after the same update is committed to the DB
+     */
+    public synchronized void update(String experimentName, Consumer<T> update) {
+        T entry = entries.get(experimentName);
+        if (null != entry) {
+            update.accept(entry);
+        }
+    }
+
+    /**
+     * Removes the cached entry of the experiment if it matches the condition
+     */
+    public synchronized void removeIf(String experimentName, Predicate<T> condition) {
+        T entry = entries.get(experimentName);
+        if (null != entry && condition.test(entry)) {
+            remove(experimentName);
+        }
+    }
+
+    public synchronized void remove(String experimentName) {
+        entries.remove(experimentName);
+        removals++;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        removals++;
+    }
+
+    public synchronized long getRemovalCount() {
+        return removals;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.utils.cache;
+
+import com.autotune.common.data.result.ExperimentResultData;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Results of a remote monitoring experiment loaded from the DB, keyed by interval end time.
+ * <p>
+ * The window holds every result of the experiment ending at or after its start time, up to the last result
+ * it got. Recommendations for a later interval end time then only load the results added since then.
+ * Results are converted once and shared by the requests reading the window, they must not be modified. Requests
+ * add them to their experiment through ExperimentInterfaceImpl.addResultsToLocalStorage, which copies them into new
+ * containers and interval results and only reads the shared metric results.
+ */
+public class ExperimentResultsWindow {
+    private Timestamp startTime;
+    private final TreeMap<Timestamp, ExperimentResultData> results = new TreeMap<>();
+
+    public ExperimentResultsWindow(Timestamp startTime, List<ExperimentResultData> results) {
+        this.startTime = startTime;
+        addAll(results);
+    }
+
+    /**
+     * Returns true if the latest result of the window ends before the given time
+     */
+    public synchronized boolean endsBefore(Timestamp intervalEndTime) {
+        return !results.isEmpty() && results.lastKey().before(intervalEndTime);
+    }
+
+    /**
+     * Returns the results ending in the given range, both ends included, if the window holds every result ending
+     * at or after the start of the range. Results ending after the latest result of the window are loaded first.
+     * The check, the load and the read are done under the lock of the window, so concurrent requests see a
+     * consistent window. Results ending before the range are dropped as recommendations move forward in time,
+     * the start of the window never moves back.
+     *
+     * @param startTime start of the range
+     * @param endTime   end of the range
+     * @param loader    loads the results ending after the latest result of the window
+     * @return results of the range ordered by interval end time, null if the window does not cover the range
+     */
+    public synchronized List<ExperimentResultData> getIfCovered(Timestamp startTime, Timestamp endTime, ResultsLoader loader) throws Exception {
+        if (results.isEmpty() || this.startTime.after(startTime)) {
+            return null;
+        }
+        Timestamp lastIntervalEndTime = results.lastKey();
+        if (endTime.after(lastIntervalEndTime)) {
+            List<ExperimentResultData> newResults = loader.load(lastIntervalEndTime, endTime);
+            if (null != newResults) {
+                addAll(newResults);
+            }
+        }
+        if (startTime.after(this.startTime)) {
+            results.headMap(startTime, false).clear();
+            this.startTime = startTime;
+        }
+        if (endTime.before(startTime)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(results.subMap(startTime, true, endTime, true).values());
+    }
+
+    private void addAll(List<ExperimentResultData> resultDataList) {
+        for (ExperimentResultData resultData : resultDataList) {
+            if (!resultData.getIntervalEndTime().before(startTime)) {
+                results.put(resultData.getIntervalEndTime(), resultData);
+            }
+        }
+    }
+
+    /**
+     * Loads the results of an experiment ending in the given range
+     */
+    @FunctionalInterface
+    public interface ResultsLoader {
+        List<ExperimentResultData> load(Timestamp startTime, Timestamp endTime) throws Exception;
+    }
+}
@@ -17,12 +17,15 @@
 package com.autotune.utils.cache;
 
 import com.autotune.analyzer.performanceProfiles.PerformanceProfile;
+import com.autotune.analyzer.performanceProfiles.utils.ResultsValidationPlan;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class PerformanceProfileCache {
     private static final Map<String, PerformanceProfile> performanceProfileMap = new ConcurrentHashMap<>();
+    // validation plans of the cached profiles, a plan is only used with the profile it was built from
+    private static final Map<String, ResultsValidationPlan> validationPlanMap = new ConcurrentHashMap<>();
 
     private PerformanceProfileCache() {
 
@@ -38,9 +41,31 @@ public class PerformanceProfileCache {
 
     public static void put(String performanceProfileName, PerformanceProfile performanceProfile) {
         performanceProfileMap.put(performanceProfileName, performanceProfile);
+        validationPlanMap.remove(performanceProfileName);
     }
 
     public static void remove(String performanceProfileName) {
         performanceProfileMap.remove(performanceProfileName);
+        validationPlanMap.remove(performanceProfileName);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the results validation plan of the performance profile, built once per version of a cached profile
+     *
+     * @param performanceProfile performance profile the results are validated against
+     * @return ResultsValidationPlan of the profile
+     */
+    public static ResultsValidationPlan getValidationPlan(PerformanceProfile performanceProfile) {
+        String performanceProfileName = performanceProfile.getName();
+        ResultsValidationPlan validationPlan = validationPlanMap.get(performanceProfileName);
+        if (null != validationPlan && validationPlan.getPerformanceProfile() == performanceProfile) {
+            return validationPlan;
+        }
+        validationPlan = ResultsValidationPlan.of(performanceProfile);
+        // keep the plan only if the profile is still the cached one, a replaced profile gets its own plan
+        if (performanceProfileMap.get(performanceProfileName) == performanceProfile) {
+            validationPlanMap.put(performanceProfileName, validationPlan);
+        }
+        return validationPlan;
+    }
+}
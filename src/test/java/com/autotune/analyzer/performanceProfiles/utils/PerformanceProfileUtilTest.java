@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.analyzer.performanceProfiles.utils;
+
+import com.autotune.analyzer.utils.AnalyzerErrorConstants;
+import com.autotune.common.data.metrics.MetricResults;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PerformanceProfileUtilTest {
+
+    @Test
+    public void testMissingAggregationInfoIsAValidationError() {
+        // a metric of the updateResults JSON without aggregation_info
+        MetricResults metricResults = new MetricResults();
+        metricResults.setAggregationInfoResult(null);
+        assertEquals(AnalyzerErrorConstants.AutotuneObjectErrors.MISSING_AGGREGATION_INFO.concat("cpuUsage"),
+                PerformanceProfileUtil.validateMetricsValues("cpuUsage", metricResults));
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.analyzer.utils;
+
+import com.autotune.operator.KruizeDeploymentInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServiceHelpersTest {
+
+    @Test
+    public void testParseLimit() {
+        assertNull(ServiceHelpers.Pagination.parseLimit(null));
+        assertNull(ServiceHelpers.Pagination.parseLimit(""));
+        assertEquals(1, ServiceHelpers.Pagination.parseLimit("1"));
+        assertEquals(KruizeDeploymentInfo.list_api_page_size,
+                ServiceHelpers.Pagination.parseLimit(String.valueOf(KruizeDeploymentInfo.list_api_page_size)));
+        assertThrows(IllegalArgumentException.class, () -> ServiceHelpers.Pagination.parseLimit("0"));
+        assertThrows(IllegalArgumentException.class, () -> ServiceHelpers.Pagination.parseLimit("-1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ServiceHelpers.Pagination.parseLimit(String.valueOf(KruizeDeploymentInfo.list_api_page_size + 1)));
+        assertThrows(IllegalArgumentException.class, () -> ServiceHelpers.Pagination.parseLimit("ten"));
+    }
+
+    @Test
+    public void testContinueTokenRoundTrip() {
+        for (String experimentName : new String[]{"exp-1", "ns|deployment|container", "éxpériment/with?chars"}) {
+            String token = ServiceHelpers.Pagination.encodeContinueToken(experimentName);
+            assertEquals(experimentName, ServiceHelpers.Pagination.decodeContinueToken(token));
+        }
+        assertNull(ServiceHelpers.Pagination.decodeContinueToken(null));
+        assertNull(ServiceHelpers.Pagination.decodeContinueToken(""));
+    }
+
+    @Test
+    public void testInvalidContinueToken() {
+        assertThrows(IllegalArgumentException.class, () -> ServiceHelpers.Pagination.decodeContinueToken("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> ServiceHelpers.Pagination.decodeContinueToken("a"));
+    }
+
+    @Test
+    public void testIsRequested() {
+        assertFalse(ServiceHelpers.Pagination.isRequested(null, null));
+        assertFalse(ServiceHelpers.Pagination.isRequested("", ""));
+        assertTrue(ServiceHelpers.Pagination.isRequested("10", null));
+        assertTrue(ServiceHelpers.Pagination.isRequested(null, "ZXhwLTE"));
+    }
+}
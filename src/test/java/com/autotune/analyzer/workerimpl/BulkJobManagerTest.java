@@ -17,19 +17,49 @@ package com.autotune.analyzer.workerimpl;
 
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.recommendations.engine.RecommendationEngine;
 import com.autotune.analyzer.serviceObjects.BulkInput;
 import com.autotune.analyzer.serviceObjects.BulkJobStatus;
+import com.autotune.analyzer.serviceObjects.ContainerAPIObject;
+import com.autotune.analyzer.serviceObjects.CreateExperimentAPIObject;
+import com.autotune.analyzer.serviceObjects.KubernetesAPIObject;
+import com.autotune.analyzer.serviceObjects.ListRecommendationsAPIObject;
+import com.autotune.analyzer.services.GenerateRecommendations;
+import com.autotune.analyzer.utils.ServiceHelpers;
+import com.autotune.common.data.ValidationOutputData;
 import com.autotune.common.data.dataSourceMetadata.DataSourceCluster;
 import com.autotune.common.data.dataSourceMetadata.DataSourceContainer;
 import com.autotune.common.data.dataSourceMetadata.DataSourceNamespace;
 import com.autotune.common.data.dataSourceMetadata.DataSourceWorkload;
 import com.autotune.operator.KruizeDeploymentInfo;
+import com.autotune.utils.KruizeConstants;
+import com.autotune.utils.MetricsConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * Unit Test with Mocking Template Principles
@@ -138,4 +168,70 @@ class BulkJobManagerMockedTest {
                 experimentName
         );
     }
+
+    @Test
+    @DisplayName("Create the experiment and generate its recommendations in process")
+    void shouldCreateAndGenerateRecommendationsInProcess() throws Exception {
+        // Given
+        when(jobStatus.getSummary()).thenReturn(mock(BulkJobStatus.Summary.class));
+        BulkJobStatus.Experiment experiment = new BulkJobStatus.Experiment("exp-1");
+
+        KubernetesAPIObject kubernetesAPIObject = new KubernetesAPIObject("sysbench", "deployment", "default");
+        kubernetesAPIObject.setContainerAPIObjects(new ArrayList<>(List.of(new ContainerAPIObject("sysbench", "sysbench:latest", null, null))));
+        CreateExperimentAPIObject apiObject = new CreateExperimentAPIObject();
+        apiObject.setExperimentName("exp-1");
+        apiObject.setKubernetesObjects(new ArrayList<>(List.of(kubernetesAPIObject)));
+
+        List<CreateExperimentAPIObject> created = new ArrayList<>();
+        KruizeObject kruizeObject = new KruizeObject();
+        kruizeObject.setValidation_data(new ValidationOutputData(true, null, null));
+        ListRecommendationsAPIObject recommendation = new ListRecommendationsAPIObject();
+        recommendation.setClusterName("cluster1");
+        List<ListRecommendationsAPIObject> recommendations = new ArrayList<>(List.of(recommendation));
+
+        boolean createdExperiment;
+        String topic;
+        try (MockedStatic<ServiceHelpers> serviceHelpers = mockStatic(ServiceHelpers.class);
+             MockedConstruction<RecommendationEngine> engines = mockConstruction(RecommendationEngine.class, (engine, context) -> {
+                 when(engine.validate_local()).thenReturn("");
+                 when(engine.prepareRecommendations(anyInt(), any(), any())).thenReturn(kruizeObject);
+             });
+             MockedStatic<GenerateRecommendations> generateRecommendations = mockStatic(GenerateRecommendations.class, CALLS_REAL_METHODS)) {
+            serviceHelpers.when(() -> ServiceHelpers.createExperiments(anyList())).thenAnswer(invocation -> {
+                // the service updates the experiment it creates
+                CreateExperimentAPIObject createExperimentAPIObject = invocation.<List<CreateExperimentAPIObject>>getArgument(0).get(0);
+                createExperimentAPIObject.setValidationData(new ValidationOutputData(true, null, null));
+                createExperimentAPIObject.getKubernetesObjects().get(0).getContainerAPIObjects().get(0).setLayerMap(new HashMap<>());
+                created.add(createExperimentAPIObject);
+                return new ValidationOutputData(true, null, null);
+            });
+            generateRecommendations.when(() -> GenerateRecommendations.getRecommendationList(kruizeObject, null)).thenReturn(recommendations);
+
+            // When
+            createdExperiment = bulkJobManager.createExperimentInProcess(apiObject, experiment);
+            topic = bulkJobManager.generateRecommendationsInProcess("exp-1", experiment);
+        }
+
+        // Then
+        assertTrue(createdExperiment);
+        assertEquals(201, experiment.getApis().getCreate().getResponse().getHttpcode());
+        assertNotSame(apiObject, created.get(0));
+        assertNull(apiObject.getValidationData());
+        assertNull(apiObject.getKubernetesObjects().get(0).getContainerAPIObjects().get(0).getLayerMap());
+
+        assertEquals(KruizeConstants.KAFKA_CONSTANTS.RECOMMENDATIONS_TOPIC, topic);
+        assertEquals(KruizeConstants.KRUIZE_BULK_API.NotificationConstants.Status.PROCESSED, experiment.getStatus());
+        assertSame(recommendations, experiment.getApis().getRecommendations().getResponse());
+
+        // the job status has the recommendations as returned by the generateRecommendations API
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setFilterProvider(new SimpleFilterProvider().addFilter(KruizeConstants.KRUIZE_BULK_API.EXPERIMENTS_FILTER,
+                SimpleBeanPropertyFilter.serializeAll()));
+        String jobStatusJson = mapper.writeValueAsString(experiment.getApis().getRecommendations());
+        assertEquals(mapper.readTree(GenerateRecommendations.createRecommendationsGson(false).toJson(recommendations)),
+                mapper.readTree(jobStatusJson).get("response"));
+
+        assertTrue(MetricsConfig.meterRegistry().get("kruizeAPI").tags("api", "createExperiment", "status", "success").timer().count() >= 1);
+        assertTrue(MetricsConfig.meterRegistry().get("kruizeAPI").tags("api", "updateRecommendations", "status", "success").timer().count() >= 1);
+    }
 }
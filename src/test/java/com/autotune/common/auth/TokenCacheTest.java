@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.common.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenCacheTest {
+
+    @Test
+    public void testConcurrentCallsShareOneFetch() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        TokenCache tokenCache = new TokenCache(() -> {
+            fetches.incrementAndGet();
+            release.await(10, TimeUnit.SECONDS);
+            return TokenCache.Token.validFor("token", TimeUnit.HOURS.toMillis(1));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tokens.add(executor.submit(tokenCache::getToken));
+            }
+            release.countDown();
+            for (Future<String> token : tokens) {
+                assertEquals("token", token.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals("token", tokenCache.getToken());
+            assertEquals(1, fetches.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTokenIsRefreshedAheadInBackground() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(1);
+        TokenCache tokenCache = new TokenCache(() -> {
+            int fetch = fetches.incrementAndGet();
+            if (fetch > 1) {
+                refreshed.countDown();
+            }
+            long now = System.currentTimeMillis();
+            // the first token is due for a refresh but not expired
+            return (fetch == 1) ? new TokenCache.Token("old", now, now + TimeUnit.HOURS.toMillis(1))
+                    : TokenCache.Token.validFor("new", TimeUnit.HOURS.toMillis(1));
+        });
+        assertEquals("old", tokenCache.getToken());
+        assertEquals("old", tokenCache.getToken());
+        assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!"new".equals(tokenCache.getToken()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("new", tokenCache.getToken());
+    }
+
+    @Test
+    public void testFetchFailureIsThrownWithoutToken() {
+        TokenCache tokenCache = new TokenCache(() -> {
+            throw new IllegalStateException("token endpoint unavailable");
+        });
+        IllegalStateException exception = assertThrows(IllegalStateException.class, tokenCache::getToken);
+        assertEquals("token endpoint unavailable", exception.getMessage());
+    }
+}
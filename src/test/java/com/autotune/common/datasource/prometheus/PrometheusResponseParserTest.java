@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.common.datasource.prometheus;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrometheusResponseParserTest {
+
+    private static class Sample {
+        private final int seriesIndex;
+        private final Map<String, String> labels;
+        private final long epochSeconds;
+        private final double value;
+
+        private Sample(int seriesIndex, Map<String, String> labels, long epochSeconds, double value) {
+            this.seriesIndex = seriesIndex;
+            this.labels = labels;
+            this.epochSeconds = epochSeconds;
+            this.value = value;
+        }
+    }
+
+    private static final class RecordingConsumer implements PrometheusSampleConsumer {
+        private final List<Sample> samples = new ArrayList<>();
+
+        @Override
+        public void accept(int seriesIndex, Map<String, String> labels, long epochSeconds, double value) {
+            samples.add(new Sample(seriesIndex, labels, epochSeconds, value));
+        }
+    }
+
+    private static void assertSample(Sample sample, int seriesIndex, Map<String, String> labels, long epochSeconds, double value) {
+        assertEquals(seriesIndex, sample.seriesIndex);
+        assertEquals(labels, sample.labels);
+        assertEquals(epochSeconds, sample.epochSeconds);
+        assertEquals(value, sample.value);
+    }
+
+    @Test
+    public void testMatrixWithMultipleSeries() throws IOException {
+        String response = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+                + "{\"metric\":{\"container\":\"kruize\",\"namespace\":\"monitoring\"},"
+                + "\"values\":[[1642612628.987,\"0.25\"],[1642613528,\"0.3\"]]},"
+                + "{\"metric\":{\"container\":\"db\",\"namespace\":\"monitoring\"},"
+                + "\"values\":[[1642612628,\"1e3\"]]}]}}";
+        RecordingConsumer consumer = new RecordingConsumer();
+        PrometheusResponseParser.ParsedResponse parsedResponse = PrometheusResponseParser.parse(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)), consumer);
+        assertEquals("success", parsedResponse.getStatus());
+        assertEquals(2, parsedResponse.getSeriesCount());
+        assertEquals(3, consumer.samples.size());
+        Map<String, String> kruize = Map.of("container", "kruize", "namespace", "monitoring");
+        assertSample(consumer.samples.get(0), 0, kruize, 1642612628L, 0.25);
+        assertSample(consumer.samples.get(1), 0, kruize, 1642613528L, 0.3);
+        assertSample(consumer.samples.get(2), 1, Map.of("container", "db", "namespace", "monitoring"), 1642612628L, 1000);
+    }
+
+    @Test
+    public void testVector() throws IOException {
+        String response = "{\"status\":\"success\",\"data\":{\"resultType\":\"vector\",\"result\":["
+                + "{\"metric\":{\"pod\":\"kruize-1\"},\"value\":[1642612628.5,\"2\"]},"
+                + "{\"value\":[1642612628,\"3\"],\"metric\":{\"pod\":\"kruize-2\"}}]}}";
+        RecordingConsumer consumer = new RecordingConsumer();
+        PrometheusResponseParser.ParsedResponse parsedResponse = PrometheusResponseParser.parse(response, consumer);
+        assertEquals(2, parsedResponse.getSeriesCount());
+        assertEquals(2, consumer.samples.size());
+        assertSample(consumer.samples.get(0), 0, Map.of("pod", "kruize-1"), 1642612628L, 2);
+        // the sample sent before the labels is delivered with them
+        assertSample(consumer.samples.get(1), 1, Map.of("pod", "kruize-2"), 1642612628L, 3);
+    }
+
+    @Test
+    public void testSpecialValues() throws IOException {
+        String response = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+                + "{\"metric\":{},\"values\":[[1,\"NaN\"],[2,\"+Inf\"],[3,\"-Inf\"]]}]}}";
+        RecordingConsumer consumer = new RecordingConsumer();
+        PrometheusResponseParser.parse(response, consumer);
+        assertEquals(3, consumer.samples.size());
+        assertTrue(Double.isNaN(consumer.samples.get(0).value));
+        assertEquals(Double.POSITIVE_INFINITY, consumer.samples.get(1).value);
+        assertEquals(Double.NEGATIVE_INFINITY, consumer.samples.get(2).value);
+    }
+
+    @Test
+    public void testEmptyResultWithWarnings() throws IOException {
+        String response = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":[]},"
+                + "\"warnings\":[\"query range truncated\",\"partial response\"]}";
+        RecordingConsumer consumer = new RecordingConsumer();
+        PrometheusResponseParser.ParsedResponse parsedResponse = PrometheusResponseParser.parse(response, consumer);
+        assertEquals("success", parsedResponse.getStatus());
+        assertTrue(parsedResponse.isEmpty());
+        assertEquals(List.of("query range truncated", "partial response"), parsedResponse.getWarnings());
+        assertTrue(consumer.samples.isEmpty());
+    }
+
+    @Test
+    public void testErrorStatus() throws IOException {
+        String response = "{\"status\":\"error\",\"errorType\":\"bad_data\",\"error\":\"invalid parameter \\\"query\\\"\"}";
+        RecordingConsumer consumer = new RecordingConsumer();
+        PrometheusResponseParser.ParsedResponse parsedResponse = PrometheusResponseParser.parse(response, consumer);
+        assertEquals("error", parsedResponse.getStatus());
+        assertEquals("invalid parameter \"query\"", parsedResponse.getError());
+        assertTrue(parsedResponse.isEmpty());
+        assertTrue(consumer.samples.isEmpty());
+    }
+
+    @Test
+    public void testRejectedSeriesIsSkipped() throws IOException {
+        String response = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+                + "{\"metric\":{\"container\":\"POD\"},\"values\":[[1,\"1\"]]},"
+                + "{\"metric\":{\"container\":\"kruize\"},\"values\":[[1,\"2\"]]}]}}";
+        List<Sample> samples = new ArrayList<>();
+        PrometheusResponseParser.parse(response, new PrometheusSampleConsumer() {
+            @Override
+            public boolean acceptSeries(int seriesIndex, Map<String, String> labels) {
+                return !"POD".equals(labels.get("container"));
+            }
+
+            @Override
+            public void accept(int seriesIndex, Map<String, String> labels, long epochSeconds, double value) {
+                samples.add(new Sample(seriesIndex, labels, epochSeconds, value));
+            }
+        });
+        assertEquals(1, samples.size());
+        assertSample(samples.get(0), 1, Map.of("container", "kruize"), 1, 2);
+    }
+
+    @Test
+    public void testMalformedResponse() {
+        assertThrows(JsonParseException.class, () -> PrometheusResponseParser.parse("[1,2]", new RecordingConsumer()));
+        assertThrows(IOException.class, () -> PrometheusResponseParser.parse(
+                "{\"status\":\"success\",\"data\":{\"result\":[{\"values\":[[1,true]]}]}}", new RecordingConsumer()));
+    }
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CommonUtilsTest {
+
+    private static final double[] PERCENTILES = {0, 25, 50, 60, 75, 98, 100};
+
+    // value picked by sorting all the values, as percentile() used to do
+    private static double sortedPercentile(double percentile, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.round(percentile / 100.0 * (sorted.length - 1))];
+    }
+
+    @Test
+    public void testPercentileMatchesSortedPercentile() {
+        Random random = new Random(42);
+        for (int size : new int[]{1, 2, 3, 10, 97, 1000, 8640}) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                // few distinct values to exercise duplicates
+                values[i] = (i % 3 == 0) ? random.nextInt(5) : random.nextDouble() * 4;
+            }
+            double[] expected = new double[PERCENTILES.length];
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                expected[p] = sortedPercentile(PERCENTILES[p], values);
+                assertEquals(expected[p], CommonUtils.percentile(PERCENTILES[p], values.clone(), size));
+            }
+            Double[] boxed = Arrays.stream(values).boxed().toArray(Double[]::new);
+            List<Double> list = new ArrayList<>(Arrays.asList(boxed));
+            assertEquals(expected[2], CommonUtils.percentile(PERCENTILES[2], list));
+            assertEquals(Arrays.asList(boxed), list);
+            assertEquals(Arrays.toString(expected), Arrays.toString(CommonUtils.percentiles(PERCENTILES, values.clone(), size)));
+        }
+    }
+
+    @Test
+    public void testPercentileUsesOnlyTheGivenSize() {
+        double[] values = {5, 1, 3, 100, 200};
+        assertEquals(5, CommonUtils.percentile(100, values, 3));
+        assertEquals(1, CommonUtils.percentile(0, values, 3));
+    }
+
+    @Test
+    public void testPercentileOfNoValues() {
+        assertThrows(IndexOutOfBoundsException.class, () -> CommonUtils.percentile(50, new double[4], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> CommonUtils.percentile(50, new ArrayList<>()));
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.database.helper;
+
+import com.autotune.analyzer.utils.GsonUTCDateAdapter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonTreeConverterTest {
+
+    private static final Gson GSON = new GsonBuilder()
+            .disableHtmlEscaping()
+            .enableComplexMapKeySerialization()
+            .registerTypeAdapter(Date.class, new GsonUTCDateAdapter())
+            .create();
+
+    private static Map<String, Object> sample() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("int", 42);
+        values.put("long", 1L << 40);
+        values.put("bigInteger", BigInteger.ONE.shiftLeft(70));
+        values.put("double", 0.1 + 0.2);
+        values.put("float", 1.1f);
+        values.put("exponent", 1.0E10);
+        values.put("bigDecimal", new BigDecimal("1.10"));
+        values.put("text", "<cpu> & \"memory\"");
+        values.put("flag", true);
+        values.put("missing", null);
+        values.put("date", new Date(Timestamp.valueOf("2026-01-02 03:04:05.678").getTime()));
+        values.put("list", List.of(1, 2.5, "three"));
+        Map<Timestamp, Double> complexKeys = new LinkedHashMap<>();
+        complexKeys.put(Timestamp.valueOf("2026-01-02 03:04:05"), 0.5);
+        values.put("complexKeys", complexKeys);
+        values.put("nested", Map.of("values", Arrays.asList(1, null, -7L)));
+        return values;
+    }
+
+    @Test
+    public void testToJsonNodeMatchesParsedGsonString() throws Exception {
+        Map<String, Object> sample = sample();
+        JsonNode parsed = new ObjectMapper().readTree(GSON.toJson(sample));
+        JsonNode converted = JsonTreeConverter.toJsonNode(GSON, sample);
+        assertEquals(parsed, converted);
+        assertEquals(parsed.toString(), converted.toString());
+    }
+
+    @Test
+    public void testFromJsonNodeMatchesGsonString() throws Exception {
+        JsonNode node = new ObjectMapper().readTree(GSON.toJson(sample()));
+        assertEquals(GSON.toJson(GSON.fromJson(node.toString(), Map.class)),
+                GSON.toJson(JsonTreeConverter.fromJsonNode(GSON, node, Map.class)));
+    }
+}
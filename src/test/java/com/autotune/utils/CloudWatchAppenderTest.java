@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.utils;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CloudWatchAppenderTest {
+
+    private static LogEvent logEvent(int i) {
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName("com.autotune")
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage("event " + i))
+                .setTimeMillis(System.currentTimeMillis())
+                .build();
+    }
+
+    private static CloudWatchAppender appender(CloudWatchLogsAsyncClient client, int bufferSize) {
+        return new CloudWatchAppender("cloudwatchTestAppender", null, PatternLayout.newBuilder().withPattern("%m").build(),
+                "kruize-logs", "kruize-stream", client, bufferSize, 50);
+    }
+
+    private static CloudWatchLogsAsyncClient client(AtomicInteger requests, AtomicInteger events, CountDownLatch release) {
+        return new CloudWatchLogsAsyncClient() {
+            @Override
+            public CompletableFuture<PutLogEventsResponse> putLogEvents(PutLogEventsRequest request) {
+                requests.incrementAndGet();
+                events.addAndGet(request.logEvents().size());
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return PutLogEventsResponse.builder().build();
+                });
+            }
+
+            @Override
+            public String serviceName() {
+                return "logs";
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Test
+    public void testEventsAreSentInBatches() {
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger events = new AtomicInteger();
+        CloudWatchAppender appender = appender(client(requests, events, new CountDownLatch(0)), 10000);
+        appender.start();
+        for (int i = 0; i < 2500; i++) {
+            appender.append(logEvent(i));
+        }
+        appender.stop(10, TimeUnit.SECONDS);
+        assertEquals(2500, appender.getDeliveredEvents());
+        assertEquals(2500, events.get());
+        assertEquals(0, appender.getDroppedEvents());
+        assertTrue(requests.get() < 100, "requests: " + requests.get());
+    }
+
+    @Test
+    public void testAppendDoesNotBlockWhileCloudWatchIsSlow() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger events = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CloudWatchAppender appender = appender(client(requests, events, release), 10);
+        appender.start();
+        // the flusher waits for the first request until the latch is released
+        appender.append(logEvent(0));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (requests.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, requests.get());
+        long start = System.nanoTime();
+        for (int i = 1; i < 1000; i++) {
+            appender.append(logEvent(i));
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        // only the buffered events are kept
+        assertEquals(989, appender.getDroppedEvents());
+        release.countDown();
+        appender.stop(10, TimeUnit.SECONDS);
+        assertEquals(11, appender.getDeliveredEvents());
+    }
+}
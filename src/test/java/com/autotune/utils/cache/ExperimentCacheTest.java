@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.utils.cache;
+
+import com.autotune.utils.MetricsConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExperimentCacheTest {
+
+    private static final AtomicInteger CACHE_ID = new AtomicInteger();
+
+    private static String cacheName() {
+        return "test_" + CACHE_ID.incrementAndGet();
+    }
+
+    private static double count(String cacheName, String event) {
+        return MetricsConfig.meterRegistry().get(MetricsConfig.CACHE_METRIC)
+                .tags("cache", cacheName, "event", event).counter().count();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvictedAtCapacity() {
+        String cacheName = cacheName();
+        ExperimentCache<String> cache = new ExperimentCache<>(cacheName, () -> 2);
+        cache.put("exp-1", "entry-1");
+        cache.put("exp-2", "entry-2");
+        // reading exp-1 makes exp-2 the least recently used entry
+        assertEquals("entry-1", cache.get("exp-1"));
+        cache.put("exp-3", "entry-3");
+        assertEquals(2, cache.size());
+        assertNull(cache.get("exp-2"));
+        assertEquals("entry-1", cache.get("exp-1"));
+        assertEquals("entry-3", cache.get("exp-3"));
+        assertEquals(1, count(cacheName, "eviction"));
+    }
+
+    @Test
+    public void testWriteUpdatesEntry() {
+        ExperimentCache<StringBuilder> cache = new ExperimentCache<>(cacheName(), () -> 10);
+        cache.put("exp-1", new StringBuilder("v1"));
+        cache.put("exp-1", new StringBuilder("v2"));
+        assertEquals("v2", cache.get("exp-1").toString());
+        cache.update("exp-1", entry -> entry.append("-updated"));
+        assertEquals("v2-updated", cache.get("exp-1").toString());
+        // updates of experiments that are not cached are ignored
+        cache.update("exp-2", entry -> entry.append("-updated"));
+        assertNull(cache.get("exp-2"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testDeleteInvalidatesEntry() {
+        ExperimentCache<String> cache = new ExperimentCache<>(cacheName(), () -> 10);
+        cache.put("exp-1", "entry-1");
+        cache.put("exp-2", "entry-2");
+        long removalCount = cache.getRemovalCount();
+        cache.remove("exp-1");
+        assertNull(cache.get("exp-1"));
+        assertEquals("entry-2", cache.get("exp-2"));
+        // an entry loaded before the delete is not cached, it may be stale
+        cache.putLoaded("exp-1", "entry-1", removalCount);
+        assertNull(cache.get("exp-1"));
+        cache.putLoaded("exp-1", "entry-1", cache.getRemovalCount());
+        assertEquals("entry-1", cache.get("exp-1"));
+        cache.removeIf("exp-2", "entry-2"::equals);
+        assertNull(cache.get("exp-2"));
+    }
+
+    @Test
+    public void testHitAndMissCounters() {
+        String cacheName = cacheName();
+        ExperimentCache<String> cache = new ExperimentCache<>(cacheName, () -> 10);
+        assertNull(cache.get("exp-1"));
+        cache.put("exp-1", "entry-1");
+        cache.get("exp-1");
+        cache.get("exp-1");
+        assertEquals(2, count(cacheName, "hit"));
+        assertEquals(1, count(cacheName, "miss"));
+    }
+
+    @Test
+    public void testDisabledCacheKeepsNothing() {
+        ExperimentCache<String> cache = new ExperimentCache<>(cacheName(), () -> 0);
+        assertFalse(cache.isEnabled());
+        cache.put("exp-1", "entry-1");
+        assertEquals(0, cache.size());
+    }
+}
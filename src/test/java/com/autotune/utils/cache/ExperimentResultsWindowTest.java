@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *******************************************************************************/
+
+package com.autotune.utils.cache;
+
+import com.autotune.analyzer.experiment.ExperimentInterfaceImpl;
+import com.autotune.analyzer.kruizeObject.KruizeObject;
+import com.autotune.analyzer.utils.AnalyzerConstants;
+import com.autotune.common.data.metrics.MetricResults;
+import com.autotune.common.data.result.ContainerData;
+import com.autotune.common.data.result.ExperimentResultData;
+import com.autotune.common.data.result.IntervalResults;
+import com.autotune.common.k8sObjects.K8sObject;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExperimentResultsWindowTest {
+
+    private static Timestamp time(int minute) {
+        return new Timestamp(minute * 60000L);
+    }
+
+    private static List<ExperimentResultData> results(int fromMinute, int toMinute) {
+        List<ExperimentResultData> results = new ArrayList<>();
+        for (int minute = fromMinute; minute <= toMinute; minute++) {
+            ExperimentResultData resultData = new ExperimentResultData();
+            resultData.setExperiment_name("exp");
+            resultData.setIntervalStartTime(time(minute - 1));
+            resultData.setIntervalEndTime(time(minute));
+            MetricResults metricResults = new MetricResults();
+            metricResults.setName(AnalyzerConstants.MetricName.cpuUsage.name());
+            IntervalResults intervalResults = new IntervalResults(time(minute - 1), time(minute));
+            intervalResults.setMetricResultsMap(new HashMap<>(Map.of(AnalyzerConstants.MetricName.cpuUsage, metricResults)));
+            ContainerData containerData = new ContainerData("app", "app:1", null, new HashMap<>());
+            containerData.setResults(new HashMap<>(Map.of(time(minute), intervalResults)));
+            K8sObject k8sObject = new K8sObject("app", "deployment", "default");
+            k8sObject.setContainerDataMap(new HashMap<>(Map.of("app", containerData)));
+            resultData.setKubernetes_objects(List.of(k8sObject));
+            results.add(resultData);
+        }
+        return results;
+    }
+
+    private static ContainerData containerOf(KruizeObject kruizeObject) {
+        return kruizeObject.getKubernetes_objects().get(0).getContainerDataMap().get("app");
+    }
+
+    @Test
+    public void testStartNeverMovesBack() throws Exception {
+        ExperimentResultsWindow window = new ExperimentResultsWindow(time(0), results(0, 20));
+        assertEquals(11, window.getIfCovered(time(10), time(20), (start, end) -> null).size());
+        // the results before minute 10 are dropped, an earlier range must be loaded again
+        assertNull(window.getIfCovered(time(5), time(20), (start, end) -> null));
+        assertNull(window.getIfCovered(time(5), time(20), (start, end) -> null));
+        assertEquals(11, window.getIfCovered(time(10), time(20), (start, end) -> null).size());
+    }
+
+    @Test
+    public void testNewResultsAreLoadedAfterLatestResult() throws Exception {
+        ExperimentResultsWindow window = new ExperimentResultsWindow(time(0), results(0, 20));
+        List<Timestamp> loadedFrom = new ArrayList<>();
+        List<ExperimentResultData> resultDataList = window.getIfCovered(time(5), time(30), (start, end) -> {
+            loadedFrom.add(start);
+            return results(21, 30);
+        });
+        assertEquals(List.of(time(20)), loadedFrom);
+        assertEquals(26, resultDataList.size());
+    }
+
+    @Test
+    public void testConcurrentReadersDoNotShareExperimentData() throws Exception {
+        List<ExperimentResultData> cachedResults = results(0, 20);
+        ContainerData cachedContainer = cachedResults.get(0).getKubernetes_objects().get(0).getContainerDataMap().get("app");
+        ExperimentResultsWindow window = new ExperimentResultsWindow(time(0), cachedResults);
+        int readers = 2;
+        CyclicBarrier barrier = new CyclicBarrier(readers);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<KruizeObject>> futures = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                futures.add(executor.submit(() -> {
+                    KruizeObject kruizeObject = new KruizeObject();
+                    kruizeObject.setExperimentName("exp");
+                    kruizeObject.setKubernetes_objects(new ArrayList<>());
+                    Map<String, KruizeObject> experimentMap = new HashMap<>(Map.of("exp", kruizeObject));
+                    barrier.await(10, TimeUnit.SECONDS);
+                    List<ExperimentResultData> resultDataList = window.getIfCovered(time(0), time(20), (start, end) -> null);
+                    assertTrue(new ExperimentInterfaceImpl().addResultsToLocalStorage(experimentMap, resultDataList));
+                    // each request changes its own experiment only
+                    containerOf(kruizeObject).getResults().remove(time(20));
+                    return kruizeObject;
+                }));
+            }
+            ContainerData first = containerOf(futures.get(0).get(10, TimeUnit.SECONDS));
+            ContainerData second = containerOf(futures.get(1).get(10, TimeUnit.SECONDS));
+            assertNotSame(first, second);
+            assertNotSame(first.getResults(), second.getResults());
+            assertNotSame(first.getContainerRecommendations(), second.getContainerRecommendations());
+            assertNotSame(cachedContainer.getContainerRecommendations(), first.getContainerRecommendations());
+            assertNotSame(cachedContainer.getMetrics(), first.getMetrics());
+            assertEquals(20, first.getResults().size());
+            assertEquals(20, second.getResults().size());
+            // the cached results are unchanged
+            assertNull(cachedResults.get(0).getStatus());
+            assertEquals(1, cachedContainer.getResults().size());
+            assertEquals(21, window.getIfCovered(time(0), time(20), (start, end) -> null).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}